@@ -0,0 +1,95 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.DemoApplication;
+import com.example.demo.service.BoardType;
+import com.example.demo.service.IdSequenceService;
+import com.example.demo.service.SearchIndexService;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// 벤치마크 공통: 메모리 H2 로 앱을 띄우고 게시판 테이블에 합성 데이터를 넣는다
+// 목록 캐시는 끄고 (max-weight=0) 매번 DB / 검색 색인을 타도록 한다.
+final class BenchmarkData {
+
+    private static final String[] WORDS = {
+            "교통", "안전", "환경", "스마트시티", "데이터", "공개", "점검", "안내", "캠페인", "공사",
+            "도로", "주차", "버스", "지하철", "자전거", "보행자", "신호", "에너지", "태양광", "전력",
+            "수도", "하수", "공원", "녹지", "미세먼지", "대기", "소음", "조명", "CCTV", "방범",
+            "재난", "대피", "훈련", "축제", "행사", "설명회", "공청회", "모집", "채용", "결과"
+    };
+    private static final String[] CATEGORIES = {"안전", "교통", "환경", "행사", "일반"};
+    private static final String[] AUTHORS = {"관리자", "교통정책과", "환경과", "안전총괄과", "홍보팀"};
+
+    private static final int SEED_BATCH = 5_000;
+
+    private BenchmarkData() {
+    }
+
+    // application.properties 보다 우선하도록 명령행 인자로 넘긴다
+    static ConfigurableApplicationContext start(String database) {
+        return new SpringApplicationBuilder(DemoApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.show-sql=false",
+                        "--board.list-cache.max-weight=0",
+                        "--board.search.persist=false",
+                        "--logging.level.root=WARN");
+    }
+
+    // 게시판 하나에 rows 건을 넣는다 (같은 시드라 게시판이 달라도 같은 글이 들어간다)
+    static void seed(ConfigurableApplicationContext context, BoardType board, int rows) {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        Random random = new Random(42);
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> batch = new ArrayList<>(SEED_BATCH);
+
+        for (int i = 0; i < rows; i++) {
+            String title = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)]
+                    + " " + WORDS[random.nextInt(WORDS.length)] + " " + i;
+            String content = title + " 관련 안내입니다. " + WORDS[random.nextInt(WORDS.length)]
+                    + " " + WORDS[random.nextInt(WORDS.length)] + " 일정과 세부 내용을 확인해 주세요.";
+            int statusRoll = random.nextInt(10);
+            String status = statusRoll == 0 ? "예약" : statusRoll == 1 ? "게시 종료" : "게시 중";
+            Timestamp createdAt = Timestamp.valueOf(now.minusMinutes(random.nextInt(3 * 365 * 24 * 60)));
+            String category = CATEGORIES[random.nextInt(CATEGORIES.length)];
+
+            List<Object> row = new ArrayList<>(List.of((long) i + 1, title, content));
+            if (board.hasCategory()) {
+                row.add(category);
+            }
+            row.addAll(List.of(AUTHORS[random.nextInt(AUTHORS.length)], status, random.nextInt(1000) == 0,
+                    random.nextInt(500), createdAt, createdAt));
+            batch.add(row.toArray());
+            if (batch.size() == SEED_BATCH) {
+                insert(jdbcTemplate, board, batch);
+            }
+        }
+        insert(jdbcTemplate, board, batch);
+
+        // id 를 직접 넣었으므로 시퀀스를 뒤로 보내고, 기동 시점에는 비어 있던 검색 색인을 다시 만든다
+        context.getBean(IdSequenceService.class).align();
+        context.getBean(SearchIndexService.class).build();
+    }
+
+    private static void insert(JdbcTemplate jdbcTemplate, BoardType board, List<Object[]> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        String category = board.hasCategory() ? " category," : "";
+        String categoryValue = board.hasCategory() ? " ?," : "";
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO " + board.getTableName() + " (id, title, content," + category + " author, status,"
+                        + " pinned, view_count, created_at, updated_at, attachment_count)"
+                        + " VALUES (?, ?, ?," + categoryValue + " ?, ?, ?, ?, ?, ?, 0)",
+                batch);
+        batch.clear();
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.service.BoardType;
+import com.example.demo.service.PressService;
+import com.example.demo.service.VideoService;
+import com.example.demo.service.VisitService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 보도자료 / 방문 / 영상 게시판 고급 검색 벤치마크 (공지사항은 NoticeSearchBenchmark)
+// 게시판(board) × 게시글 수(rows) 조합마다 그 게시판 테이블에만 데이터를 넣는다.
+//
+// 실행: mvn -Pbenchmark test-compile exec:exec -Djmh.args="BoardSearchBenchmark -p rows=10000"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx4g"})
+public class BoardSearchBenchmark {
+
+    @Param({"press", "visit", "video"})
+    public String board;
+
+    @Param({"10000", "100000", "1000000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private BoardType boardType;
+    private PressService pressService;
+    private VisitService visitService;
+    private VideoService videoService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        boardType = BoardType.fromTableName(board);
+        context = BenchmarkData.start("bench-" + board + rows);
+        pressService = context.getBean(PressService.class);
+        visitService = context.getBean(VisitService.class);
+        videoService = context.getBean(VideoService.class);
+        BenchmarkData.seed(context, boardType, rows);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    // 제목 + 작성자 + 내용 키워드
+    @Benchmark
+    public List<?> keyword() {
+        return search("전체", "미세먼지", "전체", null, null);
+    }
+
+    // 여러 단어 제목 검색
+    @Benchmark
+    public List<?> titleWords() {
+        return search("제목", "공청회 축제", "전체", null, null);
+    }
+
+    @Benchmark
+    public List<?> status() {
+        return search("전체", null, "예약", null, null);
+    }
+
+    // 최근 한 달
+    @Benchmark
+    public List<?> dateRange() {
+        LocalDateTime now = LocalDateTime.now();
+        return search("전체", null, "전체", now.minusMonths(1).toLocalDate().toString(),
+                now.toLocalDate().toString());
+    }
+
+    private List<?> search(String searchType, String keyword, String status, String startDate, String endDate) {
+        return switch (boardType) {
+            case PRESS -> pressService.searchPressAdvanced(searchType, keyword, status, startDate, endDate);
+            case VISIT -> visitService.searchVisitsAdvanced(searchType, keyword, status, startDate, endDate);
+            case VIDEO -> videoService.searchVideosAdvanced(searchType, keyword, status, startDate, endDate);
+            case NOTICE -> throw new IllegalStateException("공지사항은 NoticeSearchBenchmark 에서 측정합니다.");
+        };
+    }
+}
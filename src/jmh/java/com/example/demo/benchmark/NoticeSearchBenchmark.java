@@ -0,0 +1,101 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.entity.Notice;
+import com.example.demo.service.BoardType;
+import com.example.demo.service.CursorPage;
+import com.example.demo.service.NoticeService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 공지사항 목록 / 검색 벤치마크
+// 게시글 수(rows)마다 메모리 H2 에 합성 데이터를 넣고 서비스 메서드를 측정한다. (BenchmarkData)
+// 다른 게시판의 고급 검색은 BoardSearchBenchmark
+//
+// 실행: mvn -Pbenchmark test-compile exec:exec
+//       mvn -Pbenchmark test-compile exec:exec -Djmh.args="-p rows=10000 -rf json -rff target/jmh-result.json"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx4g"})
+public class NoticeSearchBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"10000", "100000", "1000000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private NoticeService noticeService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkData.start("bench" + rows);
+        noticeService = context.getBean(NoticeService.class);
+        BenchmarkData.seed(context, BoardType.NOTICE, rows);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    // 첫 페이지 (필터 없음)
+    @Benchmark
+    public CursorPage<Notice> list() {
+        return noticeService.searchNoticesPage("전체", null, null, "전체", null, null, null, PAGE_SIZE);
+    }
+
+    // 제목 + 작성자 + 내용 키워드
+    @Benchmark
+    public CursorPage<Notice> keyword() {
+        return noticeService.searchNoticesPage("전체", "미세먼지", null, "전체", null, null, null, PAGE_SIZE);
+    }
+
+    // 제목 부분 문자열 (단어 중간)
+    @Benchmark
+    public CursorPage<Notice> titleSubstring() {
+        return noticeService.searchNoticesPage("제목", "마트시", null, "전체", null, null, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public CursorPage<Notice> status() {
+        return noticeService.searchNoticesPage("전체", null, null, "예약", null, null, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public CursorPage<Notice> category() {
+        return noticeService.searchNoticesPage("전체", null, "행사", "전체", null, null, null, PAGE_SIZE);
+    }
+
+    // 최근 한 달
+    @Benchmark
+    public CursorPage<Notice> dateRange() {
+        LocalDateTime now = LocalDateTime.now();
+        return noticeService.searchNoticesPage("전체", null, null, "전체",
+                now.minusMonths(1).toLocalDate().toString(), now.toLocalDate().toString(), null, PAGE_SIZE);
+    }
+
+    // 페이지 없이 조건에 맞는 전체 목록 (고급 검색)
+    @Benchmark
+    public List<Notice> advancedKeyword() {
+        return noticeService.searchNoticesAdvanced("제목", "공청회 축제", null, "전체", null, null);
+    }
+}
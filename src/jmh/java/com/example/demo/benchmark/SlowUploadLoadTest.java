@@ -0,0 +1,256 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.DemoApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 느린 업로드 부하 테스트 (플랫폼 스레드 / 가상 스레드 모드 비교)
+// 모드마다 앱을 띄우고, 느리게 전송되는 업로드 여러 건을 동시에 보내면서 목록 API 를 계속 호출한다.
+// Tomcat 요청 스레드가 업로드 수신에 묶이면 목록 요청이 줄을 서므로 처리량 / 지연 시간 차이가 드러난다.
+// 끝나면 만든 글을 삭제 API 로 지운다 (첨부파일 삭제 경로도 같이 거친다).
+//
+// 실행: mvn -Pbenchmark test-compile exec:exec -Dbench.main=com.example.demo.benchmark.SlowUploadLoadTest
+//       -Djmh.args="uploads=200 upload-kb=256 upload-seconds=5 tomcat-threads=50 list-clients=8"
+public class SlowUploadLoadTest {
+
+    private static final String BOUNDARY = "----loadtest" + Long.toHexString(System.nanoTime());
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+
+    private record Result(String mode, int uploadsOk, int uploadsFailed, long uploadMillis,
+                          int listRequests, int listFailed, long listMillis, List<Long> listLatencies) {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (eq > 0 && !arg.startsWith("-")) {
+                options.put(arg.substring(0, eq), arg.substring(eq + 1));
+            }
+        }
+        int uploads = Integer.parseInt(options.getOrDefault("uploads", "200"));
+        int uploadKb = Integer.parseInt(options.getOrDefault("upload-kb", "256"));
+        int uploadSeconds = Integer.parseInt(options.getOrDefault("upload-seconds", "5"));
+        int tomcatThreads = Integer.parseInt(options.getOrDefault("tomcat-threads", "50"));
+        int listClients = Integer.parseInt(options.getOrDefault("list-clients", "8"));
+
+        System.out.printf("느린 업로드 %d건 (각 %dKB, 약 %d초), Tomcat 최대 스레드 %d, 목록 호출 클라이언트 %d%n",
+                uploads, uploadKb, uploadSeconds, tomcatThreads, listClients);
+
+        List<Result> results = new ArrayList<>();
+        for (boolean virtual : new boolean[]{false, true}) {
+            results.add(run(virtual, uploads, uploadKb, uploadSeconds, tomcatThreads, listClients));
+        }
+
+        System.out.println();
+        System.out.printf("%-9s %12s %10s %12s %10s %10s %10s %10s%n",
+                "mode", "uploads ok", "upload/s", "list req", "list/s", "p50 ms", "p99 ms", "max ms");
+        for (Result r : results) {
+            System.out.printf("%-9s %8d/%-3d %10.1f %8d/%-3d %10.1f %10d %10d %10d%n",
+                    r.mode(), r.uploadsOk(), r.uploadsFailed(), r.uploadsOk() * 1000.0 / r.uploadMillis(),
+                    r.listRequests(), r.listFailed(), r.listRequests() * 1000.0 / r.listMillis(),
+                    percentile(r.listLatencies(), 50), percentile(r.listLatencies(), 99),
+                    percentile(r.listLatencies(), 100));
+        }
+    }
+
+    private static Result run(boolean virtual, int uploads, int uploadKb, int uploadSeconds,
+                              int tomcatThreads, int listClients) throws Exception {
+        String mode = virtual ? "virtual" : "platform";
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(DemoApplication.class)
+                .run("--server.port=0",
+                        "--spring.threads.virtual.enabled=" + virtual,
+                        "--server.tomcat.threads.max=" + tomcatThreads,
+                        "--spring.datasource.url=jdbc:h2:mem:load-" + mode + ";DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.show-sql=false",
+                        "--board.list-cache.max-weight=0",
+                        "--board.search.persist=false",
+                        "--logging.level.root=WARN");
+        String base = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+
+        ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+        HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(clients)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        try {
+            byte[] file = new byte[uploadKb * 1024];
+            new Random(42).nextBytes(file);
+
+            // 목록 요청 (업로드가 모두 끝날 때까지 반복)
+            AtomicBoolean uploading = new AtomicBoolean(true);
+            List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+            AtomicInteger listFailed = new AtomicInteger();
+            List<Future<?>> listers = new ArrayList<>();
+            long listStart = System.nanoTime();
+            for (int i = 0; i < listClients; i++) {
+                listers.add(clients.submit(() -> {
+                    HttpRequest request = HttpRequest.newBuilder(URI.create(base + "/notice/api/list?size=20"))
+                            .timeout(Duration.ofSeconds(120)).GET().build();
+                    while (uploading.get()) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() == 200) {
+                                latencies.add((System.nanoTime() - start) / 1_000_000);
+                            } else {
+                                listFailed.incrementAndGet();
+                            }
+                        } catch (IOException e) {
+                            listFailed.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+
+            // 느린 업로드 동시 전송
+            long uploadStart = System.nanoTime();
+            List<Future<String>> pending = new ArrayList<>();
+            for (int i = 0; i < uploads; i++) {
+                int n = i;
+                pending.add(clients.submit(() -> upload(http, base, n, file, uploadSeconds)));
+            }
+            List<String> createdIds = new ArrayList<>();
+            int failed = 0;
+            for (Future<String> future : pending) {
+                try {
+                    String id = future.get();
+                    if (id != null) {
+                        createdIds.add(id);
+                    } else {
+                        failed++;
+                    }
+                } catch (Exception e) {
+                    failed++;
+                }
+            }
+            long uploadMillis = Math.max(1, (System.nanoTime() - uploadStart) / 1_000_000);
+
+            uploading.set(false);
+            for (Future<?> lister : listers) {
+                lister.get();
+            }
+            long listMillis = Math.max(1, (System.nanoTime() - listStart) / 1_000_000);
+
+            for (String id : createdIds) {
+                http.send(HttpRequest.newBuilder(URI.create(base + "/notice/api/delete/" + id)).DELETE().build(),
+                        HttpResponse.BodyHandlers.discarding());
+            }
+
+            System.out.printf("[%s] 업로드 %d건 성공 / %d건 실패 (%d ms), 목록 %d건%n",
+                    mode, createdIds.size(), failed, uploadMillis, latencies.size());
+            return new Result(mode, createdIds.size(), failed, uploadMillis,
+                    latencies.size(), listFailed.get(), listMillis, new ArrayList<>(latencies));
+        } finally {
+            clients.shutdownNow();
+            context.close();
+        }
+    }
+
+    // 스트리밍 업로드 API 로 글 1건 저장, 생성된 id 반환
+    private static String upload(HttpClient http, String base, int n, byte[] file, int seconds) throws Exception {
+        ByteArrayOutputStream body = new ByteArrayOutputStream(file.length + 1024);
+        field(body, "title", "부하 테스트 " + n);
+        field(body, "content", "느린 업로드 부하 테스트");
+        field(body, "author", "loadtest");
+        body.write(("--" + BOUNDARY + "\r\nContent-Disposition: form-data; name=\"files\"; filename=\"load-" + n
+                + ".pdf\"\r\nContent-Type: application/pdf\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        body.write(file);
+        body.write(("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        byte[] bytes = body.toByteArray();
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(base + "/notice/api/save-stream"))
+                .timeout(Duration.ofMinutes(5))
+                .header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+                .POST(HttpRequest.BodyPublishers.ofInputStream(() -> new SlowInputStream(bytes, seconds)))
+                .build();
+        HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            return null;
+        }
+        Matcher matcher = ID.matcher(response.body());
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    private static void field(ByteArrayOutputStream body, String name, String value) throws IOException {
+        body.write(("--" + BOUNDARY + "\r\nContent-Disposition: form-data; name=\"" + name + "\"\r\n\r\n"
+                + value + "\r\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static long percentile(List<Long> values, int percentile) {
+        if (values.isEmpty()) {
+            return 0;
+        }
+        List<Long> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(0, Math.min(sorted.size() - 1, index)));
+    }
+
+    // 느린 모바일 회선 흉내: 20 조각으로 나눠 seconds 초에 걸쳐 전송
+    private static final class SlowInputStream extends InputStream {
+
+        private static final int CHUNKS = 20;
+
+        private final byte[] data;
+        private final int chunkSize;
+        private final long pauseMillis;
+        private int position;
+
+        SlowInputStream(byte[] data, int seconds) {
+            this.data = data;
+            this.chunkSize = Math.max(1, (data.length + CHUNKS - 1) / CHUNKS);
+            this.pauseMillis = seconds * 1000L / CHUNKS;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) == -1 ? -1 : one[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (position >= data.length) {
+                return -1;
+            }
+            if (position % chunkSize == 0) {
+                try {
+                    Thread.sleep(pauseMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            int count = Math.min(length, Math.min(data.length - position, chunkSize - position % chunkSize));
+            System.arraycopy(data, position, buffer, offset, count);
+            position += count;
+            return count;
+        }
+    }
+}
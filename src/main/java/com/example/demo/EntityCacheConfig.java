@@ -0,0 +1,93 @@
+package com.example.demo;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Hibernate 2차 캐시 (엔티티 + 쿼리 결과) 저장소: JCache API 위의 Caffeine
+// 영역마다 최대 항목 수 / 만료 시간을 따로 두고 (board.entity-cache.region.<영역>.*), 여기 없는 영역을 쓰면 기동 시 실패한다.
+// 엔티티 영역 이름은 테이블 이름, 그 테이블을 읽는 쿼리 결과 영역은 "<테이블>-query".
+@Configuration
+public class EntityCacheConfig {
+
+    public static final List<String> ENTITY_REGIONS = List.of(
+            "notice", "press", "visit", "video", "award", "award_detail",
+            "notice_attachment", "press_attachment", "visit_attachment", "video_attachment");
+
+    public static final String QUERY_SUFFIX = "-query";
+
+    // Hibernate 기본 영역: 영역을 지정하지 않은 쿼리 결과 / 테이블별 마지막 변경 시각
+    private static final String DEFAULT_QUERY_REGION = "default-query-results-region";
+    private static final String TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    @Value("${board.entity-cache.max-entries:5000}")
+    private long maxEntries;
+
+    @Value("${board.entity-cache.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    @Value("${board.entity-cache.query-max-entries:1000}")
+    private long queryMaxEntries;
+
+    @Value("${board.entity-cache.query-ttl-seconds:300}")
+    private long queryTtlSeconds;
+
+    @Bean
+    public CacheManager entityCacheManager(Environment environment) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        // 컨텍스트마다 따로 만든다 (같은 URI 면 공유되어 영역을 다시 만들 수 없음)
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("board-entity-cache:" + UUID.randomUUID()), getClass().getClassLoader());
+
+        for (String region : ENTITY_REGIONS) {
+            cacheManager.createCache(region, region(environment, region, maxEntries, ttlSeconds));
+            cacheManager.createCache(region + QUERY_SUFFIX,
+                    region(environment, region + QUERY_SUFFIX, queryMaxEntries, queryTtlSeconds));
+        }
+        cacheManager.createCache(DEFAULT_QUERY_REGION,
+                region(environment, DEFAULT_QUERY_REGION, queryMaxEntries, queryTtlSeconds));
+
+        // 변경 시각 영역은 내보내거나 만료되면 오래된 쿼리 결과가 유효하다고 판단되므로 제한 없이 둔다 (테이블당 1건)
+        CaffeineConfiguration<Object, Object> timestamps = new CaffeineConfiguration<>();
+        timestamps.setStoreByValue(false);
+        timestamps.setNativeStatisticsEnabled(true);
+        cacheManager.createCache(TIMESTAMPS_REGION, timestamps);
+        return cacheManager;
+    }
+
+    // Hibernate 가 위 CacheManager 의 영역을 그대로 쓰도록 넘긴다
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheCustomizer(CacheManager entityCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, entityCacheManager);
+    }
+
+    private static CaffeineConfiguration<Object, Object> region(Environment environment, String name,
+                                                                long defaultMaxEntries, long defaultTtlSeconds) {
+        String prefix = "board.entity-cache.region." + name + ".";
+        long max = environment.getProperty(prefix + "max-entries", Long.class, defaultMaxEntries);
+        long ttl = environment.getProperty(prefix + "ttl-seconds", Long.class, defaultTtlSeconds);
+
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(max));
+        configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(ttl)));
+        // Hibernate 가 이미 분해된 캐시 항목을 넣으므로 직렬화 복사 없이 참조로 보관
+        configuration.setStoreByValue(false);
+        // 영역별 적중률 (EntityCacheService)
+        configuration.setNativeStatisticsEnabled(true);
+        return configuration;
+    }
+}
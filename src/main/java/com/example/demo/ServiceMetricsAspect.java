@@ -0,0 +1,86 @@
+package com.example.demo;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// 서비스 메서드 수행 시간 (board.service)
+// 게시판 서비스 (공지사항 / 보도자료 / 홍보영상 / 방문사진 / 수상)의 search* / save* / delete* / toggle* / increaseViewCount 를
+// 게시판, 작업, 메서드, 결과 태그로 나눠 기록한다.
+// 히스토그램을 함께 내보내므로 Prometheus 에서 histogram_quantile 로 분위수를 볼 수 있다.
+@Aspect
+@Component
+public class ServiceMetricsAspect {
+
+    private final MeterRegistry registry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public ServiceMetricsAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    // 게시판 서비스만 (대시보드 집계 / 파일 삭제 / 검색 색인 / 사용자 서비스의 같은 이름 메서드는 게시판 작업이 아님)
+    @Pointcut("within(com.example.demo.service.NoticeService)"
+            + " || within(com.example.demo.service.PressService)"
+            + " || within(com.example.demo.service.VideoService)"
+            + " || within(com.example.demo.service.VisitService)"
+            + " || within(com.example.demo.service.AwardService)")
+    public void boardServices() {
+    }
+
+    @Pointcut("execution(public * search*(..))"
+            + " || execution(public * save*(..))"
+            + " || execution(public * delete*(..))"
+            + " || execution(public * toggle*(..))"
+            + " || execution(public * increaseViewCount(..))")
+    public void boardOperations() {
+    }
+
+    @Around("boardServices() && boardOperations()")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        String outcome = "success";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            outcome = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            timer(joinPoint.getSignature().getDeclaringType().getSimpleName(),
+                    joinPoint.getSignature().getName(), outcome)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer timer(String className, String method, String outcome) {
+        return timers.computeIfAbsent(className + "." + method + ":" + outcome, key -> Timer.builder("board.service")
+                .description("게시판 서비스 메서드 수행 시간")
+                .tag("board", className.replace("Service", "").toLowerCase())
+                .tag("operation", operation(method))
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry));
+    }
+
+    private String operation(String method) {
+        if (method.startsWith("search")) {
+            return "search";
+        } else if (method.startsWith("save")) {
+            return "save";
+        } else if (method.startsWith("delete")) {
+            return "delete";
+        } else if (method.startsWith("toggle")) {
+            return "toggle";
+        }
+        return "view";
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.demo;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// 첨부파일이 있는 게시글 저장 동시 실행 수 제한
+// 저장 트랜잭션은 연결 하나를 잡은 채 공용 저장소 참조 수를 별도 트랜잭션(REQUIRES_NEW)으로 올리므로 연결이 두 개 필요하다.
+// 저장이 풀 크기만큼 동시에 들어오면 모두 두 번째 연결을 기다리며 멈추므로, 트랜잭션 시작 전에 들어올 수 있는 수를 제한한다.
+// 가상 스레드 모드에서는 요청 스레드 수 제한이 없어 특히 필요하다. (기본값: Hikari 기본 풀 10 의 절반)
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class UploadSaveBulkheadAspect {
+
+    private final Semaphore permits;
+    private final long timeoutSeconds;
+
+    public UploadSaveBulkheadAspect(@Value("${board.upload.max-concurrent-saves:5}") int maxConcurrentSaves,
+                                    @Value("${board.upload.save-wait-seconds:30}") long timeoutSeconds) {
+        this.permits = new Semaphore(maxConcurrentSaves, true);
+        this.timeoutSeconds = timeoutSeconds;
+    }
+
+    @Around("execution(public * com.example.demo.service.*Service.save*(.., org.springframework.web.multipart.MultipartFile[]))")
+    public Object limit(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!permits.tryAcquire(timeoutSeconds, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("저장 요청이 많습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        try {
+            return joinPoint.proceed();
+        } finally {
+            permits.release();
+        }
+    }
+}
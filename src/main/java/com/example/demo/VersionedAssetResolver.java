@@ -0,0 +1,136 @@
+package com.example.demo;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.Nullable;
+import org.springframework.web.servlet.resource.ContentVersionStrategy;
+import org.springframework.web.servlet.resource.HttpResource;
+import org.springframework.web.servlet.resource.ResourceResolver;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URL;
+import java.util.List;
+
+// 내용 해시가 붙은 주소(/css/layout-<md5>.css)로 찾은 리소스에만 긴 immutable 캐시 헤더를 붙인다
+// 해시 없는 주소는 핸들러 기본값(no-cache)을 그대로 쓴다.
+// 압축본 해석(EncodedResourceResolver)과 버전 해석(VersionResourceResolver) 사이에 둔다.
+// 압축본은 이 리소스의 createRelative 로 찾으므로 압축본 응답에도 같은 헤더가 붙는다.
+class VersionedAssetResolver implements ResourceResolver {
+
+    private final ContentVersionStrategy versionStrategy = new ContentVersionStrategy();
+    private final String cacheControl;
+
+    VersionedAssetResolver(String cacheControl) {
+        this.cacheControl = cacheControl;
+    }
+
+    @Override
+    @Nullable
+    public Resource resolveResource(@Nullable HttpServletRequest request, String requestPath,
+                                    List<? extends Resource> locations, ResourceResolverChain chain) {
+        Resource resource = chain.resolveResource(request, requestPath, locations);
+        // 버전이 내용과 다르면 VersionResourceResolver 가 null 을 돌려준다
+        if (resource == null || versionStrategy.extractVersion(requestPath) == null) {
+            return resource;
+        }
+        return new ImmutableResource(resource, cacheControl);
+    }
+
+    @Override
+    @Nullable
+    public String resolveUrlPath(String resourcePath, List<? extends Resource> locations,
+                                 ResourceResolverChain chain) {
+        return chain.resolveUrlPath(resourcePath, locations);
+    }
+
+    // 원본(버전 리소스)의 응답 헤더(ETag)에 Cache-Control 만 더한다
+    // 변환 결과 캐시(CachingResourceTransformer)는 설명 문자열로 리소스를 비교하므로
+    // 해시 없는 주소로 찾은 같은 파일과 섞이지 않게 설명을 따로 둔다.
+    private static class ImmutableResource extends AbstractResource implements HttpResource {
+
+        private final Resource original;
+        private final String cacheControl;
+
+        ImmutableResource(Resource original, String cacheControl) {
+            this.original = original;
+            this.cacheControl = cacheControl;
+        }
+
+        @Override
+        public HttpHeaders getResponseHeaders() {
+            HttpHeaders headers = new HttpHeaders();
+            if (original instanceof HttpResource httpResource) {
+                headers.putAll(httpResource.getResponseHeaders());
+            }
+            headers.setCacheControl(cacheControl);
+            return headers;
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return original.getInputStream();
+        }
+
+        @Override
+        public boolean exists() {
+            return original.exists();
+        }
+
+        @Override
+        public boolean isReadable() {
+            return original.isReadable();
+        }
+
+        @Override
+        public boolean isFile() {
+            return original.isFile();
+        }
+
+        @Override
+        public URL getURL() throws IOException {
+            return original.getURL();
+        }
+
+        @Override
+        public URI getURI() throws IOException {
+            return original.getURI();
+        }
+
+        @Override
+        public File getFile() throws IOException {
+            return original.getFile();
+        }
+
+        @Override
+        public long contentLength() throws IOException {
+            return original.contentLength();
+        }
+
+        @Override
+        public long lastModified() throws IOException {
+            return original.lastModified();
+        }
+
+        @Override
+        public Resource createRelative(String relativePath) throws IOException {
+            return new ImmutableResource(original.createRelative(relativePath), cacheControl);
+        }
+
+        @Override
+        @Nullable
+        public String getFilename() {
+            return original.getFilename();
+        }
+
+        @Override
+        public String getDescription() {
+            return original.getDescription() + " (immutable)";
+        }
+    }
+}
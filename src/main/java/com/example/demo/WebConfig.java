@@ -1,16 +1,54 @@
 package com.example.demo;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.ResourceUrlEncodingFilter;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    @Value("${board.assets.dir:./data/assets}")
+    private String assetDir;
+
+    @Value("${board.assets.cache-days:365}")
+    private long cacheDays;
+
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
         // uploads 폴더를 정적 리소스로 등록
         registry.addResourceHandler("/uploads/**")
                 .addResourceLocations("file:uploads/");
+
+        // 화면 css / js: 주소에 내용 해시를 붙여(/css/layout-<md5>.css) 바뀌면 주소가 바뀌므로 immutable 로 오래 캐시
+        // 해시 없는 주소는 내용이 바뀌어도 주소가 같으므로 no-cache (Last-Modified 로 재검증)
+        // 사전 압축본(.br / .gz, StaticAssetCompressor)이 있으면 Accept-Encoding 에 맞춰 그대로 보내고, 없으면 classpath 원본
+        addAssetHandler(registry, "css");
+        addAssetHandler(registry, "js");
+    }
+
+    private void addAssetHandler(ResourceHandlerRegistry registry, String folder) {
+        registry.addResourceHandler("/" + folder + "/**")
+                .addResourceLocations(Paths.get(assetDir, folder).toUri().toString(), "classpath:/static/" + folder + "/")
+                .setCacheControl(CacheControl.noCache())
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new VersionedAssetResolver(
+                        CacheControl.maxAge(cacheDays, TimeUnit.DAYS).cachePublic().immutable().getHeaderValue()))
+                .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+    }
+
+    // 템플릿의 @{/css/...} / @{/js/...} 주소를 내용 해시가 붙은 주소로 바꾼다
+    @Bean
+    public ResourceUrlEncodingFilter resourceUrlEncodingFilter() {
+        return new ResourceUrlEncodingFilter();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,95 @@
+package com.example.demo.controller;
+
+import com.example.demo.service.BoardImportService;
+import com.example.demo.service.BoardType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Controller
+@RequestMapping("/import")
+public class ImportController {
+
+    @Autowired
+    private BoardImportService boardImportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // REST API - 게시글 일괄 가져오기 (board = notice, press, visit)
+    // 본문: CSV (Content-Type: text/csv) 또는 NDJSON (application/x-ndjson)
+    // 응답: 행 오류 / 진행 상황 / 완료 요약을 한 줄에 하나씩 NDJSON 으로 바로 내보낸다
+    @PostMapping("/api/{board}")
+    public void importPosts(
+            @PathVariable String board,
+            @RequestParam(value = "format", required = false) String format,
+            @RequestParam(value = "batchSize", required = false) Integer batchSize,
+            @RequestParam(value = "chunkSize", required = false) Integer chunkSize,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+
+        try {
+            BoardType boardType = BoardType.fromTableName(board);
+            String resolvedFormat = resolveFormat(format, request.getContentType());
+
+            ServletOutputStream out = response.getOutputStream();
+            boardImportService.importPosts(boardType, resolvedFormat, request.getInputStream(), batchSize, chunkSize,
+                    event -> {
+                        try {
+                            if (!response.isCommitted()) {
+                                response.setContentType("application/x-ndjson;charset=UTF-8");
+                            }
+                            out.write(objectMapper.writeValueAsBytes(event));
+                            out.write('\n');
+                            if (!"error".equals(event.get("type"))) {
+                                out.flush();
+                            }
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+        } catch (IllegalArgumentException e) {
+            if (response.isCommitted()) {
+                Map<String, Object> event = new LinkedHashMap<>();
+                event.put("type", "error");
+                event.put("message", e.getMessage());
+                response.getOutputStream().write(objectMapper.writeValueAsBytes(event));
+            } else {
+                response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+                response.setContentType("text/plain;charset=UTF-8");
+                response.getOutputStream().write(e.getMessage().getBytes(StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    private String resolveFormat(String format, String contentType) {
+        String type = contentType == null ? "" : contentType.toLowerCase();
+        if (type.startsWith("application/x-www-form-urlencoded") || type.startsWith("multipart/")) {
+            // 폼 본문은 파라미터로 먼저 읽혀 버리므로 받지 않는다
+            throw new IllegalArgumentException("Content-Type 을 text/csv 또는 application/x-ndjson 으로 지정해 주세요.");
+        }
+        if (format != null && !format.isBlank()) {
+            return format.trim().toLowerCase();
+        }
+        if (type.contains("csv")) {
+            return "csv";
+        }
+        if (type.contains("ndjson") || type.contains("jsonl") || type.contains("json")) {
+            return "ndjson";
+        }
+        throw new IllegalArgumentException("형식을 알 수 없습니다. format=csv 또는 format=ndjson 을 지정해 주세요.");
+    }
+}
@@ -1,12 +1,33 @@
 package com.example.demo.controller;
 
+import com.example.demo.service.DashboardCounterService;
+import com.example.demo.service.EntityCacheService;
+import com.example.demo.service.ListCacheService;
+import com.example.demo.service.UploadGarbageCollector;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+import java.util.Map;
 
 @Controller
 public class MainController {
 
+    @Autowired
+    private DashboardCounterService dashboardCounterService;
+
+    @Autowired
+    private ListCacheService listCacheService;
+
+    @Autowired
+    private EntityCacheService entityCacheService;
+
+    @Autowired
+    private UploadGarbageCollector uploadGarbageCollector;
+
     // 메인 페이지
     @GetMapping("/")
     public String index() {
@@ -30,4 +51,43 @@ public class MainController {
     public String dashboard() {
         return "dashboard";
     }
-}
\ No newline at end of file
+
+    // 대시보드 집계 (게시판별 / 상태별 / 분류별 / 오늘 등록 / 오늘 조회)
+    @GetMapping("/api/dashboard")
+    @ResponseBody
+    public Map<String, Object> dashboardStats() {
+        return dashboardCounterService.getSnapshot();
+    }
+
+    // 목록 캐시 적중 / 실패 통계
+    @GetMapping("/api/list-cache/stats")
+    @ResponseBody
+    public Map<String, Object> listCacheStats() {
+        return listCacheService.getStats();
+    }
+
+    // 2차 캐시 (엔티티 / 쿼리 결과) 영역별 적중 / 실패 통계
+    @GetMapping("/api/entity-cache/stats")
+    @ResponseBody
+    public Map<String, Object> entityCacheStats() {
+        return entityCacheService.getStats();
+    }
+
+    // 고아 파일 수거 마지막 결과 (실행 전이면 빈 응답)
+    @GetMapping("/api/upload-gc")
+    @ResponseBody
+    public ResponseEntity<?> uploadGcReport() {
+        return ResponseEntity.ok(uploadGarbageCollector.getLastReport());
+    }
+
+    // 고아 파일 수거 바로 실행
+    @PostMapping("/api/upload-gc")
+    @ResponseBody
+    public ResponseEntity<?> runUploadGc() {
+        try {
+            return ResponseEntity.ok(uploadGarbageCollector.collect());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+}
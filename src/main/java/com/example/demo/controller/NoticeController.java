@@ -2,20 +2,24 @@ package com.example.demo.controller;
 
 import com.example.demo.entity.Notice;
 import com.example.demo.entity.NoticeAttachment;
+import com.example.demo.service.BoardType;
+import com.example.demo.service.CursorPage;
+import com.example.demo.service.ExportService;
+import com.example.demo.service.FileTransferService;
 import com.example.demo.service.NoticeService;
+import com.example.demo.service.StreamedUpload;
+import com.example.demo.service.StreamingUploadService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.net.MalformedURLException;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
@@ -27,6 +31,15 @@ public class NoticeController {
     @Autowired
     private NoticeService noticeService;
 
+    @Autowired
+    private StreamingUploadService streamingUploadService;
+
+    @Autowired
+    private FileTransferService fileTransferService;
+
+    @Autowired
+    private ExportService exportService;
+
     // 공지사항 목록 페이지
     @GetMapping("/list")
     public String listPage(
@@ -36,14 +49,20 @@ public class NoticeController {
             @RequestParam(value = "status", required = false, defaultValue = "전체") String status,
             @RequestParam(value = "startDate", required = false) String startDate,
             @RequestParam(value = "endDate", required = false) String endDate,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false, defaultValue = "20") Integer size,
             Model model) {
 
         try {
-            List<Notice> notices = noticeService.searchNoticesAdvanced(
-                    searchType, keyword, category, status, startDate, endDate
+            CursorPage<Notice> page = noticeService.searchNoticesPage(
+                    searchType, keyword, category, status, startDate, endDate, cursor, size
             );
 
-            model.addAttribute("notices", notices);
+            model.addAttribute("notices", page.items());
+            model.addAttribute("nextCursor", page.nextCursor());
+            model.addAttribute("hasNext", page.hasNext());
+            model.addAttribute("cursor", cursor);
+            model.addAttribute("size", size);
             model.addAttribute("searchType", searchType);
             model.addAttribute("keyword", keyword);
             model.addAttribute("category", category);
@@ -59,6 +78,53 @@ public class NoticeController {
         }
     }
 
+    // REST API - 공지사항 목록 (커서 기반)
+    @GetMapping("/api/list")
+    @ResponseBody
+    public ResponseEntity<?> listApi(
+            @RequestParam(value = "searchType", required = false, defaultValue = "전체") String searchType,
+            @RequestParam(value = "keyword", required = false) String keyword,
+            @RequestParam(value = "category", required = false) String category,
+            @RequestParam(value = "status", required = false, defaultValue = "전체") String status,
+            @RequestParam(value = "startDate", required = false) String startDate,
+            @RequestParam(value = "endDate", required = false) String endDate,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false, defaultValue = "20") Integer size) {
+
+        try {
+            CursorPage<Notice> page = noticeService.searchNoticesPage(
+                    searchType, keyword, category, status, startDate, endDate, cursor, size
+            );
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseEntity.badRequest().body("데이터를 불러오는 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    // REST API - 공지사항 목록 내보내기 (CSV / XLSX, 목록과 같은 검색 조건)
+    @GetMapping("/api/export")
+    public void exportApi(
+            @RequestParam(value = "format", required = false, defaultValue = "xlsx") String format,
+            @RequestParam(value = "searchType", required = false, defaultValue = "전체") String searchType,
+            @RequestParam(value = "keyword", required = false) String keyword,
+            @RequestParam(value = "category", required = false) String category,
+            @RequestParam(value = "status", required = false, defaultValue = "전체") String status,
+            @RequestParam(value = "startDate", required = false) String startDate,
+            @RequestParam(value = "endDate", required = false) String endDate,
+            HttpServletResponse response) throws IOException {
+
+        try {
+            exportService.exportNotices(format, searchType, keyword, category, status, startDate, endDate, response);
+        } catch (IllegalArgumentException e) {
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            response.setContentType("text/plain;charset=UTF-8");
+            response.getOutputStream().write(e.getMessage().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
     // 공지사항 작성 페이지
     @GetMapping("/write")
     public String writePage() {
@@ -94,6 +160,7 @@ public class NoticeController {
             noticeService.increaseViewCount(id);
 
             model.addAttribute("notice", notice);
+            model.addAttribute("viewCount", noticeService.getViewCount(notice));
             model.addAttribute("attachments", attachments);
             return "notice/detail";
         } catch (Exception e) {
@@ -104,23 +171,35 @@ public class NoticeController {
 
     // 파일 다운로드
     @GetMapping("/download/{attachmentId}")
-    @ResponseBody
-    public ResponseEntity<Resource> downloadFile(@PathVariable Long attachmentId) {
-        try {
-            // 첨부파일 정보 조회 로직 필요
-            // 간단하게 구현
-            Path file = Paths.get("uploads/notices").resolve("filename");
-            Resource resource = new UrlResource(file.toUri());
-
-            if (resource.exists() || resource.isReadable()) {
-                return ResponseEntity.ok()
-                        .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + resource.getFilename() + "\"")
-                        .body(resource);
-            } else {
-                throw new RuntimeException("파일을 읽을 수 없습니다.");
-            }
-        } catch (MalformedURLException e) {
-            throw new RuntimeException("파일을 읽을 수 없습니다.", e);
+    public void downloadFile(@PathVariable Long attachmentId,
+                             HttpServletRequest request,
+                             HttpServletResponse response) throws IOException {
+        NoticeAttachment attachment = noticeService.getAttachment(attachmentId).orElse(null);
+        if (attachment == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        fileTransferService.sendAttachment(request, response,
+                attachment.getFilePath(), attachment.getContentHash(), attachment.getFileName());
+    }
+
+    // 썸네일 (생성 전이면 원본)
+    @GetMapping("/thumbnail/{attachmentId}")
+    public void thumbnail(@PathVariable Long attachmentId,
+                          @RequestParam(value = "size", defaultValue = "small") String size,
+                          HttpServletRequest request,
+                          HttpServletResponse response) throws IOException {
+        NoticeAttachment attachment = noticeService.getAttachment(attachmentId).orElse(null);
+        if (attachment == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        String thumbPath = "large".equals(size) ? attachment.getThumbLargePath() : attachment.getThumbSmallPath();
+        if (thumbPath != null) {
+            fileTransferService.sendInline(request, response, thumbPath, null, "thumbnail.jpg");
+        } else {
+            fileTransferService.sendInline(request, response,
+                    attachment.getFilePath(), attachment.getContentHash(), attachment.getFileName());
         }
     }
 
@@ -174,6 +253,29 @@ public class NoticeController {
         }
     }
 
+    // REST API - 공지사항 저장 (스트리밍 업로드)
+    @PostMapping("/api/save-stream")
+    @ResponseBody
+    public ResponseEntity<?> saveNoticeStream(HttpServletRequest request) {
+        try (StreamedUpload upload = streamingUploadService.receive(request, BoardType.NOTICE, noticeService::isAllowedExtension)) {
+            return saveNotice(
+                    upload.getLong("id"),
+                    upload.get("title"),
+                    upload.get("content"),
+                    upload.get("category"),
+                    upload.get("author"),
+                    upload.getBoolean("pinned", false),
+                    upload.get("startDate"),
+                    upload.get("endDate"),
+                    upload.getFiles());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseEntity.badRequest().body("저장 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
     // REST API - 공지사항 삭제
     @DeleteMapping("/api/delete/{id}")
     @ResponseBody
@@ -2,7 +2,14 @@ package com.example.demo.controller;
 
 import com.example.demo.entity.Press;
 import com.example.demo.entity.PressAttachment;
+import com.example.demo.service.BoardType;
+import com.example.demo.service.ExportService;
+import com.example.demo.service.FileTransferService;
 import com.example.demo.service.PressService;
+import com.example.demo.service.StreamedUpload;
+import com.example.demo.service.StreamingUploadService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
@@ -10,6 +17,8 @@ import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
@@ -21,6 +30,15 @@ public class PressController {
     @Autowired
     private PressService pressService;
 
+    @Autowired
+    private StreamingUploadService streamingUploadService;
+
+    @Autowired
+    private FileTransferService fileTransferService;
+
+    @Autowired
+    private ExportService exportService;
+
     @GetMapping("/list")
     public String listPage(
             @RequestParam(value = "searchType", required = false, defaultValue = "전체") String searchType,
@@ -50,6 +68,26 @@ public class PressController {
         }
     }
 
+    // REST API - 보도자료 목록 내보내기 (CSV / XLSX, 목록과 같은 검색 조건)
+    @GetMapping("/api/export")
+    public void exportApi(
+            @RequestParam(value = "format", required = false, defaultValue = "xlsx") String format,
+            @RequestParam(value = "searchType", required = false, defaultValue = "전체") String searchType,
+            @RequestParam(value = "keyword", required = false) String keyword,
+            @RequestParam(value = "status", required = false, defaultValue = "전체") String status,
+            @RequestParam(value = "startDate", required = false) String startDate,
+            @RequestParam(value = "endDate", required = false) String endDate,
+            HttpServletResponse response) throws IOException {
+
+        try {
+            exportService.exportPress(format, searchType, keyword, status, startDate, endDate, response);
+        } catch (IllegalArgumentException e) {
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            response.setContentType("text/plain;charset=UTF-8");
+            response.getOutputStream().write(e.getMessage().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
     @GetMapping("/write")
     public String writePage() {
         return "press/write";
@@ -81,6 +119,7 @@ public class PressController {
             pressService.increaseViewCount(id);
 
             model.addAttribute("press", press);
+            model.addAttribute("viewCount", pressService.getViewCount(press));
             model.addAttribute("attachments", attachments);
             return "press/detail";
         } catch (Exception e) {
@@ -89,6 +128,38 @@ public class PressController {
         }
     }
 
+    @GetMapping("/download/{attachmentId}")
+    public void downloadFile(@PathVariable Long attachmentId,
+                             HttpServletRequest request,
+                             HttpServletResponse response) throws IOException {
+        PressAttachment attachment = pressService.getAttachment(attachmentId).orElse(null);
+        if (attachment == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        fileTransferService.sendAttachment(request, response,
+                attachment.getFilePath(), attachment.getContentHash(), attachment.getFileName());
+    }
+
+    @GetMapping("/thumbnail/{attachmentId}")
+    public void thumbnail(@PathVariable Long attachmentId,
+                          @RequestParam(value = "size", defaultValue = "small") String size,
+                          HttpServletRequest request,
+                          HttpServletResponse response) throws IOException {
+        PressAttachment attachment = pressService.getAttachment(attachmentId).orElse(null);
+        if (attachment == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        String thumbPath = "large".equals(size) ? attachment.getThumbLargePath() : attachment.getThumbSmallPath();
+        if (thumbPath != null) {
+            fileTransferService.sendInline(request, response, thumbPath, null, "thumbnail.jpg");
+        } else {
+            fileTransferService.sendInline(request, response,
+                    attachment.getFilePath(), attachment.getContentHash(), attachment.getFileName());
+        }
+    }
+
     @PostMapping("/api/save")
     @ResponseBody
     public ResponseEntity<?> savePress(
@@ -136,6 +207,28 @@ public class PressController {
         }
     }
 
+    @PostMapping("/api/save-stream")
+    @ResponseBody
+    public ResponseEntity<?> savePressStream(HttpServletRequest request) {
+        try (StreamedUpload upload = streamingUploadService.receive(request, BoardType.PRESS, pressService::isAllowedExtension)) {
+            return savePress(
+                    upload.getLong("id"),
+                    upload.get("title"),
+                    upload.get("content"),
+                    upload.get("category"),
+                    upload.get("author"),
+                    upload.getBoolean("pinned", false),
+                    upload.get("startDate"),
+                    upload.get("endDate"),
+                    upload.getFiles());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseEntity.badRequest().body("저장 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
     @DeleteMapping("/api/delete/{id}")
     @ResponseBody
     public ResponseEntity<String> deletePress(@PathVariable Long id) {
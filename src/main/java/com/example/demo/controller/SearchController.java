@@ -0,0 +1,44 @@
+package com.example.demo.controller;
+
+import com.example.demo.service.BoardType;
+import com.example.demo.service.SearchHit;
+import com.example.demo.service.SearchIndexService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+import java.util.List;
+
+@Controller
+@RequestMapping("/search")
+public class SearchController {
+
+    private final int MAX_LIMIT = 100;
+
+    @Autowired
+    private SearchIndexService searchIndexService;
+
+    // REST API - 게시판 전문 검색 (관련도 순)
+    @GetMapping("/api/{board}")
+    @ResponseBody
+    public ResponseEntity<?> search(
+            @PathVariable String board,
+            @RequestParam(value = "searchType", required = false, defaultValue = "전체") String searchType,
+            @RequestParam(value = "keyword") String keyword,
+            @RequestParam(value = "limit", required = false, defaultValue = "20") Integer limit) {
+
+        try {
+            List<SearchHit> hits = searchIndexService.search(
+                    BoardType.fromTableName(board), searchType, keyword, Math.max(1, Math.min(limit, MAX_LIMIT))
+            );
+            return ResponseEntity.ok(hits);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+}
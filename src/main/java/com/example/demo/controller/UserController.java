@@ -1,13 +1,17 @@
 package com.example.demo.controller;
 
 import com.example.demo.entity.User;
+import com.example.demo.service.ExportService;
 import com.example.demo.service.UserService;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -19,6 +23,9 @@ public class UserController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private ExportService exportService;
+
     // 사용자 목록 페이지
     @GetMapping("/list")
     public String listPage(Model model) {
@@ -27,6 +34,22 @@ public class UserController {
         return "user/list";
     }
 
+    // REST API - 사용자 목록 내보내기 (CSV / XLSX, 아이디 / 이름 / 이메일 검색)
+    @GetMapping("/api/export")
+    public void exportApi(
+            @RequestParam(value = "format", required = false, defaultValue = "xlsx") String format,
+            @RequestParam(value = "keyword", required = false) String keyword,
+            HttpServletResponse response) throws IOException {
+
+        try {
+            exportService.exportUsers(format, keyword, response);
+        } catch (IllegalArgumentException e) {
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            response.setContentType("text/plain;charset=UTF-8");
+            response.getOutputStream().write(e.getMessage().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
     // 사용자 등록 페이지
     @GetMapping("/write")
     public String writePage() {
@@ -1,26 +1,53 @@
 package com.example.demo.controller;
 
+import com.example.demo.entity.ResumableUpload;
 import com.example.demo.entity.Video;
 import com.example.demo.entity.VideoAttachment;
+import com.example.demo.service.BoardType;
+import com.example.demo.service.FileTransferService;
+import com.example.demo.service.ResumableUploadService;
+import com.example.demo.service.StreamedUpload;
+import com.example.demo.service.StreamingUploadService;
 import com.example.demo.service.VideoService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.net.URI;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @Controller
 @RequestMapping("/video")
 public class VideoController {
 
+    private static final String TUS_VERSION = "1.0.0";
+
     @Autowired
     private VideoService videoService;
 
+    @Autowired
+    private StreamingUploadService streamingUploadService;
+
+    @Autowired
+    private FileTransferService fileTransferService;
+
+    @Autowired
+    private ResumableUploadService resumableUploadService;
+
     @GetMapping("/list")
     public String listPage(
             @RequestParam(value = "searchType", required = false, defaultValue = "전체") String searchType,
@@ -81,6 +108,7 @@ public class VideoController {
             videoService.increaseViewCount(id);
 
             model.addAttribute("video", video);
+            model.addAttribute("viewCount", videoService.getViewCount(video));
             model.addAttribute("attachments", attachments);
             return "video/detail";
         } catch (Exception e) {
@@ -89,6 +117,52 @@ public class VideoController {
         }
     }
 
+    // 영상 스트리밍 (HTTP Range 지원, 탐색 시 필요한 구간만 전송)
+    @GetMapping("/stream/{attachmentId}")
+    public void streamVideo(@PathVariable Long attachmentId,
+                            HttpServletRequest request,
+                            HttpServletResponse response) throws IOException {
+        VideoAttachment attachment = videoService.getAttachment(attachmentId).orElse(null);
+        if (attachment == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        fileTransferService.sendInline(request, response,
+                attachment.getFilePath(), attachment.getContentHash(), attachment.getFileName());
+    }
+
+    @GetMapping("/download/{attachmentId}")
+    public void downloadFile(@PathVariable Long attachmentId,
+                             HttpServletRequest request,
+                             HttpServletResponse response) throws IOException {
+        VideoAttachment attachment = videoService.getAttachment(attachmentId).orElse(null);
+        if (attachment == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        fileTransferService.sendAttachment(request, response,
+                attachment.getFilePath(), attachment.getContentHash(), attachment.getFileName());
+    }
+
+    @GetMapping("/thumbnail/{attachmentId}")
+    public void thumbnail(@PathVariable Long attachmentId,
+                          @RequestParam(value = "size", defaultValue = "small") String size,
+                          HttpServletRequest request,
+                          HttpServletResponse response) throws IOException {
+        VideoAttachment attachment = videoService.getAttachment(attachmentId).orElse(null);
+        if (attachment == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        String thumbPath = "large".equals(size) ? attachment.getThumbLargePath() : attachment.getThumbSmallPath();
+        if (thumbPath != null) {
+            fileTransferService.sendInline(request, response, thumbPath, null, "thumbnail.jpg");
+        } else {
+            fileTransferService.sendInline(request, response,
+                    attachment.getFilePath(), attachment.getContentHash(), attachment.getFileName());
+        }
+    }
+
     @PostMapping("/api/save")
     @ResponseBody
     public ResponseEntity<?> saveVideo(
@@ -134,6 +208,27 @@ public class VideoController {
         }
     }
 
+    @PostMapping("/api/save-stream")
+    @ResponseBody
+    public ResponseEntity<?> saveVideoStream(HttpServletRequest request) {
+        try (StreamedUpload upload = streamingUploadService.receive(request, BoardType.VIDEO, videoService::isAllowedExtension)) {
+            return saveVideo(
+                    upload.getLong("id"),
+                    upload.get("title"),
+                    upload.get("content"),
+                    upload.get("author"),
+                    upload.getBoolean("pinned", false),
+                    upload.get("startDate"),
+                    upload.get("endDate"),
+                    upload.getFiles());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseEntity.badRequest().body("저장 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
     @DeleteMapping("/api/delete/{id}")
     @ResponseBody
     public ResponseEntity<String> deleteVideo(@PathVariable Long id) {
@@ -145,4 +240,117 @@ public class VideoController {
             return ResponseEntity.badRequest().body("삭제 중 오류가 발생했습니다: " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    // 이어받기 업로드 (tus 1.0 방식, multipart 용량 제한 없이 게시글당 90MB 까지)
+    // POST 로 만들고 (Upload-Length, Upload-Metadata: filename), PATCH 로 Upload-Offset 부터 이어 보내고, HEAD 로 받은 오프셋을 묻는다
+    @RequestMapping(value = "/api/uploads", method = RequestMethod.OPTIONS)
+    public ResponseEntity<Void> uploadOptions() {
+        return ResponseEntity.noContent()
+                .header("Tus-Resumable", TUS_VERSION)
+                .header("Tus-Version", TUS_VERSION)
+                .header("Tus-Extension", "creation,expiration,termination")
+                .header("Tus-Max-Size", String.valueOf(videoService.getMaxTotalSize()))
+                .build();
+    }
+
+    @PostMapping("/api/uploads")
+    @ResponseBody
+    public ResponseEntity<?> createUpload(
+            @RequestParam("videoId") Long videoId,
+            @RequestHeader("Upload-Length") long length,
+            @RequestHeader(value = "Upload-Metadata", required = false) String metadata) {
+
+        try {
+            Map<String, String> meta = ResumableUploadService.parseMetadata(metadata);
+            ResumableUpload upload = resumableUploadService.create(
+                    videoId, meta.get("filename"), meta.get("filetype"), length);
+            return ResponseEntity.created(URI.create("/video/api/uploads/" + upload.getId()))
+                    .header("Tus-Resumable", TUS_VERSION)
+                    .header("Upload-Expires", httpDate(resumableUploadService.expiresAt(upload)))
+                    .build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseEntity.badRequest().body("업로드 생성 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    @RequestMapping(value = "/api/uploads/{uploadId}", method = RequestMethod.HEAD)
+    public ResponseEntity<Void> uploadOffset(@PathVariable String uploadId) {
+        return resumableUploadService.find(uploadId)
+                .map(upload -> ResponseEntity.ok()
+                        .header("Tus-Resumable", TUS_VERSION)
+                        .header("Upload-Offset", String.valueOf(upload.getUploadOffset()))
+                        .header("Upload-Length", String.valueOf(upload.getUploadLength()))
+                        .header("Upload-Expires", httpDate(resumableUploadService.expiresAt(upload)))
+                        .cacheControl(CacheControl.noStore())
+                        .<Void>build())
+                .orElseGet(() -> ResponseEntity.notFound().header("Tus-Resumable", TUS_VERSION).build());
+    }
+
+    // 다 받으면 첨부파일 등록까지 하고 200 + 첨부파일 번호, 아니면 204 + 받은 오프셋
+    @PatchMapping("/api/uploads/{uploadId}")
+    @ResponseBody
+    public ResponseEntity<?> appendUpload(@PathVariable String uploadId,
+                                          @RequestHeader("Upload-Offset") long offset,
+                                          HttpServletRequest request) {
+        String contentType = request.getContentType();
+        if (contentType == null || !contentType.toLowerCase().startsWith("application/offset+octet-stream")) {
+            return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE)
+                    .header("Tus-Resumable", TUS_VERSION)
+                    .body("Content-Type 은 application/offset+octet-stream 이어야 합니다.");
+        }
+
+        try {
+            Optional<ResumableUpload> result = resumableUploadService.append(
+                    uploadId, offset, request.getContentLengthLong(), request.getInputStream());
+            if (result.isEmpty()) {
+                return ResponseEntity.notFound().header("Tus-Resumable", TUS_VERSION).build();
+            }
+            ResumableUpload upload = result.get();
+            if (upload.getAttachmentId() == null) {
+                return ResponseEntity.noContent()
+                        .header("Tus-Resumable", TUS_VERSION)
+                        .header("Upload-Offset", String.valueOf(upload.getUploadOffset()))
+                        .header("Upload-Expires", httpDate(resumableUploadService.expiresAt(upload)))
+                        .build();
+            }
+            return ResponseEntity.ok()
+                    .header("Tus-Resumable", TUS_VERSION)
+                    .header("Upload-Offset", String.valueOf(upload.getUploadOffset()))
+                    .body(Map.of("videoId", upload.getVideoId(), "attachmentId", upload.getAttachmentId()));
+        } catch (IllegalStateException e) {
+            // 오프셋 불일치 / 같은 업로드 전송 중 / 저장 요청 과다: 클라이언트는 HEAD 로 오프셋을 다시 묻고 이어서 보낸다
+            return ResponseEntity.status(HttpStatus.CONFLICT).header("Tus-Resumable", TUS_VERSION).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().header("Tus-Resumable", TUS_VERSION).body(e.getMessage());
+        } catch (IOException e) {
+            // 전송 중 연결 끊김: 받은 만큼은 기록되어 있음
+            return ResponseEntity.badRequest().header("Tus-Resumable", TUS_VERSION)
+                    .body("업로드가 중단되었습니다: " + e.getMessage());
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseEntity.badRequest().body("업로드 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    @DeleteMapping("/api/uploads/{uploadId}")
+    @ResponseBody
+    public ResponseEntity<?> cancelUpload(@PathVariable String uploadId) {
+        try {
+            if (!resumableUploadService.terminate(uploadId)) {
+                return ResponseEntity.notFound().header("Tus-Resumable", TUS_VERSION).build();
+            }
+            return ResponseEntity.noContent().header("Tus-Resumable", TUS_VERSION).build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).header("Tus-Resumable", TUS_VERSION).body(e.getMessage());
+        }
+    }
+
+    // RFC 7231 날짜 (Upload-Expires)
+    private static String httpDate(LocalDateTime dateTime) {
+        return DateTimeFormatter.RFC_1123_DATE_TIME.format(
+                dateTime.atZone(ZoneId.systemDefault()).withZoneSameInstant(ZoneOffset.UTC));
+    }
+}
@@ -2,7 +2,13 @@ package com.example.demo.controller;
 
 import com.example.demo.entity.Visit;
 import com.example.demo.entity.VisitAttachment;
+import com.example.demo.service.BoardType;
+import com.example.demo.service.FileTransferService;
+import com.example.demo.service.StreamedUpload;
+import com.example.demo.service.StreamingUploadService;
 import com.example.demo.service.VisitService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
@@ -10,6 +16,7 @@ import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
@@ -21,6 +28,12 @@ public class VisitController {
     @Autowired
     private VisitService visitService;
 
+    @Autowired
+    private StreamingUploadService streamingUploadService;
+
+    @Autowired
+    private FileTransferService fileTransferService;
+
     @GetMapping("/list")
     public String listPage(
             @RequestParam(value = "searchType", required = false, defaultValue = "전체") String searchType,
@@ -36,6 +49,7 @@ public class VisitController {
             );
 
             model.addAttribute("visitList", visitList);
+            model.addAttribute("representatives", visitService.getRepresentativeAttachments(visitList));
             model.addAttribute("searchType", searchType);
             model.addAttribute("keyword", keyword);
             model.addAttribute("status", status);
@@ -81,6 +95,7 @@ public class VisitController {
             visitService.increaseViewCount(id);
 
             model.addAttribute("visit", visit);
+            model.addAttribute("viewCount", visitService.getViewCount(visit));
             model.addAttribute("attachments", attachments);
             return "visit/detail";
         } catch (Exception e) {
@@ -89,6 +104,38 @@ public class VisitController {
         }
     }
 
+    @GetMapping("/download/{attachmentId}")
+    public void downloadFile(@PathVariable Long attachmentId,
+                             HttpServletRequest request,
+                             HttpServletResponse response) throws IOException {
+        VisitAttachment attachment = visitService.getAttachment(attachmentId).orElse(null);
+        if (attachment == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        fileTransferService.sendAttachment(request, response,
+                attachment.getFilePath(), attachment.getContentHash(), attachment.getFileName());
+    }
+
+    @GetMapping("/thumbnail/{attachmentId}")
+    public void thumbnail(@PathVariable Long attachmentId,
+                          @RequestParam(value = "size", defaultValue = "small") String size,
+                          HttpServletRequest request,
+                          HttpServletResponse response) throws IOException {
+        VisitAttachment attachment = visitService.getAttachment(attachmentId).orElse(null);
+        if (attachment == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        String thumbPath = "large".equals(size) ? attachment.getThumbLargePath() : attachment.getThumbSmallPath();
+        if (thumbPath != null) {
+            fileTransferService.sendInline(request, response, thumbPath, null, "thumbnail.jpg");
+        } else {
+            fileTransferService.sendInline(request, response,
+                    attachment.getFilePath(), attachment.getContentHash(), attachment.getFileName());
+        }
+    }
+
     @PostMapping("/api/save")
     @ResponseBody
     public ResponseEntity<?> saveVisit(
@@ -134,6 +181,27 @@ public class VisitController {
         }
     }
 
+    @PostMapping("/api/save-stream")
+    @ResponseBody
+    public ResponseEntity<?> saveVisitStream(HttpServletRequest request) {
+        try (StreamedUpload upload = streamingUploadService.receive(request, BoardType.VISIT, visitService::isAllowedExtension)) {
+            return saveVisit(
+                    upload.getLong("id"),
+                    upload.get("title"),
+                    upload.get("content"),
+                    upload.get("author"),
+                    upload.getBoolean("pinned", false),
+                    upload.get("startDate"),
+                    upload.get("endDate"),
+                    upload.getFiles());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseEntity.badRequest().body("저장 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
     @DeleteMapping("/api/delete/{id}")
     @ResponseBody
     public ResponseEntity<String> deleteVisit(@PathVariable Long id) {
@@ -2,11 +2,14 @@ package com.example.demo.entity;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 
 @Entity
 @Data
 @Table(name = "award_detail")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "award_detail")
 public class AwardDetail {
 
     @Id
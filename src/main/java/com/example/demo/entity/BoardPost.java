@@ -0,0 +1,26 @@
+package com.example.demo.entity;
+
+import java.time.LocalDateTime;
+
+// 게시판 글 공통 항목 (공지사항 / 보도자료 / 견학 / 홍보영상)
+public interface BoardPost {
+
+    Long getId();
+
+    String getTitle();
+
+    String getAuthor();
+
+    String getContent();
+
+    String getStatus();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+
+    // 분류가 없는 게시판은 null
+    default String getCategory() {
+        return null;
+    }
+}
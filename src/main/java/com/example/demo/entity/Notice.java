@@ -2,15 +2,23 @@ package com.example.demo.entity;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 
 @Entity
 @Data
-@Table(name = "notice")
-public class Notice {
+@Table(name = "notice", indexes = {
+        @Index(name = "idx_notice_pinned_created_id", columnList = "pinned, created_at, id"),
+        @Index(name = "idx_notice_status_pinned_created", columnList = "status, pinned, created_at"),
+        @Index(name = "idx_notice_category_created", columnList = "category, created_at")
+})
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "notice")
+public class Notice implements BoardPost {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notice_seq")
+    @SequenceGenerator(name = "notice_seq", sequenceName = "notice_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "title", nullable = false, length = 200)
@@ -31,7 +39,7 @@ public class Notice {
     @Column(name = "pinned", nullable = false)
     private Boolean pinned = false;  // 고정 여부
 
-    @Column(name = "view_count", nullable = false)
+    @Column(name = "view_count", nullable = false, updatable = false)
     private Integer viewCount = 0;  // 조회수
 
     @Column(name = "start_date")
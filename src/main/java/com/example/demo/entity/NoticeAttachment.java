@@ -2,15 +2,19 @@ package com.example.demo.entity;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 
 @Entity
 @Data
 @Table(name = "notice_attachment")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "notice_attachment")
 public class NoticeAttachment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notice_attachment_seq")
+    @SequenceGenerator(name = "notice_attachment_seq", sequenceName = "notice_attachment_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "notice_id", nullable = false)
@@ -28,9 +32,18 @@ public class NoticeAttachment {
     @Column(name = "file_type", length = 50)
     private String fileType;
 
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;  // 공용 저장소(stored_blob) 해시
+
     @Column(name = "is_representative")
     private Boolean isRepresentative = false;
 
+    @Column(name = "thumb_small_path", length = 500)
+    private String thumbSmallPath;  // 썸네일 (목록용)
+
+    @Column(name = "thumb_large_path", length = 500)
+    private String thumbLargePath;  // 썸네일 (갤러리용)
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
@@ -0,0 +1,39 @@
+package com.example.demo.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import java.time.LocalDateTime;
+
+// 파일 삭제 대기열 (transactional outbox)
+// 게시글 / 첨부파일 삭제와 같은 트랜잭션에서 기록하고, 커밋된 뒤 FileDeletionReaper 가 실제 파일을 지운다.
+@Entity
+@Data
+@Table(name = "pending_file_deletion", indexes = {
+        @Index(name = "idx_pending_file_deletion_attempts", columnList = "attempts, id")
+})
+public class PendingFileDeletion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "file_path", nullable = false, length = 500)
+    private String filePath;  // 삭제할 파일 경로
+
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;  // 공용 저장소 파일이면 내용 해시 (그 사이 다시 등록되면 지우지 않음)
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts = 0;  // 삭제 실패 횟수
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        if (attempts == null) {
+            attempts = 0;
+        }
+    }
+}
@@ -2,15 +2,23 @@ package com.example.demo.entity;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 
 @Entity
 @Data
-@Table(name = "press")
-public class Press {
+@Table(name = "press", indexes = {
+        @Index(name = "idx_press_pinned_created_id", columnList = "pinned, created_at, id"),
+        @Index(name = "idx_press_status_pinned_created", columnList = "status, pinned, created_at"),
+        @Index(name = "idx_press_category_created", columnList = "category, created_at")
+})
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "press")
+public class Press implements BoardPost {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "press_seq")
+    @SequenceGenerator(name = "press_seq", sequenceName = "press_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "title", nullable = false, length = 200)
@@ -31,7 +39,7 @@ public class Press {
     @Column(name = "pinned", nullable = false)
     private Boolean pinned = false;
 
-    @Column(name = "view_count", nullable = false)
+    @Column(name = "view_count", nullable = false, updatable = false)
     private Integer viewCount = 0;
 
     @Column(name = "start_date")
@@ -0,0 +1,55 @@
+package com.example.demo.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import java.time.LocalDateTime;
+
+// 홍보영상 이어받기 업로드 (tus 방식: 생성 → 오프셋부터 이어 쓰기 → 다 받으면 첨부파일 등록)
+// 받은 바이트는 staged_path 에 그대로 쌓이고, 요청이 끊겨도 upload_offset 까지는 다시 보내지 않는다.
+@Entity
+@Data
+@Table(name = "resumable_upload", indexes = {
+        @Index(name = "idx_resumable_upload_updated_at", columnList = "updated_at")
+})
+public class ResumableUpload {
+
+    @Id
+    @Column(name = "id", length = 32)
+    private String id;  // 업로드 주소에 쓰는 임의 식별자
+
+    @Column(name = "video_id", nullable = false)
+    private Long videoId;  // 첨부할 홍보영상 게시글
+
+    @Column(name = "file_name", length = 500)
+    private String fileName;
+
+    @Column(name = "content_type", length = 200)
+    private String contentType;
+
+    @Column(name = "staged_path", nullable = false, length = 500)
+    private String stagedPath;  // 받는 중인 임시 파일
+
+    @Column(name = "upload_length", nullable = false)
+    private Long uploadLength;  // 전체 크기
+
+    @Column(name = "upload_offset", nullable = false)
+    private Long uploadOffset = 0L;  // 디스크에 기록된 바이트 수
+
+    @Column(name = "attachment_id")
+    private Long attachmentId;  // 다 받아 등록한 첨부파일 (null 이면 받는 중)
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;  // 마지막으로 받은 시각 (만료 기준)
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = createdAt;
+        if (uploadOffset == null) {
+            uploadOffset = 0L;
+        }
+    }
+}
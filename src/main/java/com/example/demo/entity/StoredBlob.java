@@ -0,0 +1,39 @@
+package com.example.demo.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import java.time.LocalDateTime;
+
+// 첨부파일 공용 저장소 (내용 SHA-256 기준 중복 제거)
+@Entity
+@Data
+@Table(name = "stored_blob")
+public class StoredBlob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "sha256", nullable = false, unique = true, length = 64)
+    private String sha256;  // 파일 내용 해시
+
+    @Column(name = "file_path", nullable = false, length = 500)
+    private String filePath;  // 저장 경로
+
+    @Column(name = "file_size")
+    private Long fileSize;
+
+    @Column(name = "ref_count", nullable = false)
+    private Integer refCount = 0;  // 참조 중인 첨부파일 수
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        if (refCount == null) {
+            refCount = 0;
+        }
+    }
+}
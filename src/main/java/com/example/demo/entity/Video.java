@@ -2,15 +2,22 @@ package com.example.demo.entity;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 
 @Entity
 @Data
-@Table(name = "video")
-public class Video {
+@Table(name = "video", indexes = {
+        @Index(name = "idx_video_pinned_created_id", columnList = "pinned, created_at, id"),
+        @Index(name = "idx_video_status_pinned_created", columnList = "status, pinned, created_at")
+})
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "video")
+public class Video implements BoardPost {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "video_seq")
+    @SequenceGenerator(name = "video_seq", sequenceName = "video_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "title", nullable = false, length = 200)
@@ -28,7 +35,7 @@ public class Video {
     @Column(name = "pinned", nullable = false)
     private Boolean pinned = false;
 
-    @Column(name = "view_count", nullable = false)
+    @Column(name = "view_count", nullable = false, updatable = false)
     private Integer viewCount = 0;
 
     @Column(name = "start_date")
@@ -2,15 +2,22 @@ package com.example.demo.entity;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 
 @Entity
 @Data
-@Table(name = "visit")
-public class Visit {
+@Table(name = "visit", indexes = {
+        @Index(name = "idx_visit_pinned_created_id", columnList = "pinned, created_at, id"),
+        @Index(name = "idx_visit_status_pinned_created", columnList = "status, pinned, created_at")
+})
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "visit")
+public class Visit implements BoardPost {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "visit_seq")
+    @SequenceGenerator(name = "visit_seq", sequenceName = "visit_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "title", nullable = false, length = 200)
@@ -28,7 +35,7 @@ public class Visit {
     @Column(name = "pinned", nullable = false)
     private Boolean pinned = false;
 
-    @Column(name = "view_count", nullable = false)
+    @Column(name = "view_count", nullable = false, updatable = false)
     private Integer viewCount = 0;
 
     @Column(name = "start_date")
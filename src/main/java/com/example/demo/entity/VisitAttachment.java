@@ -2,15 +2,19 @@ package com.example.demo.entity;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 
 @Entity
 @Data
 @Table(name = "visit_attachment")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "visit_attachment")
 public class VisitAttachment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "visit_attachment_seq")
+    @SequenceGenerator(name = "visit_attachment_seq", sequenceName = "visit_attachment_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "visit_id", nullable = false)
@@ -28,9 +32,18 @@ public class VisitAttachment {
     @Column(name = "file_type", length = 50)
     private String fileType;
 
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
     @Column(name = "is_representative")
     private Boolean isRepresentative = false;
 
+    @Column(name = "thumb_small_path", length = 500)
+    private String thumbSmallPath;
+
+    @Column(name = "thumb_large_path", length = 500)
+    private String thumbLargePath;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
@@ -1,11 +1,19 @@
 package com.example.demo.repository;
 
 import com.example.demo.entity.AwardDetail;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
 public interface AwardDetailRepository extends JpaRepository<AwardDetail, Long> {
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "award_detail-query")
+    })
     List<AwardDetail> findByAwardId(Long awardId);
 }
\ No newline at end of file
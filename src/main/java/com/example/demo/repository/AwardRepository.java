@@ -1,12 +1,20 @@
 package com.example.demo.repository;
 
 import com.example.demo.entity.Award;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
 public interface AwardRepository extends JpaRepository<Award, Long> {
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "award-query")
+    })
     List<Award> findAllByOrderByYearDesc();
 }
\ No newline at end of file
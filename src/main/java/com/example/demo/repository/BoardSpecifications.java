@@ -0,0 +1,134 @@
+package com.example.demo.repository;
+
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+// 게시판 공통 검색 조건 (공지사항 / 보도자료 / 방문사진 / 홍보영상)
+// 모든 필터 조합을 하나의 SQL 로 만들어 DB 인덱스를 타도록 한다.
+public final class BoardSpecifications {
+
+    // 목록 정렬: 고정 게시글 → 작성일 역순 → ID 역순 (커서 비교 순서와 동일해야 함)
+    public static final Sort LIST_SORT = Sort.by(
+            Sort.Order.desc("pinned"), Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
+    // idIn: IN 목록 하나의 최대 길이 / BETWEEN 으로 묶는 최소 연속 ID 수
+    private static final int MAX_IN_LIST = 1000;
+    private static final int MIN_RUN = 3;
+
+    private BoardSpecifications() {
+    }
+
+    // 검색 화면 파라미터 → 검색 조건 (키워드 제외, 키워드는 SearchIndexService 가 만든다)
+    // category 가 null 이면 분류 조건을 만들지 않는다 (분류가 없는 게시판).
+    public static <T> Specification<T> filters(String category, String status,
+                                               String startDate, String endDate) {
+        Specification<T> spec = (root, query, cb) -> cb.conjunction();
+
+        if (category != null && !category.equals("전체")) {
+            spec = spec.and(category(category));
+        }
+        if (status != null && !status.equals("전체")) {
+            spec = spec.and(status(status));
+        }
+        if (startDate != null && !startDate.trim().isEmpty()) {
+            spec = spec.and(createdFrom(LocalDate.parse(startDate).atStartOfDay()));
+        }
+        if (endDate != null && !endDate.trim().isEmpty()) {
+            spec = spec.and(createdTo(LocalDate.parse(endDate).atTime(23, 59, 59)));
+        }
+
+        return spec;
+    }
+
+    // 키워드 LIKE 검색 (제목 / 작성자 / 전체 = 제목 + 작성자 + 내용)
+    // 검색 색인을 쓸 수 없을 때만 사용한다.
+    public static <T> Specification<T> keyword(String searchType, String keyword) {
+        return (root, query, cb) -> {
+            String pattern = "%" + keyword + "%";
+            if ("제목".equals(searchType)) {
+                return cb.like(root.get("title"), pattern);
+            } else if ("작성자".equals(searchType)) {
+                return cb.like(root.get("author"), pattern);
+            }
+            return cb.or(cb.like(root.get("title"), pattern), cb.like(root.get("author"), pattern),
+                    cb.like(root.get("content"), pattern));
+        };
+    }
+
+    // 검색 색인이 찾은 글
+    // 몇 건이든 색인 결과 그대로 거른다. 연속된 ID 는 BETWEEN 하나로 줄이고,
+    // 나머지는 IN 목록 하나가 MAX_IN_LIST 개를 넘지 않도록 나눠 OR 로 잇는다.
+    public static <T> Specification<T> idIn(Collection<Long> ids) {
+        long[] sorted = ids.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+        List<long[]> runs = new ArrayList<>();
+        List<Long> singles = new ArrayList<>();
+        for (int start = 0, end; start < sorted.length; start = end + 1) {
+            end = start;
+            while (end + 1 < sorted.length && sorted[end + 1] == sorted[end] + 1) {
+                end++;
+            }
+            if (end - start + 1 >= MIN_RUN) {
+                runs.add(new long[]{sorted[start], sorted[end]});
+            } else {
+                for (int i = start; i <= end; i++) {
+                    singles.add(sorted[i]);
+                }
+            }
+        }
+
+        return (root, query, cb) -> {
+            if (sorted.length == 0) {
+                return cb.disjunction();
+            }
+            Path<Long> id = root.get("id");
+            List<Predicate> predicates = new ArrayList<>();
+            for (long[] run : runs) {
+                predicates.add(cb.between(id, run[0], run[1]));
+            }
+            for (int from = 0; from < singles.size(); from += MAX_IN_LIST) {
+                predicates.add(id.in(singles.subList(from, Math.min(from + MAX_IN_LIST, singles.size()))));
+            }
+            return predicates.size() == 1 ? predicates.get(0) : cb.or(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    public static <T> Specification<T> category(String category) {
+        return (root, query, cb) -> cb.equal(root.get("category"), category);
+    }
+
+    public static <T> Specification<T> status(String status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static <T> Specification<T> createdFrom(LocalDateTime start) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("createdAt"), start);
+    }
+
+    public static <T> Specification<T> createdTo(LocalDateTime end) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("createdAt"), end);
+    }
+
+    // 커서 이후 행 (LIST_SORT 기준)
+    // 고정 게시글 커서라면 남은 고정 게시글 다음에 일반 게시글 전체가 이어진다.
+    public static <T> Specification<T> after(boolean pinned, LocalDateTime createdAt, Long id) {
+        return (root, query, cb) -> {
+            var samePinned = cb.equal(root.get("pinned"), pinned);
+            var older = cb.or(
+                    cb.lessThan(root.<LocalDateTime>get("createdAt"), createdAt),
+                    cb.and(cb.equal(root.get("createdAt"), createdAt), cb.lessThan(root.<Long>get("id"), id)));
+            var afterInSegment = cb.and(samePinned, older);
+            if (pinned) {
+                return cb.or(cb.isFalse(root.get("pinned")), afterInSegment);
+            }
+            return afterInSegment;
+        };
+    }
+}
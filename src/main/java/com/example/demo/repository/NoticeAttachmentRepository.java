@@ -1,7 +1,10 @@
 package com.example.demo.repository;
 
 import com.example.demo.entity.NoticeAttachment;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,6 +12,10 @@ import java.util.List;
 @Repository
 public interface NoticeAttachmentRepository extends JpaRepository<NoticeAttachment, Long> {
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "notice_attachment-query")
+    })
     List<NoticeAttachment> findByNoticeId(Long noticeId);
 
     void deleteByNoticeId(Long noticeId);
@@ -1,18 +1,28 @@
 package com.example.demo.repository;
 
 import com.example.demo.entity.Notice;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
-public interface NoticeRepository extends JpaRepository<Notice, Long> {
+public interface NoticeRepository extends JpaRepository<Notice, Long>, JpaSpecificationExecutor<Notice> {
 
     // 고정 게시글 + 일반 게시글 (작성일 역순)
     @Query("SELECT n FROM Notice n ORDER BY n.pinned DESC, n.createdAt DESC")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "notice-query")
+    })
     List<Notice> findAllOrderByPinnedAndCreatedAt();
 
     // 제목 검색
@@ -28,5 +38,14 @@ public interface NoticeRepository extends JpaRepository<Notice, Long> {
     List<Notice> findByKeyword(@Param("keyword") String keyword);
 
     // 상태별 검색
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "notice-query")
+    })
     List<Notice> findByStatusOrderByPinnedDescCreatedAtDesc(String status);
-}
\ No newline at end of file
+
+    // 조건 검색 전체 목록: 2차 캐시에서 읽기만 하고 넣지는 않는다 (큰 목록이 상세 화면에서 자주 보는 글을 밀어내지 않도록)
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "GET"))
+    List<Notice> findAll(Specification<Notice> spec, Sort sort);
+}
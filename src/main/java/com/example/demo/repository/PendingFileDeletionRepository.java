@@ -0,0 +1,23 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.PendingFileDeletion;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PendingFileDeletionRepository extends JpaRepository<PendingFileDeletion, Long> {
+
+    // 오래된 순 (실패 횟수 제한을 넘은 항목 제외)
+    List<PendingFileDeletion> findByAttemptsLessThanOrderByIdAsc(int maxAttempts, Limit limit);
+
+    @Modifying
+    @Query("UPDATE PendingFileDeletion d SET d.attempts = d.attempts + 1 WHERE d.id IN :ids")
+    int incrementAttempts(@Param("ids") Collection<Long> ids);
+}
@@ -1,13 +1,22 @@
 package com.example.demo.repository;
 
 import com.example.demo.entity.PressAttachment;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
 public interface PressAttachmentRepository extends JpaRepository<PressAttachment, Long> {
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "press_attachment-query")
+    })
     List<PressAttachment> findByPressId(Long pressId);
+
     void deleteByPressId(Long pressId);
 }
\ No newline at end of file
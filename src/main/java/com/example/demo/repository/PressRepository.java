@@ -1,17 +1,36 @@
 package com.example.demo.repository;
 
 import com.example.demo.entity.Press;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
-public interface PressRepository extends JpaRepository<Press, Long> {
+public interface PressRepository extends JpaRepository<Press, Long>, JpaSpecificationExecutor<Press> {
 
     @Query("SELECT p FROM Press p ORDER BY p.pinned DESC, p.createdAt DESC")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "press-query")
+    })
     List<Press> findAllOrderByPinnedAndCreatedAt();
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "press-query")
+    })
     List<Press> findByStatusOrderByPinnedDescCreatedAtDesc(String status);
-}
\ No newline at end of file
+
+    // 조건 검색 전체 목록: 2차 캐시에서 읽기만 하고 넣지는 않는다 (큰 목록이 상세 화면에서 자주 보는 글을 밀어내지 않도록)
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "GET"))
+    List<Press> findAll(Specification<Press> spec, Sort sort);
+}
@@ -0,0 +1,27 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.ResumableUpload;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ResumableUploadRepository extends JpaRepository<ResumableUpload, String> {
+
+    // 마지막으로 받은 시각이 cutoff 이전인 업로드 (만료 정리)
+    List<ResumableUpload> findByUpdatedAtBeforeOrderByUpdatedAtAsc(LocalDateTime cutoff, Limit limit);
+
+    @Modifying
+    @Query("UPDATE ResumableUpload u SET u.uploadOffset = :offset, u.updatedAt = :now WHERE u.id = :id")
+    int updateOffset(@Param("id") String id, @Param("offset") long offset, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE ResumableUpload u SET u.attachmentId = :attachmentId, u.updatedAt = :now WHERE u.id = :id")
+    int complete(@Param("id") String id, @Param("attachmentId") Long attachmentId, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,29 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.StoredBlob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface StoredBlobRepository extends JpaRepository<StoredBlob, Long> {
+
+    Optional<StoredBlob> findBySha256(String sha256);
+
+    @Modifying
+    @Query("UPDATE StoredBlob b SET b.refCount = b.refCount + 1 WHERE b.sha256 = :sha256")
+    int incrementRefCount(@Param("sha256") String sha256);
+
+    @Modifying
+    @Query("UPDATE StoredBlob b SET b.refCount = b.refCount - 1 WHERE b.sha256 = :sha256 AND b.refCount > 0")
+    int decrementRefCount(@Param("sha256") String sha256);
+
+    // 참조가 없는 항목 삭제
+    @Modifying
+    @Query("DELETE FROM StoredBlob b WHERE b.sha256 = :sha256 AND b.refCount <= 0")
+    int deleteUnreferenced(@Param("sha256") String sha256);
+}
@@ -1,13 +1,22 @@
 package com.example.demo.repository;
 
 import com.example.demo.entity.VideoAttachment;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
 public interface VideoAttachmentRepository extends JpaRepository<VideoAttachment, Long> {
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "video_attachment-query")
+    })
     List<VideoAttachment> findByVideoId(Long videoId);
+
     void deleteByVideoId(Long videoId);
 }
\ No newline at end of file
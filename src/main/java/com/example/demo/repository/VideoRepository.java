@@ -1,17 +1,36 @@
 package com.example.demo.repository;
 
 import com.example.demo.entity.Video;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
-public interface VideoRepository extends JpaRepository<Video, Long> {
+public interface VideoRepository extends JpaRepository<Video, Long>, JpaSpecificationExecutor<Video> {
 
     @Query("SELECT v FROM Video v ORDER BY v.pinned DESC, v.createdAt DESC")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "video-query")
+    })
     List<Video> findAllOrderByPinnedAndCreatedAt();
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "video-query")
+    })
     List<Video> findByStatusOrderByPinnedDescCreatedAtDesc(String status);
-}
\ No newline at end of file
+
+    // 조건 검색 전체 목록: 2차 캐시에서 읽기만 하고 넣지는 않는다 (큰 목록이 상세 화면에서 자주 보는 글을 밀어내지 않도록)
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "GET"))
+    List<Video> findAll(Specification<Video> spec, Sort sort);
+}
@@ -1,13 +1,29 @@
 package com.example.demo.repository;
 
 import com.example.demo.entity.VisitAttachment;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface VisitAttachmentRepository extends JpaRepository<VisitAttachment, Long> {
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "visit_attachment-query")
+    })
     List<VisitAttachment> findByVisitId(Long visitId);
+
     void deleteByVisitId(Long visitId);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "visit_attachment-query")
+    })
+    List<VisitAttachment> findByVisitIdInAndIsRepresentativeTrue(Collection<Long> visitIds);
 }
\ No newline at end of file
@@ -3,13 +3,13 @@ package com.example.demo.service;
 import com.example.demo.entity.Award;
 import com.example.demo.repository.AwardRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
@@ -21,6 +21,20 @@ public class AwardService {
     @Autowired
     private AwardRepository awardRepository;
 
+    @Autowired
+    private ListCacheService listCacheService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private UploadMetrics uploadMetrics;
+
+    @Autowired
+    private FileDeletionService fileDeletionService;
+
+    private static final String BOARD = "award";
+
     private final String uploadDir = "uploads/awards/";
 
     // 허용된 확장자
@@ -30,7 +44,7 @@ public class AwardService {
     private final String allowedSpecialChars = "!@#$%^&*()_+-=[]{}|;:',.<>?/~`\" ";
 
     public List<Award> getAllAwards() {
-        return awardRepository.findAllByOrderByYearDesc();
+        return listCacheService.get(BOARD, List.of("all"), awardRepository::findAllByOrderByYearDesc);
     }
 
     public Optional<Award> getAwardById(Long id) {
@@ -67,15 +81,19 @@ public class AwardService {
             // 확장자 검증
             String extension = getFileExtension(originalFileName);
             if (!isAllowedExtension(extension)) {
+                uploadMetrics.recordRejected(BOARD, extension);
                 throw new IllegalArgumentException("허용되지 않은 파일 형식입니다. (jpg, jpeg, png, svg만 가능)");
             }
 
             String fileName = saveFile(imageFile);
+            uploadMetrics.recordUploaded(BOARD, new MultipartFile[]{imageFile});
             award.setImageFileName(originalFileName);
             award.setImageFilePath(uploadDir + fileName);
         }
 
-        return awardRepository.save(award);
+        Award savedAward = awardRepository.save(award);
+        eventPublisher.publishEvent(new BoardChangedEvent(BOARD, savedAward.getId()));
+        return savedAward;
     }
 
     // 제목 유효성 검사 (영문, 숫자, 한글, 허용된 특수문자만)
@@ -120,7 +138,7 @@ public class AwardService {
         String originalFileName = file.getOriginalFilename();
         String fileName = System.currentTimeMillis() + "_" + originalFileName;
         Path filePath = Paths.get(uploadDir + fileName);
-        Files.write(filePath, file.getBytes());
+        file.transferTo(filePath);
 
         return fileName;
     }
@@ -130,8 +148,9 @@ public class AwardService {
         Optional<Award> award = awardRepository.findById(id);
         if (award.isPresent()) {
             Award awardEntity = award.get();
-            deleteFile(awardEntity.getImageFilePath());
+            fileDeletionService.deleteAfterCommit(awardEntity.getImageFilePath());
             awardRepository.deleteById(id);
+            eventPublisher.publishEvent(new BoardChangedEvent(BOARD, id));
         }
     }
 
@@ -142,17 +161,7 @@ public class AwardService {
             Award awardEntity = award.get();
             awardEntity.setIsVisible(!awardEntity.getIsVisible());
             awardRepository.save(awardEntity);
-        }
-    }
-
-    private void deleteFile(String filePath) {
-        if (filePath != null) {
-            try {
-                Path path = Paths.get(filePath);
-                Files.deleteIfExists(path);
-            } catch (IOException e) {
-                e.printStackTrace();
-            }
+            eventPublisher.publishEvent(new BoardChangedEvent(BOARD, id));
         }
     }
 }
\ No newline at end of file
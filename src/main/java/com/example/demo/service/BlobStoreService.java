@@ -0,0 +1,282 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.StoredBlob;
+import com.example.demo.repository.StoredBlobRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 게시판 공용 첨부파일 저장소
+// 파일은 내용 SHA-256 으로 한 번만 저장하고, 첨부파일 행이 참조 수(ref_count)를 올리고 내린다.
+@Service
+public class BlobStoreService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int LOCK_STRIPES = 64;
+
+    @Autowired
+    private StoredBlobRepository blobRepository;
+
+    @Autowired
+    private FileDeletionService fileDeletionService;
+
+    @Autowired
+    private FileIoExecutor fileIoExecutor;
+
+    private final String blobDir = "uploads/blobs/";
+    private final String stagingDir = "uploads/tmp/";
+
+    private final TransactionTemplate requiresNew;
+    private final TransactionTemplate required;
+
+    // 같은 해시에 대한 저장/삭제 직렬화
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+
+    @Autowired
+    public BlobStoreService(PlatformTransactionManager transactionManager) {
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.required = new TransactionTemplate(transactionManager);
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    // 업로드 파일 여러 개 저장 (이미 같은 내용이 있으면 참조 수만 증가, 결과는 files 와 같은 순서)
+    // 임시 파일 쓰기와 해시 계산은 파일 입출력 실행기에서 동시에 하고, 참조 수 반영은 DB 연결을 하나만 쓰도록 차례로 한다.
+    // 하나라도 실패하면 모든 임시 파일을 지우고 예외를 던진다. 이미 올린 참조는 호출한 트랜잭션이 롤백될 때 되돌린다.
+    public List<StoredBlob> storeAll(List<MultipartFile> files) throws IOException {
+        List<CompletableFuture<Staged>> pending = new ArrayList<>();
+        for (MultipartFile file : files) {
+            pending.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return stage(file);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, fileIoExecutor));
+        }
+
+        // 실패가 있어도 나머지가 끝날 때까지 기다려 임시 파일을 모두 회수한다
+        List<Staged> staged = new ArrayList<>();
+        Throwable failure = null;
+        for (CompletableFuture<Staged> future : pending) {
+            try {
+                staged.add(future.join());
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause();
+                } else {
+                    failure.addSuppressed(e.getCause());
+                }
+            }
+        }
+
+        try {
+            if (failure instanceof UncheckedIOException e) {
+                throw e.getCause();
+            } else if (failure instanceof RuntimeException e) {
+                throw e;
+            } else if (failure instanceof Error e) {
+                throw e;
+            }
+            List<StoredBlob> blobs = new ArrayList<>();
+            for (Staged file : staged) {
+                blobs.add(register(file));
+            }
+            return blobs;
+        } finally {
+            for (Staged file : staged) {
+                Files.deleteIfExists(file.path());
+            }
+        }
+    }
+
+    // 임시 파일 + 내용 해시
+    private record Staged(Path path, String sha256, long size) {
+    }
+
+    private Staged stage(MultipartFile file) throws IOException {
+        if (file instanceof StagedMultipartFile stagedFile && stagedFile.getSha256() != null) {
+            // 스트리밍 업로드는 수신 중에 이미 해시를 계산함
+            return new Staged(stagedFile.getStagedPath(), stagedFile.getSha256(), file.getSize());
+        }
+        Files.createDirectories(Paths.get(stagingDir));
+        Path staged = Paths.get(stagingDir + UUID.randomUUID());
+        try (InputStream in = file.getInputStream()) {
+            return new Staged(staged, copyAndHash(in, staged), file.getSize());
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(staged);
+            throw e;
+        }
+    }
+
+    // 참조 수 반영 (호출한 트랜잭션이 롤백되면 증가한 참조는 자동으로 되돌린다)
+    private StoredBlob register(Staged file) {
+        String sha256 = file.sha256();
+        StoredBlob blob = requiresNew.execute(status -> {
+            // 연결을 먼저 받은 뒤 잠근다 (잠근 채 연결을 기다리면 바깥 트랜잭션들이 풀을 다 잡고 있을 때 교착)
+            // 잠금은 이 트랜잭션이 커밋 / 롤백된 뒤에 푼다
+            ReentrantLock lock = lockFor(sha256);
+            lock.lock();
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int completion) {
+                    lock.unlock();
+                }
+            });
+            return acquire(sha256, file.path(), file.size());
+        });
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        requiresNew.executeWithoutResult(s -> decrement(sha256));
+                    }
+                }
+            });
+        }
+        return blob;
+    }
+
+    // 참조 해제 (호출한 트랜잭션에 참여, 참조가 0 이 되면 파일 삭제 대기열에 기록)
+    public void release(String sha256) {
+        if (sha256 == null) {
+            return;
+        }
+        required.executeWithoutResult(status -> decrement(sha256));
+    }
+
+    private StoredBlob acquire(String sha256, Path staged, long size) {
+        if (blobRepository.incrementRefCount(sha256) > 0) {
+            return blobRepository.findBySha256(sha256).orElseThrow();
+        }
+
+        String filePath = pathFor(sha256);
+        try {
+            Path target = Paths.get(filePath);
+            Files.createDirectories(target.getParent());
+            if (!Files.exists(target)) {
+                moveInto(staged, target);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("파일 저장 중 오류가 발생했습니다.", e);
+        }
+
+        StoredBlob blob = new StoredBlob();
+        blob.setSha256(sha256);
+        blob.setFilePath(filePath);
+        blob.setFileSize(size);
+        blob.setRefCount(1);
+        return blobRepository.save(blob);
+    }
+
+    private void decrement(String sha256) {
+        blobRepository.decrementRefCount(sha256);
+        if (blobRepository.deleteUnreferenced(sha256) > 0) {
+            fileDeletionService.deleteBlobAfterCommit(sha256, pathFor(sha256));
+        }
+    }
+
+    // 참조 없는 공용 저장소 파일 처리 (삭제 대기열 / 고아 파일 수거)
+    // 잠근 채 행이 없음을 다시 확인한 뒤에만 action 을 실행한다. 그 사이 같은 내용이 다시 등록되었으면 그 파일을 다시 쓰고 있으므로 건너뛴다.
+    boolean ifUnreferenced(String sha256, FileAction action) throws IOException {
+        try {
+            return Boolean.TRUE.equals(required.execute(status -> {
+                ReentrantLock lock = lockFor(sha256);
+                lock.lock();
+                try {
+                    if (blobRepository.findBySha256(sha256).isPresent()) {
+                        return false;
+                    }
+                    action.run(Paths.get(pathFor(sha256)));
+                    return true;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                } finally {
+                    lock.unlock();
+                }
+            }));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    interface FileAction {
+        void run(Path file) throws IOException;
+    }
+
+    private String copyAndHash(InputStream in, Path target) throws IOException {
+        MessageDigest digest = newDigest();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (OutputStream out = Files.newOutputStream(target)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+                out.write(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private void moveInto(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    // 공용 저장소 파일이면 내용 해시, 아니면 null
+    String hashOf(Path file) {
+        String name = file.getFileName().toString();
+        if (name.length() != 64 || !name.chars().allMatch(c -> (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f'))) {
+            return null;
+        }
+        Path expected = Paths.get(pathFor(name)).toAbsolutePath().normalize();
+        return expected.equals(file.toAbsolutePath().normalize()) ? name : null;
+    }
+
+    // uploads/blobs/ab/cd/abcd...
+    private String pathFor(String sha256) {
+        return blobDir + sha256.substring(0, 2) + "/" + sha256.substring(2, 4) + "/" + sha256;
+    }
+
+    private ReentrantLock lockFor(String sha256) {
+        return locks[Math.floorMod(sha256.hashCode(), LOCK_STRIPES)];
+    }
+
+    static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.demo.service;
+
+// 게시글 등록 / 수정 / 삭제 / 상태 변경 알림
+// board 는 테이블 이름 (notice, press, visit, video, award)
+public record BoardChangedEvent(String board, Long id) {
+}
@@ -0,0 +1,444 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.BoardPost;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+// 게시글 일괄 가져오기 (CSV / NDJSON 스트리밍)
+// 요청 본문을 한 행씩 읽어 화면 저장과 같은 규칙으로 검사하고, chunkSize 행마다 한 트랜잭션에서 batchSize 단위 JDBC batch 로 넣는다.
+// 잘못된 행은 건너뛰고 줄 번호와 함께 알려준다. 메모리에는 현재 chunk 만 둔다.
+//
+// 컬럼: title (필수), content, category (공지사항 / 보도자료), author, pinned, viewCount, startDate, endDate, createdAt
+@Service
+public class BoardImportService {
+
+    // 가져온 행 (검색 색인 / 대시보드 / 게시 상태 타이머에 엔티티 대신 넘긴다)
+    @Data
+    static class ImportRow implements BoardPost {
+        private int line;
+        private Long id;
+        private String title;
+        private String content;
+        private String category;
+        private String author;
+        private String status;
+        private boolean pinned;
+        private int viewCount;
+        private LocalDateTime startDate;
+        private LocalDateTime endDate;
+        private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private IdSequenceService idSequenceService;
+
+    @Autowired
+    private SearchIndexService searchIndexService;
+
+    @Autowired
+    private PublicationScheduler publicationScheduler;
+
+    @Autowired
+    private DashboardCounterService dashboardCounterService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${board.import.batch-size:500}")
+    private int defaultBatchSize;
+
+    @Value("${board.import.chunk-size:5000}")
+    private int defaultChunkSize;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public BoardImportService(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // 행 단위 결과는 events 로 바로 내보낸다 (type = error / progress / done)
+    public Map<String, Object> importPosts(BoardType board, String format, InputStream body,
+                                           Integer batchSize, Integer chunkSize,
+                                           Consumer<Map<String, Object>> events) throws IOException {
+        if (board == BoardType.VIDEO) {
+            throw new IllegalArgumentException("홍보영상은 영상 파일이 필요하므로 가져오기를 지원하지 않습니다.");
+        }
+        Iterator<Record> records = switch (format) {
+            case "csv" -> csvRecords(body);
+            case "ndjson" -> ndjsonRecords(body);
+            default -> throw new IllegalArgumentException("지원하지 않는 형식입니다: " + format);
+        };
+
+        Job job = new Job(board, events,
+                Math.max(1, Math.min(batchSize != null ? batchSize : defaultBatchSize, 10_000)),
+                Math.max(1, Math.min(chunkSize != null ? chunkSize : defaultChunkSize, 100_000)));
+        long started = System.nanoTime();
+
+        try {
+            while (records.hasNext()) {
+                Record record = records.next();
+                job.rows++;
+                try {
+                    if (record.error() != null) {
+                        throw new IllegalArgumentException(record.error());
+                    }
+                    job.chunk.add(toRow(board, record.line(), record.values(), LocalDateTime.now()));
+                } catch (IllegalArgumentException e) {
+                    job.fail(record.line(), e.getMessage());
+                }
+                if (job.chunk.size() >= job.chunkSize) {
+                    write(job);
+                }
+            }
+        } catch (ImportAbortedException e) {
+            // 형식 오류로 더 읽을 수 없음 (이미 넣은 chunk 는 유지)
+            job.fail(e.line, e.getMessage());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        if (!job.chunk.isEmpty()) {
+            write(job);
+        }
+
+        Map<String, Object> done = job.summary("done");
+        done.put("elapsedMs", (System.nanoTime() - started) / 1_000_000);
+        events.accept(done);
+        return done;
+    }
+
+    // 읽은 한 행 (줄 번호, 컬럼 값, 행 자체의 형식 오류)
+    private record Record(int line, Map<String, String> values, String error) {
+    }
+
+    private static final class Job {
+        final BoardType board;
+        final Consumer<Map<String, Object>> events;
+        final int batchSize;
+        final int chunkSize;
+        final List<ImportRow> chunk = new ArrayList<>();
+        long rows;
+        long imported;
+        long failed;
+        long nextId;
+        long blockEnd;
+
+        Job(BoardType board, Consumer<Map<String, Object>> events, int batchSize, int chunkSize) {
+            this.board = board;
+            this.events = events;
+            this.batchSize = batchSize;
+            this.chunkSize = chunkSize;
+        }
+
+        void fail(int line, String message) {
+            failed++;
+            Map<String, Object> event = new LinkedHashMap<>();
+            event.put("type", "error");
+            event.put("line", line);
+            event.put("message", message);
+            events.accept(event);
+        }
+
+        Map<String, Object> summary(String type) {
+            Map<String, Object> event = new LinkedHashMap<>();
+            event.put("type", type);
+            event.put("rows", rows);
+            event.put("imported", imported);
+            event.put("failed", failed);
+            return event;
+        }
+    }
+
+    // 한 chunk 를 한 트랜잭션으로 저장하고, 커밋 후 색인 / 대시보드 / 게시 상태 타이머 / 목록 캐시에 반영
+    private void write(Job job) {
+        BoardType board = job.board;
+        List<ImportRow> chunk = job.chunk;
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (ImportRow row : chunk) {
+                    if (job.nextId > job.blockEnd || job.nextId == 0) {
+                        job.nextId = idSequenceService.nextBlock(board.getTableName());
+                        job.blockEnd = job.nextId + IdSequenceService.ALLOCATION_SIZE - 1;
+                    }
+                    row.setId(job.nextId++);
+                }
+
+                jdbcTemplate.batchUpdate(insertSql(board), chunk, job.batchSize, (ps, row) -> {
+                    int i = 1;
+                    ps.setLong(i++, row.getId());
+                    ps.setString(i++, row.getTitle());
+                    ps.setString(i++, row.getContent());
+                    if (board.hasCategory()) {
+                        ps.setString(i++, row.getCategory());
+                    }
+                    ps.setString(i++, row.getAuthor());
+                    ps.setString(i++, row.getStatus());
+                    ps.setBoolean(i++, row.isPinned());
+                    ps.setInt(i++, row.getViewCount());
+                    ps.setTimestamp(i++, row.getStartDate() == null ? null : Timestamp.valueOf(row.getStartDate()));
+                    ps.setTimestamp(i++, row.getEndDate() == null ? null : Timestamp.valueOf(row.getEndDate()));
+                    ps.setTimestamp(i++, Timestamp.valueOf(row.getCreatedAt()));
+                    ps.setTimestamp(i, Timestamp.valueOf(row.getUpdatedAt()));
+                });
+
+                for (ImportRow row : chunk) {
+                    searchIndexService.indexAfterCommit(board, row);
+                    publicationScheduler.scheduleAfterCommit(board, row.getId(), row.getStartDate(), row.getEndDate());
+                    dashboardCounterService.savedAfterCommit(board, null, row);
+                }
+                eventPublisher.publishEvent(new BoardChangedEvent(board.getTableName(), null));
+            });
+            job.imported += chunk.size();
+        } catch (DataAccessException | TransactionException e) {
+            String message = "저장 실패: " + e.getMostSpecificCause().getMessage();
+            for (ImportRow row : chunk) {
+                job.fail(row.getLine(), message);
+            }
+        }
+        chunk.clear();
+        job.events.accept(job.summary("progress"));
+    }
+
+    private String insertSql(BoardType board) {
+        return "INSERT INTO " + board.getTableName() + " (id, title, content, "
+                + (board.hasCategory() ? "category, " : "")
+                + "author, status, pinned, view_count, start_date, end_date, created_at, updated_at, attachment_count)"
+                + " VALUES (?, ?, ?, " + (board.hasCategory() ? "?, " : "") + "?, ?, ?, ?, ?, ?, ?, ?, 0)";
+    }
+
+    // 한 행 검사 (saveNotice 등과 같은 규칙 + 컬럼 길이)
+    private ImportRow toRow(BoardType board, int line, Map<String, String> values, LocalDateTime now) {
+        ImportRow row = new ImportRow();
+        row.setLine(line);
+
+        String title = text(values.get("title"));
+        if (title == null) {
+            throw new IllegalArgumentException("제목은 필수입니다.");
+        }
+        row.setTitle(checkLength("제목", title, PostRules.TITLE_LENGTH));
+        row.setContent(values.get("content"));
+        if (board.hasCategory()) {
+            row.setCategory(checkLength("분류", text(values.get("category")), PostRules.CATEGORY_LENGTH));
+        }
+        row.setAuthor(checkLength("작성자", text(values.get("author")), PostRules.AUTHOR_LENGTH));
+        row.setPinned(toBoolean(values.get("pinned")));
+        row.setViewCount(toCount(values.get("viewcount")));
+
+        row.setStartDate(toDateTime("게시 시작일", values.get("startdate")));
+        row.setEndDate(toDateTime("게시 종료일", values.get("enddate")));
+        PostRules.validatePeriod(row.getStartDate(), row.getEndDate());
+        row.setStatus(PostRules.statusOf(row.getStartDate(), row.getEndDate(), now));
+
+        LocalDateTime createdAt = toDateTime("작성일", values.get("createdat"));
+        row.setCreatedAt(createdAt != null ? createdAt : now);
+        // 검색 색인 스냅샷 보충 기준 (updated_at) 에 걸리도록 가져온 시각으로 둔다
+        row.setUpdatedAt(now);
+        return row;
+    }
+
+    private static String text(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return null;
+        }
+        return value.trim();
+    }
+
+    private static String checkLength(String label, String value, int max) {
+        if (value != null && value.length() > max) {
+            throw new IllegalArgumentException(label + "은(는) " + max + "자 이하여야 합니다.");
+        }
+        return value;
+    }
+
+    private static boolean toBoolean(String value) {
+        String v = text(value);
+        if (v == null) {
+            return false;
+        }
+        return switch (v.toLowerCase()) {
+            case "true", "1", "y", "yes" -> true;
+            case "false", "0", "n", "no" -> false;
+            default -> throw new IllegalArgumentException("pinned 값이 올바르지 않습니다: " + value);
+        };
+    }
+
+    private static int toCount(String value) {
+        String v = text(value);
+        if (v == null) {
+            return 0;
+        }
+        try {
+            int count = Integer.parseInt(v);
+            if (count < 0) {
+                throw new NumberFormatException();
+            }
+            return count;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("조회수는 0 이상의 정수여야 합니다: " + value);
+        }
+    }
+
+    // 2024-01-31, 2024-01-31T09:00, 2024-01-31 09:00:00 (화면 입력 형식 포함)
+    private static LocalDateTime toDateTime(String label, String value) {
+        String v = text(value);
+        if (v == null) {
+            return null;
+        }
+        try {
+            if (v.length() == 10) {
+                return LocalDate.parse(v).atStartOfDay();
+            }
+            if (v.length() > 10 && v.charAt(10) == ' ') {
+                v = v.substring(0, 10) + "T" + v.substring(11);
+            }
+            return LocalDateTime.parse(v);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(label + " 형식이 올바르지 않습니다: " + value);
+        }
+    }
+
+    // 컬럼 이름 정규화 (view_count, viewCount → viewcount)
+    private static String column(String name) {
+        return name.replace("\uFEFF", "").replace("_", "").trim().toLowerCase();
+    }
+
+    // 줄 번호 → 컬럼 값
+    private Iterator<Record> csvRecords(InputStream body) throws IOException {
+        CsvReader csv = new CsvReader(new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8)));
+        List<String> header = csv.next();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV 머리글(컬럼 이름) 행이 없습니다.");
+        }
+        List<String> columns = header.stream().map(BoardImportService::column).toList();
+        if (!columns.contains("title")) {
+            throw new IllegalArgumentException("CSV 머리글에 title 컬럼이 없습니다.");
+        }
+
+        return new RecordIterator() {
+            @Override
+            Record read() throws IOException {
+                List<String> fields;
+                try {
+                    fields = csv.next();
+                } catch (IllegalArgumentException e) {
+                    throw new ImportAbortedException(csv.getRecordLine(), e.getMessage());
+                }
+                if (fields == null) {
+                    return null;
+                }
+                Map<String, String> values = new HashMap<>();
+                for (int i = 0; i < columns.size() && i < fields.size(); i++) {
+                    values.put(columns.get(i), fields.get(i));
+                }
+                return new Record(csv.getRecordLine(), values, null);
+            }
+        };
+    }
+
+    private Iterator<Record> ndjsonRecords(InputStream body) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        int[] line = {0};
+
+        return new RecordIterator() {
+            @Override
+            Record read() throws IOException {
+                String text;
+                while ((text = reader.readLine()) != null) {
+                    line[0]++;
+                    if (text.isBlank()) {
+                        continue;
+                    }
+                    JsonNode node;
+                    try {
+                        node = objectMapper.readTree(text);
+                    } catch (JsonProcessingException e) {
+                        return new Record(line[0], null, "JSON 형식이 올바르지 않습니다: " + e.getOriginalMessage());
+                    }
+                    if (!node.isObject()) {
+                        return new Record(line[0], null, "JSON 객체가 아닙니다.");
+                    }
+                    Map<String, String> values = new HashMap<>();
+                    node.properties().forEach(field -> values.put(column(field.getKey()),
+                            field.getValue().isNull() ? null
+                                    : field.getValue().isValueNode() ? field.getValue().asText()
+                                    : field.getValue().toString()));
+                    return new Record(line[0], values, null);
+                }
+                return null;
+            }
+        };
+    }
+
+    // 한 건씩 미리 읽는 반복자 (IOException 은 그대로 올린다)
+    private abstract static class RecordIterator implements Iterator<Record> {
+
+        private Record next;
+        private boolean fetched;
+
+        abstract Record read() throws IOException;
+
+        @Override
+        public boolean hasNext() {
+            if (!fetched) {
+                try {
+                    next = read();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                fetched = true;
+            }
+            return next != null;
+        }
+
+        @Override
+        public Record next() {
+            hasNext();
+            fetched = false;
+            return next;
+        }
+    }
+
+    private static final class ImportAbortedException extends RuntimeException {
+        final int line;
+
+        ImportAbortedException(int line, String message) {
+            super(message);
+            this.line = line;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.demo.service;
+
+// 게시판 구분 (테이블 이름과 1:1)
+public enum BoardType {
+
+    NOTICE("notice", true),
+    PRESS("press", true),
+    VISIT("visit", false),
+    VIDEO("video", false);
+
+    private final String tableName;
+    private final boolean hasCategory;
+
+    BoardType(String tableName, boolean hasCategory) {
+        this.tableName = tableName;
+        this.hasCategory = hasCategory;
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    // category 컬럼 여부
+    public boolean hasCategory() {
+        return hasCategory;
+    }
+
+    public String getAttachmentTableName() {
+        return tableName + "_attachment";
+    }
+
+    // URL 경로의 게시판 이름 (notice, press ...) → BoardType
+    public static BoardType fromTableName(String name) {
+        for (BoardType board : values()) {
+            if (board.tableName.equals(name)) {
+                return board;
+            }
+        }
+        throw new IllegalArgumentException("존재하지 않는 게시판입니다: " + name);
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.demo.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+// 스트리밍 CSV 읽기 (RFC 4180: 큰따옴표 묶음, "" 이스케이프, 필드 안 줄바꿈)
+// 한 번에 한 행만 메모리에 둔다. 엑셀이 붙이는 맨 앞 BOM 은 건너뛴다.
+class CsvReader {
+
+    private final Reader reader;
+    private int line = 1;
+    private int recordLine;
+    private int pending = -2;
+    private boolean started;
+
+    CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    // 마지막으로 읽은 행이 시작된 줄 번호
+    int getRecordLine() {
+        return recordLine;
+    }
+
+    // 다음 행 (끝이면 null)
+    List<String> next() throws IOException {
+        int c = read();
+        // 빈 줄 건너뛰기
+        while (c == '\r' || c == '\n') {
+            c = read();
+        }
+        if (c == -1) {
+            return null;
+        }
+        recordLine = line;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean wasQuoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IllegalArgumentException(recordLine + "번째 줄: 닫히지 않은 큰따옴표가 있습니다.");
+                }
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty() && !wasQuoted) {
+                quoted = true;
+                wasQuoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                wasQuoted = false;
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    int next = read();
+                    if (next != '\n') {
+                        pending = next;
+                    }
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    private int read() throws IOException {
+        int c;
+        if (pending != -2) {
+            c = pending;
+            pending = -2;
+        } else {
+            c = reader.read();
+            if (!started) {
+                started = true;
+                if (c == '\uFEFF') {
+                    c = reader.read();
+                }
+            }
+        }
+        if (c == '\n') {
+            line++;
+        }
+        return c;
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.demo.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+// CSV 쓰기 (RFC 4180, CRLF)
+// 엑셀에서 한글이 깨지지 않도록 UTF-8 BOM 을 붙이고, 수식으로 해석될 수 있는 값(=, +, -, @ 로 시작)은 ' 를 앞에 붙인다.
+class CsvWriter implements SheetWriter {
+
+    private final Writer writer;
+
+    CsvWriter(OutputStream out) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        writer.write('\uFEFF');
+    }
+
+    @Override
+    public void writeRow(List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = values.get(i);
+            writer.write(value instanceof Number ? value.toString() : escape(SheetWriter.text(value)));
+        }
+        writer.write("\r\n");
+    }
+
+    private static String escape(String value) {
+        if (!value.isEmpty() && "=+-@".indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\r') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.demo.service;
+
+import java.util.List;
+
+// 커서 기반 목록 조회 결과
+public record CursorPage<T>(List<T> items, String nextCursor, boolean hasNext) {
+}
@@ -0,0 +1,246 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.BoardPost;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 대시보드 집계 (게시판별 전체 / 상태별 / 분류별 / 오늘 등록 / 오늘 조회)
+// 저장 / 삭제 / 상태 전환 / 조회 시 증감하고, 주기적으로 테이블별 GROUP BY 한 번으로 맞춘다.
+// 오늘 조회수는 DB 에 일자별 기록이 없으므로 메모리 집계만 한다 (재시작 시 0).
+@Service
+public class DashboardCounterService {
+
+    private static final class Counters {
+        final AtomicLong total = new AtomicLong();
+        final Map<String, AtomicLong> byStatus = new ConcurrentHashMap<>();
+        final Map<String, AtomicLong> byCategory = new ConcurrentHashMap<>();
+        final AtomicLong todayNew = new AtomicLong();
+        final AtomicLong todayViews = new AtomicLong();
+
+        void add(Map<String, AtomicLong> map, String key, long delta) {
+            if (key != null) {
+                map.computeIfAbsent(key, k -> new AtomicLong()).addAndGet(delta);
+            }
+        }
+    }
+
+    // 수정 전 상태 / 분류
+    public record PostState(String status, String category) {
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final Map<BoardType, AtomicReference<Counters>> counters = new ConcurrentHashMap<>();
+    private volatile LocalDate today = LocalDate.now();
+
+    // 응답용 스냅샷 (변경이 있을 때만 다시 만든다)
+    private volatile Map<String, Object> snapshot;
+
+    public DashboardCounterService() {
+        for (BoardType board : BoardType.values()) {
+            counters.put(board, new AtomicReference<>(new Counters()));
+        }
+    }
+
+    // 저장 전 DB 의 상태 / 분류 (신규 글이면 null)
+    // 영속성 컨텍스트의 엔티티는 이미 화면 값으로 바뀌어 있을 수 있어 DB 에서 직접 읽는다.
+    public PostState stateOf(BoardType board, Long id) {
+        if (id == null) {
+            return null;
+        }
+        String category = board.hasCategory() ? "category" : "NULL AS category";
+        return jdbcTemplate.query(
+                "SELECT status, " + category + " FROM " + board.getTableName() + " WHERE id = ?",
+                rs -> rs.next() ? new PostState(rs.getString("status"), rs.getString("category")) : null,
+                id);
+    }
+
+    // 저장 커밋 후 반영
+    public void savedAfterCommit(BoardType board, PostState previous, BoardPost post) {
+        AfterCommit.run(() -> {
+            if (previous == null) {
+                created(board, post);
+            } else {
+                updated(board, previous.status(), previous.category(), post);
+            }
+        });
+    }
+
+    // 삭제 커밋 후 반영
+    public void deletedAfterCommit(BoardType board, BoardPost post) {
+        AfterCommit.run(() -> deleted(board, post));
+    }
+
+    // 등록
+    public void created(BoardType board, BoardPost post) {
+        Counters c = counters(board);
+        c.total.incrementAndGet();
+        c.add(c.byStatus, post.getStatus(), 1);
+        c.add(c.byCategory, post.getCategory(), 1);
+        if (isToday(post.getCreatedAt())) {
+            c.todayNew.incrementAndGet();
+        }
+        snapshot = null;
+    }
+
+    // 수정 (상태 / 분류 이동)
+    public void updated(BoardType board, String oldStatus, String oldCategory, BoardPost post) {
+        Counters c = counters(board);
+        c.add(c.byStatus, oldStatus, -1);
+        c.add(c.byStatus, post.getStatus(), 1);
+        c.add(c.byCategory, oldCategory, -1);
+        c.add(c.byCategory, post.getCategory(), 1);
+        snapshot = null;
+    }
+
+    // 삭제
+    public void deleted(BoardType board, BoardPost post) {
+        Counters c = counters(board);
+        c.total.decrementAndGet();
+        c.add(c.byStatus, post.getStatus(), -1);
+        c.add(c.byCategory, post.getCategory(), -1);
+        if (isToday(post.getCreatedAt())) {
+            c.todayNew.decrementAndGet();
+        }
+        snapshot = null;
+    }
+
+    // 게시 상태 자동 전환 (전환 전후 상태별 건수 차이)
+    public void statusShifted(BoardType board, Map<String, Long> before, Map<String, Long> after) {
+        Counters c = counters(board);
+        before.forEach((status, count) -> c.add(c.byStatus, status, -count));
+        after.forEach((status, count) -> c.add(c.byStatus, status, count));
+        snapshot = null;
+    }
+
+    // 조회
+    public void viewed(BoardType board) {
+        counters(board).todayViews.incrementAndGet();
+        snapshot = null;
+    }
+
+    public Map<String, Object> getSnapshot() {
+        rollOverIfNeeded();
+        Map<String, Object> current = snapshot;
+        if (current == null) {
+            current = buildSnapshot();
+            snapshot = current;
+        }
+        return current;
+    }
+
+    // DB 기준으로 다시 맞추기 (테이블별 GROUP BY 한 번)
+    // 기동 시에는 게시 상태 보정(PublicationScheduler) 다음에 실행
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @Scheduled(fixedDelayString = "${board.dashboard.reconcile-interval-ms:300000}",
+            initialDelayString = "${board.dashboard.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        rollOverIfNeeded();
+        Timestamp startOfDay = Timestamp.valueOf(today.atStartOfDay());
+        for (BoardType board : BoardType.values()) {
+            String category = board.hasCategory() ? "category" : "NULL";
+            Counters fresh = new Counters();
+            jdbcTemplate.query(
+                    "SELECT status, " + category + " AS category, COUNT(*) AS cnt,"
+                            + " SUM(CASE WHEN created_at >= ? THEN 1 ELSE 0 END) AS today_cnt"
+                            + " FROM " + board.getTableName() + " GROUP BY status, " + category,
+                    rs -> {
+                        long count = rs.getLong("cnt");
+                        fresh.total.addAndGet(count);
+                        fresh.add(fresh.byStatus, rs.getString("status"), count);
+                        fresh.add(fresh.byCategory, rs.getString("category"), count);
+                        fresh.todayNew.addAndGet(rs.getLong("today_cnt"));
+                    },
+                    startOfDay);
+
+            Counters previous = counters.get(board).getAndSet(fresh);
+            fresh.todayViews.addAndGet(previous.todayViews.get());
+        }
+        snapshot = null;
+    }
+
+    // 날짜가 바뀌면 오늘 집계 초기화
+    private void rollOverIfNeeded() {
+        LocalDate now = LocalDate.now();
+        if (!now.equals(today)) {
+            synchronized (this) {
+                if (!now.equals(today)) {
+                    for (AtomicReference<Counters> ref : counters.values()) {
+                        ref.get().todayNew.set(0);
+                        ref.get().todayViews.set(0);
+                    }
+                    today = now;
+                    snapshot = null;
+                }
+            }
+        }
+    }
+
+    private boolean isToday(LocalDateTime time) {
+        return time != null && time.toLocalDate().equals(today);
+    }
+
+    private Counters counters(BoardType board) {
+        rollOverIfNeeded();
+        return counters.get(board).get();
+    }
+
+    private Map<String, Object> buildSnapshot() {
+        Map<String, Object> boards = new LinkedHashMap<>();
+        long total = 0;
+        long todayNew = 0;
+        long todayViews = 0;
+        for (BoardType board : BoardType.values()) {
+            Counters c = counters.get(board).get();
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("total", c.total.get());
+            item.put("byStatus", toMap(c.byStatus));
+            if (board.hasCategory()) {
+                item.put("byCategory", toMap(c.byCategory));
+            }
+            item.put("todayNew", c.todayNew.get());
+            item.put("todayViews", c.todayViews.get());
+            boards.put(board.getTableName(), item);
+
+            total += c.total.get();
+            todayNew += c.todayNew.get();
+            todayViews += c.todayViews.get();
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("date", today.toString());
+        result.put("total", total);
+        result.put("todayNew", todayNew);
+        result.put("todayViews", todayViews);
+        result.put("boards", boards);
+        return result;
+    }
+
+    private Map<String, Long> toMap(Map<String, AtomicLong> source) {
+        Map<String, Long> result = new TreeMap<>();
+        source.forEach((key, value) -> {
+            if (value.get() != 0) {
+                result.put(key, value.get());
+            }
+        });
+        return result;
+    }
+}
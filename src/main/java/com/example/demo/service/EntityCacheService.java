@@ -0,0 +1,120 @@
+package com.example.demo.service;
+
+import com.example.demo.EntityCacheConfig;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Table;
+import jakarta.persistence.metamodel.EntityType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.cache.CacheManager;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+// Hibernate 2차 캐시 무효화 / 영역별 통계
+// JPA 로 저장 / 삭제하면 Hibernate 가 캐시를 고치지만, JDBC 로 직접 바꾸는 곳
+// (조회수 반영, 썸네일 경로, 게시 상태 전환, 일괄 가져오기)은 Hibernate 가 모르므로 여기서 비운다.
+// 비운 직후 다른 요청이 바뀌기 전 값을 읽어 다시 넣을 수 있어, 영역 만료 시간(ttl-seconds)이 마지막 안전장치다.
+@Service
+public class EntityCacheService {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheManager entityCacheManager;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    // 테이블 이름 → 캐시되는 엔티티 클래스
+    private final Map<String, Class<?>> entityTypes = new HashMap<>();
+
+    @PostConstruct
+    public void init() {
+        for (EntityType<?> entityType : entityManagerFactory.getMetamodel().getEntities()) {
+            Class<?> type = entityType.getJavaType();
+            Table table = type.getAnnotation(Table.class);
+            if (table != null && EntityCacheConfig.ENTITY_REGIONS.contains(table.name())) {
+                entityTypes.put(table.name(), type);
+            }
+        }
+        // 영역별 적중 / 실패 / 내보냄 (/actuator/prometheus 의 cache_gets 등, cache 태그 = 영역 이름)
+        for (String region : entityCacheManager.getCacheNames()) {
+            CaffeineCacheMetrics.monitor(registry, nativeCache(region), region);
+        }
+    }
+
+    // JDBC 로 바꾼 행
+    public void evict(String table, Long id) {
+        evict(table, List.of(id));
+    }
+
+    public void evict(String table, Collection<Long> ids) {
+        Class<?> type = entityTypes.get(table);
+        if (type == null) {
+            return;
+        }
+        for (Long id : ids) {
+            entityManagerFactory.getCache().evict(type, id);
+        }
+    }
+
+    // JDBC 로 여러 행을 바꾸거나 넣은 테이블: 엔티티와 그 테이블의 쿼리 결과를 모두 비운다
+    public void evictAll(String table) {
+        Class<?> type = entityTypes.get(table);
+        if (type == null) {
+            return;
+        }
+        org.hibernate.Cache cache = entityManagerFactory.getCache().unwrap(org.hibernate.Cache.class);
+        cache.evictEntityData(type);
+        cache.evictQueryRegion(table + EntityCacheConfig.QUERY_SUFFIX);
+    }
+
+    // 게시글 한 건을 JPA 로 바꾼 경우(id 있음)는 Hibernate 가 이미 반영했으므로 id 없는 일괄 변경만 비운다
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardChanged(BoardChangedEvent event) {
+        if (event.id() == null) {
+            evictAll(event.board());
+        }
+    }
+
+    // 영역별 적중 / 실패 통계
+    public Map<String, Object> getStats() {
+        Map<String, Object> result = new TreeMap<>();
+        for (String region : entityCacheManager.getCacheNames()) {
+            Cache<?, ?> cache = nativeCache(region);
+            CacheStats stats = cache.stats();
+            long requests = stats.requestCount();
+
+            Map<String, Object> regionStats = new LinkedHashMap<>();
+            regionStats.put("hits", stats.hitCount());
+            regionStats.put("misses", stats.missCount());
+            regionStats.put("hitRatio", requests == 0 ? 0.0 : (double) stats.hitCount() / requests);
+            regionStats.put("evictions", stats.evictionCount());
+            regionStats.put("entries", cache.estimatedSize());
+            cache.policy().eviction().map(Policy.Eviction::getMaximum)
+                    .ifPresent(maximum -> regionStats.put("maxEntries", maximum));
+            cache.policy().expireAfterWrite().map(expiration -> expiration.getExpiresAfter(TimeUnit.SECONDS))
+                    .ifPresent(ttl -> regionStats.put("ttlSeconds", ttl));
+            result.put(region, regionStats);
+        }
+        return result;
+    }
+
+    private Cache<?, ?> nativeCache(String region) {
+        return entityCacheManager.getCache(region).unwrap(Cache.class);
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.Notice;
+import com.example.demo.entity.Press;
+import com.example.demo.entity.User;
+import com.example.demo.repository.BoardSpecifications;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.servlet.http.HttpServletResponse;
+import org.hibernate.CacheMode;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+// 목록 내보내기 (CSV / XLSX)
+// 목록 화면과 같은 검색 조건으로 DB 커서를 열고(fetch size 고정), 한 행씩 읽어 바로 응답에 쓴다.
+// 쓴 엔티티는 영속성 컨텍스트에서 떼어내므로 행 수와 관계없이 메모리 사용량이 일정하다.
+@Service
+public class ExportService {
+
+    // 내보낼 컬럼 (머리글, 값)
+    private record Column<T>(String header, Function<T, Object> value) {
+    }
+
+    private static final List<Column<Notice>> NOTICE_COLUMNS = List.of(
+            new Column<>("번호", Notice::getId),
+            new Column<>("분류", Notice::getCategory),
+            new Column<>("제목", Notice::getTitle),
+            new Column<>("작성자", Notice::getAuthor),
+            new Column<>("상태", Notice::getStatus),
+            new Column<>("고정", Notice::getPinned),
+            new Column<>("조회수", Notice::getViewCount),
+            new Column<>("첨부파일", Notice::getAttachmentCount),
+            new Column<>("게시 시작일", Notice::getStartDate),
+            new Column<>("게시 종료일", Notice::getEndDate),
+            new Column<>("작성일", Notice::getCreatedAt),
+            new Column<>("수정일", Notice::getUpdatedAt));
+
+    private static final List<Column<Press>> PRESS_COLUMNS = List.of(
+            new Column<>("번호", Press::getId),
+            new Column<>("분류", Press::getCategory),
+            new Column<>("제목", Press::getTitle),
+            new Column<>("작성자", Press::getAuthor),
+            new Column<>("상태", Press::getStatus),
+            new Column<>("고정", Press::getPinned),
+            new Column<>("조회수", Press::getViewCount),
+            new Column<>("첨부파일", Press::getAttachmentCount),
+            new Column<>("게시 시작일", Press::getStartDate),
+            new Column<>("게시 종료일", Press::getEndDate),
+            new Column<>("작성일", Press::getCreatedAt),
+            new Column<>("수정일", Press::getUpdatedAt));
+
+    // 비밀번호는 내보내지 않는다
+    private static final List<Column<User>> USER_COLUMNS = List.of(
+            new Column<>("번호", User::getId),
+            new Column<>("아이디", User::getUserId),
+            new Column<>("이름", User::getName),
+            new Column<>("이메일", User::getEmail),
+            new Column<>("연락처", User::getPhone),
+            new Column<>("소속 부서", User::getDepartment),
+            new Column<>("그룹", User::getGroup),
+            new Column<>("계정 상태", User::getAccountStatus),
+            new Column<>("마지막 접속", User::getLastLogin),
+            new Column<>("등록일", User::getCreatedAt));
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private SearchIndexService searchIndexService;
+
+    @Autowired
+    private UserService userService;
+
+    @Value("${board.export.fetch-size:500}")
+    private int fetchSize;
+
+    // 공지사항 (searchNoticesAdvanced 와 같은 조건 / 정렬)
+    @Transactional(readOnly = true)
+    public void exportNotices(String format, String searchType, String keyword,
+                              String category, String status,
+                              String startDate, String endDate,
+                              HttpServletResponse response) throws IOException {
+        Specification<Notice> spec = filters(category, status, startDate, endDate);
+        export(Notice.class, spec.and(searchIndexService.keywordFilter(BoardType.NOTICE, searchType, keyword)),
+                BoardSpecifications.LIST_SORT, NOTICE_COLUMNS, format, "공지사항", "notice", response);
+    }
+
+    // 보도자료 (searchPressAdvanced 와 같은 조건 / 정렬)
+    @Transactional(readOnly = true)
+    public void exportPress(String format, String searchType, String keyword,
+                            String status, String startDate, String endDate,
+                            HttpServletResponse response) throws IOException {
+        Specification<Press> spec = filters(null, status, startDate, endDate);
+        export(Press.class, spec.and(searchIndexService.keywordFilter(BoardType.PRESS, searchType, keyword)),
+                BoardSpecifications.LIST_SORT, PRESS_COLUMNS, format, "보도자료", "press", response);
+    }
+
+    // 사용자 (searchUsers 와 같은 조건, 등록일 역순)
+    @Transactional(readOnly = true)
+    public void exportUsers(String format, String keyword, HttpServletResponse response) throws IOException {
+        export(User.class, userService.searchFilter(keyword), Sort.by(Sort.Order.desc("createdAt")),
+                USER_COLUMNS, format, "사용자", "users", response);
+    }
+
+    private <T> Specification<T> filters(String category, String status, String startDate, String endDate) {
+        try {
+            return BoardSpecifications.filters(category, status, startDate, endDate);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("날짜 형식이 올바르지 않습니다: " + e.getParsedString());
+        }
+    }
+
+    private <T> void export(Class<T> type, Specification<T> spec, Sort sort, List<Column<T>> columns,
+                            String format, String sheetName, String fileName,
+                            HttpServletResponse response) throws IOException {
+        format = format.trim().toLowerCase();
+        String contentType = SheetWriter.contentType(format);
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = cb.createQuery(type);
+        Root<T> root = query.from(type);
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        response.setContentType(contentType);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(fileName + "-" + LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE) + "." + format)
+                .build().toString());
+
+        List<String> header = columns.stream().map(Column::header).toList();
+        try (Stream<T> rows = entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                // 전체 행을 한 번 읽고 끝나므로 2차 캐시를 거치지 않는다 (자주 보는 글이 밀려나지 않도록)
+                .setHint(HibernateHints.HINT_CACHE_MODE, CacheMode.IGNORE)
+                .getResultStream();
+             SheetWriter writer = SheetWriter.open(format, response.getOutputStream(), sheetName, header)) {
+            Iterator<T> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                T row = iterator.next();
+                writer.writeRow(columns.stream().map(column -> column.value().apply(row)).toList());
+                entityManager.detach(row);
+            }
+        }
+    }
+}
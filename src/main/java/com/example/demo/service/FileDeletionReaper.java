@@ -0,0 +1,86 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.PendingFileDeletion;
+import com.example.demo.repository.PendingFileDeletionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+// 파일 삭제 대기열 처리
+// 커밋된 삭제 기록을 오래된 순으로 batchSize 개씩 읽어 파일을 지우고, 처리한 기록은 한 번에 지운다.
+// 실패한 항목은 실패 횟수만 올려 다음 주기에 다시 시도하고, maxAttempts 번 실패하면 더 시도하지 않는다 (행은 남겨 둠).
+@Service
+public class FileDeletionReaper {
+
+    private static final Logger log = LoggerFactory.getLogger(FileDeletionReaper.class);
+
+    @Autowired
+    private PendingFileDeletionRepository pendingFileDeletionRepository;
+
+    @Autowired
+    private BlobStoreService blobStoreService;
+
+    @Value("${board.file-deletion.batch-size:200}")
+    private int batchSize;
+
+    @Value("${board.file-deletion.max-attempts:10}")
+    private int maxAttempts;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public FileDeletionReaper(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${board.file-deletion.interval-ms:2000}")
+    public void reap() {
+        while (true) {
+            List<PendingFileDeletion> batch = pendingFileDeletionRepository.findByAttemptsLessThanOrderByIdAsc(
+                    maxAttempts, Limit.of(batchSize));
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            List<Long> done = new ArrayList<>();
+            List<Long> failed = new ArrayList<>();
+            for (PendingFileDeletion deletion : batch) {
+                try {
+                    if (deletion.getContentHash() != null) {
+                        blobStoreService.ifUnreferenced(deletion.getContentHash(), Files::deleteIfExists);
+                    } else {
+                        Files.deleteIfExists(Paths.get(deletion.getFilePath()));
+                    }
+                    done.add(deletion.getId());
+                } catch (Exception e) {
+                    log.error("파일 삭제 실패: {} (다음 주기에 다시 시도)", deletion.getFilePath(), e);
+                    failed.add(deletion.getId());
+                }
+            }
+
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!done.isEmpty()) {
+                    pendingFileDeletionRepository.deleteAllByIdInBatch(done);
+                }
+                if (!failed.isEmpty()) {
+                    pendingFileDeletionRepository.incrementAttempts(failed);
+                }
+            });
+
+            // 실패만 남았으면 다음 주기에 다시 시도
+            if (batch.size() < batchSize || done.isEmpty()) {
+                return;
+            }
+        }
+    }
+}
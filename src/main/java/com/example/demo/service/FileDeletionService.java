@@ -0,0 +1,40 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.PendingFileDeletion;
+import com.example.demo.repository.PendingFileDeletionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// 파일 삭제 예약
+// 호출한 트랜잭션 안에서 삭제 대기열(pending_file_deletion) 에 한 행만 기록한다. 요청 스레드는 디스크를 건드리지 않는다.
+// 롤백되면 기록도 함께 사라지므로 남아 있는 행이 가리키는 파일은 지워지지 않는다. 실제 삭제는 FileDeletionReaper 가 한다.
+@Service
+public class FileDeletionService {
+
+    @Autowired
+    private PendingFileDeletionRepository pendingFileDeletionRepository;
+
+    // 게시판별 폴더에 직접 저장된 파일 (공용 저장소 이전 / 수상 이미지)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void deleteAfterCommit(String filePath) {
+        if (filePath == null) {
+            return;
+        }
+        enqueue(filePath, null);
+    }
+
+    // 참조가 0 이 된 공용 저장소 파일
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void deleteBlobAfterCommit(String sha256, String filePath) {
+        enqueue(filePath, sha256);
+    }
+
+    private void enqueue(String filePath, String contentHash) {
+        PendingFileDeletion deletion = new PendingFileDeletion();
+        deletion.setFilePath(filePath);
+        deletion.setContentHash(contentHash);
+        pendingFileDeletionRepository.save(deletion);
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.demo.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 요청 처리와 분리할 블로킹 파일 작업 (첨부파일 임시 저장 / 해시 계산 등)
+// spring.threads.virtual.enabled=true 이면 작업마다 가상 스레드, 아니면 고정 크기 플랫폼 스레드 풀에서 실행한다.
+@Service
+public class FileIoExecutor implements Executor {
+
+    private final ExecutorService executor;
+
+    public FileIoExecutor(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                          @Value("${board.file-io.threads:4}") int threads) {
+        if (virtualThreads) {
+            this.executor = Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name("file-io-", 1).factory());
+        } else {
+            AtomicInteger sequence = new AtomicInteger();
+            this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "file-io-" + sequence.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+        }
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            // 종료 중: 호출한 스레드에서 바로 실행
+            task.run();
+        }
+    }
+
+    // 대기 중인 작업이 끝나도록 잠시 기다린다
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+}
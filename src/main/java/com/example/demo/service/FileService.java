@@ -7,7 +7,6 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
@@ -40,7 +39,7 @@ public class FileService {
 
                 // 파일 저장
                 Path path = Paths.get(filePath);
-                Files.write(path, file.getBytes());
+                file.transferTo(path);
 
                 // 파일 정보 저장
                 FileAttachment attachment = new FileAttachment();
@@ -0,0 +1,320 @@
+package com.example.demo.service;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+// 파일 응답 전송 (조건부 GET, HTTP Range / 206 Partial Content)
+// 본문은 Tomcat sendfile 또는 FileChannel.transferTo 로 복사 없이 전송한다.
+@Service
+public class FileTransferService {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    // 한 요청에서 허용하는 최대 구간 수 (초과 시 전체 전송)
+    private static final int MAX_RANGES = 16;
+
+    private record ByteRange(long start, long end) {
+        long length() {
+            return end - start + 1;
+        }
+    }
+
+    private String contentTypeOf(String fileName) {
+        return MediaTypeFactory.getMediaType(fileName)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                .toString();
+    }
+
+    // 내용 해시가 있으면 강한 ETag, 없으면 크기/수정시각 기반 약한 ETag
+    private String etagFor(String contentHash, Path file) throws IOException {
+        if (contentHash != null) {
+            return "\"" + contentHash + "\"";
+        }
+        return "W/\"" + Files.size(file) + "-" + Files.getLastModifiedTime(file).toMillis() + "\"";
+    }
+
+    // 첨부파일 다운로드 (Content-Disposition: attachment)
+    public void sendAttachment(HttpServletRequest request, HttpServletResponse response,
+                               String filePath, String contentHash, String fileName) throws IOException {
+        send(request, response, filePath, contentHash, fileName, ContentDisposition.attachment());
+    }
+
+    // 브라우저 내 재생/표시 (Content-Disposition: inline)
+    public void sendInline(HttpServletRequest request, HttpServletResponse response,
+                           String filePath, String contentHash, String fileName) throws IOException {
+        send(request, response, filePath, contentHash, fileName, ContentDisposition.inline());
+    }
+
+    private void send(HttpServletRequest request, HttpServletResponse response,
+                      String filePath, String contentHash, String fileName,
+                      ContentDisposition.Builder disposition) throws IOException {
+        Path file = filePath == null ? null : Paths.get(filePath);
+        if (file == null || !Files.isReadable(file)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        String etag = etagFor(contentHash, file);
+        long lastModified = Files.getLastModifiedTime(file).toMillis();
+
+        // 매번 재검증하되, 바뀌지 않았으면 304 로 디스크를 읽지 않는다
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        if (notModified(request, etag, lastModified)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            response.setHeader(HttpHeaders.ETAG, etag);
+            response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+            return;
+        }
+
+        // 한글 파일명: filename*=UTF-8''... (RFC 5987)
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                disposition.filename(fileName, StandardCharsets.UTF_8).build().toString());
+
+        sendRanges(request, response, file, etag, contentTypeOf(fileName));
+    }
+
+    // If-None-Match 우선, 없으면 If-Modified-Since (초 단위 비교)
+    private boolean notModified(HttpServletRequest request, String etag, long lastModified) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            if (ifNoneMatch.trim().equals("*")) {
+                return true;
+            }
+            String opaque = stripWeak(etag);
+            for (String candidate : ifNoneMatch.split(",")) {
+                if (stripWeak(candidate.trim()).equals(opaque)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        try {
+            long since = request.getDateHeader(HttpHeaders.IF_MODIFIED_SINCE);
+            return since != -1 && lastModified / 1000 <= since / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private String stripWeak(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    // Range 요청을 지원하는 파일 전송
+    private void sendRanges(HttpServletRequest request, HttpServletResponse response,
+                           Path file, String etag, String contentType) throws IOException {
+        long length = Files.size(file);
+        long lastModified = Files.getLastModifiedTime(file).toMillis();
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+
+        List<ByteRange> ranges = null;
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null && ifRangeMatches(request, etag, lastModified)) {
+            ranges = parseRanges(rangeHeader, length);
+        }
+
+        if (ranges != null && ranges.isEmpty()) {
+            response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+            return;
+        }
+
+        boolean head = "HEAD".equalsIgnoreCase(request.getMethod());
+
+        if (ranges == null) {
+            response.setStatus(HttpServletResponse.SC_OK);
+            response.setContentType(contentType);
+            response.setContentLengthLong(length);
+            if (!head) {
+                sendRegion(request, response, file, 0, length);
+            }
+        } else if (ranges.size() == 1) {
+            ByteRange range = ranges.get(0);
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setContentType(contentType);
+            response.setHeader(HttpHeaders.CONTENT_RANGE,
+                    "bytes " + range.start() + "-" + range.end() + "/" + length);
+            response.setContentLengthLong(range.length());
+            if (!head) {
+                sendRegion(request, response, file, range.start(), range.length());
+            }
+        } else {
+            sendMultipart(response, file, ranges, length, contentType, head);
+        }
+    }
+
+    // 전체/단일 구간 전송: 가능하면 Tomcat sendfile, 아니면 transferTo
+    private void sendRegion(HttpServletRequest request, HttpServletResponse response,
+                            Path file, long start, long count) throws IOException {
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + count);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            transfer(channel, start, count, Channels.newChannel(response.getOutputStream()));
+        } catch (IOException e) {
+            // 클라이언트가 연결을 끊은 경우 (탐색/재생 중단) 전송 중단
+        }
+    }
+
+    // 여러 구간: multipart/byteranges
+    private void sendMultipart(HttpServletResponse response, Path file, List<ByteRange> ranges,
+                               long length, String contentType, boolean head) throws IOException {
+        String boundary = UUID.randomUUID().toString().replace("-", "");
+
+        List<byte[]> partHeaders = new ArrayList<>();
+        long contentLength = 0;
+        for (ByteRange range : ranges) {
+            byte[] header = ("\r\n--" + boundary + "\r\n"
+                    + HttpHeaders.CONTENT_TYPE + ": " + contentType + "\r\n"
+                    + HttpHeaders.CONTENT_RANGE + ": bytes " + range.start() + "-" + range.end() + "/" + length
+                    + "\r\n\r\n").getBytes(StandardCharsets.ISO_8859_1);
+            partHeaders.add(header);
+            contentLength += header.length + range.length();
+        }
+        byte[] closing = ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.ISO_8859_1);
+        contentLength += closing.length;
+
+        response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+        response.setContentType("multipart/byteranges; boundary=" + boundary);
+        response.setContentLengthLong(contentLength);
+        if (head) {
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            OutputStream out = response.getOutputStream();
+            WritableByteChannel target = Channels.newChannel(out);
+            for (int i = 0; i < ranges.size(); i++) {
+                out.write(partHeaders.get(i));
+                transfer(channel, ranges.get(i).start(), ranges.get(i).length(), target);
+            }
+            out.write(closing);
+        } catch (IOException e) {
+            // 클라이언트 연결 종료
+        }
+    }
+
+    private void transfer(FileChannel channel, long position, long count,
+                          WritableByteChannel target) throws IOException {
+        long remaining = count;
+        while (remaining > 0) {
+            long sent = channel.transferTo(position, remaining, target);
+            if (sent <= 0) {
+                break;
+            }
+            position += sent;
+            remaining -= sent;
+        }
+    }
+
+    // If-Range 가 없거나 현재 파일과 일치하면 true
+    private boolean ifRangeMatches(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        ifRange = ifRange.trim();
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            // 강한 비교: 약한 ETag 는 일치로 보지 않는다
+            return !etag.startsWith("W/") && ifRange.equals(etag);
+        }
+        try {
+            long date = request.getDateHeader(HttpHeaders.IF_RANGE);
+            return date / 1000 == lastModified / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    // Range 헤더 파싱
+    // null: 무시하고 전체 전송, 빈 목록: 만족 가능한 구간 없음(416)
+    private List<ByteRange> parseRanges(String header, long length) {
+        if (!header.startsWith("bytes=")) {
+            return null;
+        }
+
+        List<ByteRange> ranges = new ArrayList<>();
+        for (String spec : header.substring("bytes=".length()).split(",")) {
+            spec = spec.trim();
+            int dash = spec.indexOf('-');
+            if (dash < 0) {
+                return null;
+            }
+            try {
+                String first = spec.substring(0, dash).trim();
+                String last = spec.substring(dash + 1).trim();
+                long start;
+                long end;
+                if (first.isEmpty()) {
+                    // 마지막 N 바이트
+                    long suffix = Long.parseLong(last);
+                    if (suffix <= 0) {
+                        continue;
+                    }
+                    start = Math.max(0, length - suffix);
+                    end = length - 1;
+                } else {
+                    start = Long.parseLong(first);
+                    end = last.isEmpty() ? length - 1 : Math.min(Long.parseLong(last), length - 1);
+                    if (end < start) {
+                        if (!last.isEmpty() && Long.parseLong(last) < start) {
+                            return null;
+                        }
+                        continue;
+                    }
+                }
+                if (start < length) {
+                    ranges.add(new ByteRange(start, end));
+                }
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        // 겹치거나 붙어 있는 구간 병합
+        ranges.sort(Comparator.comparingLong(ByteRange::start));
+        List<ByteRange> merged = new ArrayList<>();
+        for (ByteRange range : ranges) {
+            if (!merged.isEmpty() && range.start() <= merged.get(merged.size() - 1).end() + 1) {
+                ByteRange previous = merged.remove(merged.size() - 1);
+                merged.add(new ByteRange(previous.start(), Math.max(previous.end(), range.end())));
+            } else {
+                merged.add(range);
+            }
+        }
+
+        if (merged.size() > MAX_RANGES) {
+            return null;
+        }
+        return merged;
+    }
+}
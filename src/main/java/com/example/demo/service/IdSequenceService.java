@@ -0,0 +1,59 @@
+package com.example.demo.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+// 게시글 / 첨부파일 id 시퀀스 보정 (<테이블>_seq, 한 번에 50 개씩 할당)
+// IDENTITY 를 쓰던 시절 만들어진 행이나 JDBC 로 id 를 직접 넣은 행보다 시퀀스가 뒤처져 있으면 앞으로 당긴다.
+// 스키마 갱신(ddl-auto) 이 끝난 뒤, 요청을 받기 전에 실행된다.
+@Service
+public class IdSequenceService {
+
+    private static final Logger log = LoggerFactory.getLogger(IdSequenceService.class);
+
+    static final int ALLOCATION_SIZE = 50;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // 스키마 갱신 이후에 초기화되도록 의존
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    public void align() {
+        for (BoardType board : BoardType.values()) {
+            align(board.getTableName());
+            align(board.getAttachmentTableName());
+        }
+    }
+
+    // JDBC 로 직접 INSERT 할 때 쓸 id 묶음의 첫 번째 값 (이후 ALLOCATION_SIZE 개를 쓸 수 있다)
+    // Hibernate pooled 할당과 같은 방식이므로 엔티티 저장과 겹치지 않는다.
+    public long nextBlock(String table) {
+        String sql = "SELECT NEXT VALUE FOR " + table + "_seq";
+        return jdbcTemplate.queryForObject(sql, Long.class) - ALLOCATION_SIZE + 1;
+    }
+
+    private void align(String table) {
+        String sequence = table + "_seq";
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        Long next = jdbcTemplate.query(
+                "SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = ?",
+                rs -> rs.next() ? rs.getLong(1) : null,
+                sequence.toUpperCase());
+
+        // pooled 할당은 시퀀스 값 v 를 받아 (v - 50, v] 를 쓰므로 v 가 최대 id + 50 이상이어야 한다
+        // 새 시퀀스(첫 값 1) 도 50 부터 시작하게 해서 Hibernate 의 첫 값 예외 처리를 타지 않게 한다
+        long required = maxId + ALLOCATION_SIZE;
+        if (next != null && next < required) {
+            jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + required);
+            log.info("id 시퀀스 보정: {} → {}", sequence, required);
+        }
+    }
+}
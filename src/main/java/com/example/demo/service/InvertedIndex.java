@@ -0,0 +1,306 @@
+package com.example.demo.service;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 게시판 하나의 역색인 (단어 → 문서별 필드 빈도)
+// 검색어 단어는 색인 단어의 접두어로 비교하고, 여러 단어는 AND 로 묶는다.
+// 점수는 필드 가중치(제목 3, 작성자 2, 내용 1)를 준 BM25.
+class InvertedIndex {
+
+    static final int TITLE = 0;
+    static final int AUTHOR = 1;
+    static final int CONTENT = 2;
+
+    static final int ALL_FIELDS = (1 << TITLE) | (1 << AUTHOR) | (1 << CONTENT);
+
+    private static final int[] WEIGHTS = {3, 2, 1};
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private static final int FORMAT_VERSION = 1;
+    private static final int MAX_TOKEN_LENGTH = 64;
+
+    // 단어 → (문서 id → 필드별 출현 횟수)
+    private final TreeMap<String, Map<Long, int[]>> postings = new TreeMap<>();
+    private final Map<Long, Doc> docs = new HashMap<>();
+    private long totalLength;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private record Doc(String title, long updatedAt, int length, Set<String> terms) {
+    }
+
+    record Hit(long id, String title, double score) {
+    }
+
+    // 문서 추가/교체
+    // 이미 더 최근 버전이 색인되어 있으면 무시한다 (초기 색인과 저장이 겹치는 경우).
+    void put(long id, String title, String author, String content, LocalDateTime updatedAt) {
+        long version = toEpochMilli(updatedAt);
+        Map<String, int[]> counts = new HashMap<>();
+        int length = count(counts, title, TITLE) + count(counts, author, AUTHOR) + count(counts, content, CONTENT);
+
+        lock.writeLock().lock();
+        try {
+            Doc existing = docs.get(id);
+            if (existing != null) {
+                if (existing.updatedAt() > version) {
+                    return;
+                }
+                removeLocked(id, existing);
+            }
+            for (Map.Entry<String, int[]> entry : counts.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), k -> new HashMap<>()).put(id, entry.getValue());
+            }
+            docs.put(id, new Doc(title, version, length, counts.keySet()));
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            Doc existing = docs.get(id);
+            if (existing != null) {
+                removeLocked(id, existing);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeLocked(long id, Doc doc) {
+        for (String term : doc.terms()) {
+            Map<Long, int[]> list = postings.get(term);
+            if (list != null) {
+                list.remove(id);
+                if (list.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        docs.remove(id);
+        totalLength -= doc.length();
+    }
+
+    Set<Long> ids() {
+        lock.readLock().lock();
+        try {
+            return new HashSet<>(docs.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 조건에 맞는 문서 id (순위 없음)
+    Set<Long> match(String query, int fieldMask) {
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = scoreLocked(query, fieldMask);
+            return scores.keySet();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 점수 순 상위 limit 건
+    List<Hit> search(String query, int fieldMask, int limit) {
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = scoreLocked(query, fieldMask);
+            List<Hit> hits = new ArrayList<>(scores.size());
+            for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+                hits.add(new Hit(entry.getKey(), docs.get(entry.getKey()).title(), entry.getValue()));
+            }
+            hits.sort(Comparator.comparingDouble(Hit::score).reversed().thenComparing(Comparator.comparingLong(Hit::id).reversed()));
+            return hits.size() > limit ? new ArrayList<>(hits.subList(0, limit)) : hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<Long, Double> scoreLocked(String query, int fieldMask) {
+        Set<String> terms = new LinkedHashSet<>(tokenize(query));
+        Map<Long, Double> result = null;
+        if (terms.isEmpty() || docs.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        double avgLength = Math.max(1.0, (double) totalLength / docs.size());
+        for (String term : terms) {
+            // 접두어가 같은 색인 단어를 모두 모은다 (문서별 가중 빈도 합)
+            Map<Long, Integer> weighted = new HashMap<>();
+            SortedMap<String, Map<Long, int[]>> range = postings.subMap(term, term + Character.MAX_VALUE);
+            for (Map<Long, int[]> list : range.values()) {
+                for (Map.Entry<Long, int[]> posting : list.entrySet()) {
+                    int tf = weightedFrequency(posting.getValue(), fieldMask);
+                    if (tf > 0 && (result == null || result.containsKey(posting.getKey()))) {
+                        weighted.merge(posting.getKey(), tf, Integer::sum);
+                    }
+                }
+            }
+            if (weighted.isEmpty()) {
+                return new HashMap<>();
+            }
+
+            double idf = Math.log(1 + (docs.size() - weighted.size() + 0.5) / (weighted.size() + 0.5));
+            Map<Long, Double> next = new HashMap<>();
+            for (Map.Entry<Long, Integer> entry : weighted.entrySet()) {
+                double tf = entry.getValue();
+                double norm = K1 * (1 - B + B * docs.get(entry.getKey()).length() / avgLength);
+                double score = idf * tf * (K1 + 1) / (tf + norm);
+                next.put(entry.getKey(), score + (result == null ? 0 : result.get(entry.getKey())));
+            }
+            result = next;
+        }
+        return result;
+    }
+
+    private static int weightedFrequency(int[] tf, int fieldMask) {
+        int sum = 0;
+        for (int field = TITLE; field <= CONTENT; field++) {
+            if ((fieldMask & (1 << field)) != 0) {
+                sum += tf[field] * WEIGHTS[field];
+            }
+        }
+        return sum;
+    }
+
+    private static int count(Map<String, int[]> counts, String text, int field) {
+        List<String> tokens = tokenize(text);
+        for (String token : tokens) {
+            counts.computeIfAbsent(token, k -> new int[3])[field]++;
+        }
+        return tokens.size() * WEIGHTS[field];
+    }
+
+    // 글자/숫자가 아닌 문자로 나누고 소문자로 통일
+    // 긴 단어는 앞 MAX_TOKEN_LENGTH 글자만 쓴다 (검색어도 같이 잘리고 접두어로 찾으므로 그대로 찾힌다,
+    // 스냅샷의 writeUTF 는 65535 바이트까지만 쓸 수 있음)
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                if (current.length() < MAX_TOKEN_LENGTH) {
+                    current.append(Character.toLowerCase(c));
+                }
+            } else if (!current.isEmpty()) {
+                tokens.add(current.toString());
+                current.setLength(0);
+            }
+        }
+        if (!current.isEmpty()) {
+            tokens.add(current.toString());
+        }
+        return tokens;
+    }
+
+    private static long toEpochMilli(LocalDateTime time) {
+        return time == null ? 0 : time.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    // 스냅샷 저장 (문서 목록 + 역색인)
+    void writeTo(DataOutputStream out) throws IOException {
+        lock.readLock().lock();
+        try {
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(docs.size());
+            for (Map.Entry<Long, Doc> entry : docs.entrySet()) {
+                out.writeLong(entry.getKey());
+                out.writeUTF(entry.getValue().title() == null ? "" : entry.getValue().title());
+                out.writeLong(entry.getValue().updatedAt());
+                out.writeInt(entry.getValue().length());
+            }
+            out.writeInt(postings.size());
+            for (Map.Entry<String, Map<Long, int[]>> entry : postings.entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeInt(entry.getValue().size());
+                for (Map.Entry<Long, int[]> posting : entry.getValue().entrySet()) {
+                    out.writeLong(posting.getKey());
+                    for (int tf : posting.getValue()) {
+                        out.writeInt(tf);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 스냅샷 읽기 (비어 있는 색인에서만 호출)
+    void readFrom(DataInputStream in) throws IOException {
+        if (in.readInt() != FORMAT_VERSION) {
+            throw new IOException("지원하지 않는 색인 형식입니다.");
+        }
+        lock.writeLock().lock();
+        try {
+            Map<Long, Set<String>> terms = new HashMap<>();
+            int docCount = in.readInt();
+            Map<Long, Doc> loaded = new HashMap<>(docCount * 2);
+            for (int i = 0; i < docCount; i++) {
+                long id = in.readLong();
+                Set<String> docTerms = new HashSet<>();
+                terms.put(id, docTerms);
+                loaded.put(id, new Doc(in.readUTF(), in.readLong(), in.readInt(), docTerms));
+            }
+            int termCount = in.readInt();
+            for (int i = 0; i < termCount; i++) {
+                String term = in.readUTF();
+                int size = in.readInt();
+                Map<Long, int[]> list = new HashMap<>(size * 2);
+                for (int j = 0; j < size; j++) {
+                    long id = in.readLong();
+                    list.put(id, new int[]{in.readInt(), in.readInt(), in.readInt()});
+                    terms.get(id).add(term);
+                }
+                postings.put(term, list);
+            }
+            docs.putAll(loaded);
+            totalLength = loaded.values().stream().mapToLong(Doc::length).sum();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 최근 수정 시각 (스냅샷 이후 변경분 따라잡기 기준)
+    LocalDateTime lastUpdatedAt() {
+        lock.readLock().lock();
+        try {
+            long max = docs.values().stream().mapToLong(Doc::updatedAt).max().orElse(0);
+            return LocalDateTime.ofEpochSecond(max / 1000, (int) (max % 1000) * 1_000_000, ZoneOffset.UTC);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.example.demo.service;
+
+import jakarta.persistence.Entity;
+import org.hibernate.Hibernate;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// 목록 화면 조회 결과 캐시 (게시판 + 정규화된 검색 조건 → 결과)
+// 게시판별 BoardChangedEvent 가 커밋된 뒤 그 게시판 항목만 비운다.
+// 크기는 캐시된 행 수 합계로 제한하고 가장 오래 쓰지 않은 항목부터 내보낸다.
+// 조회수는 write-behind 로 반영되므로 ttl 이 지나면 다시 읽는다.
+// 엔티티는 사본으로 넣고 꺼낼 때도 사본을 준다 (요청마다 다른 영속성 컨텍스트의 엔티티를 공유하지 않도록).
+@Service
+public class ListCacheService {
+
+    private record Key(String board, List<Object> params) {
+    }
+
+    private record Entry(Object value, int weight, long expiresAt) {
+    }
+
+    private static class Stats {
+        final LongAdder hits = new LongAdder();
+        final LongAdder misses = new LongAdder();
+        final LongAdder evictions = new LongAdder();
+        final LongAdder invalidations = new LongAdder();
+    }
+
+    private final long maxWeight;
+    private final long ttlMillis;
+
+    // 접근 순서 LinkedHashMap = LRU
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long totalWeight;
+
+    // 조회 도중 무효화된 결과를 다시 넣지 않도록 게시판별 버전 비교
+    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+    private final Map<String, Stats> stats = new ConcurrentHashMap<>();
+
+    public ListCacheService(@Value("${board.list-cache.max-weight:20000}") long maxWeight,
+                            @Value("${board.list-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.maxWeight = maxWeight;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(String board, List<Object> params, Supplier<T> loader) {
+        Key key = new Key(board, params);
+        Stats boardStats = stats(board);
+        long now = System.currentTimeMillis();
+
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.expiresAt() > now) {
+                boardStats.hits.increment();
+                return (T) copy(entry.value());
+            }
+        }
+
+        boardStats.misses.increment();
+        long version = version(board).get();
+        T value = loader.get();
+        int weight = weigh(value);
+        if (weight > maxWeight) {
+            return value;
+        }
+
+        synchronized (entries) {
+            if (version(board).get() != version) {
+                return value;
+            }
+            Entry previous = entries.put(key, new Entry(copy(value), weight, now + ttlMillis));
+            if (previous != null) {
+                totalWeight -= previous.weight();
+            }
+            totalWeight += weight;
+            evictOverflow();
+        }
+        return value;
+    }
+
+    // 커밋 후 해당 게시판 캐시 비우기 (트랜잭션 밖에서 발행되면 바로)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardChanged(BoardChangedEvent event) {
+        invalidate(event.board());
+    }
+
+    public void invalidate(String board) {
+        synchronized (entries) {
+            version(board).incrementAndGet();
+            Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Key, Entry> entry = iterator.next();
+                if (entry.getKey().board().equals(board)) {
+                    totalWeight -= entry.getValue().weight();
+                    iterator.remove();
+                }
+            }
+        }
+        stats(board).invalidations.increment();
+    }
+
+    // 게시판별 적중 / 실패 통계
+    public Map<String, Object> getStats() {
+        Map<String, Object> result = new TreeMap<>();
+        Map<String, Integer> entryCounts = new TreeMap<>();
+        long weight;
+        synchronized (entries) {
+            for (Key key : entries.keySet()) {
+                entryCounts.merge(key.board(), 1, Integer::sum);
+            }
+            weight = totalWeight;
+        }
+        for (Map.Entry<String, Stats> entry : stats.entrySet()) {
+            long hits = entry.getValue().hits.sum();
+            long misses = entry.getValue().misses.sum();
+            result.put(entry.getKey(), Map.of(
+                    "hits", hits,
+                    "misses", misses,
+                    "hitRatio", hits + misses == 0 ? 0.0 : (double) hits / (hits + misses),
+                    "evictions", entry.getValue().evictions.sum(),
+                    "invalidations", entry.getValue().invalidations.sum(),
+                    "entries", entryCounts.getOrDefault(entry.getKey(), 0)));
+        }
+        result.put("totalWeight", weight);
+        result.put("maxWeight", maxWeight);
+        return result;
+    }
+
+    // 캐시 키용 검색 조건 (키워드가 없으면 검색 구분은 의미가 없으므로 뺀다)
+    public static List<Object> key(String searchType, String keyword, Object... filters) {
+        List<Object> params = new ArrayList<>(filters.length + 2);
+        String normalizedKeyword = param(keyword);
+        params.add(normalizedKeyword.isEmpty() ? "" : param(searchType));
+        params.add(normalizedKeyword);
+        for (Object filter : filters) {
+            params.add(filter instanceof String value ? param(value) : filter);
+        }
+        return params;
+    }
+
+    // null / 공백 / "전체" → "" (모두 조건 없음)
+    private static String param(String value) {
+        if (value == null || value.trim().equals("전체")) {
+            return "";
+        }
+        return value.trim();
+    }
+
+    private void evictOverflow() {
+        Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator();
+        while (totalWeight > maxWeight && iterator.hasNext()) {
+            Map.Entry<Key, Entry> eldest = iterator.next();
+            totalWeight -= eldest.getValue().weight();
+            iterator.remove();
+            stats(eldest.getKey().board()).evictions.increment();
+        }
+    }
+
+    // 무게 = 캐시된 행 수 (최소 1)
+    private int weigh(Object value) {
+        if (value instanceof Collection<?> collection) {
+            return Math.max(1, collection.size());
+        } else if (value instanceof Map<?, ?> map) {
+            return Math.max(1, map.size());
+        } else if (value instanceof CursorPage<?> page) {
+            return Math.max(1, page.items().size());
+        }
+        return 1;
+    }
+
+    // 목록 / Map / CursorPage 를 새로 만들고 안의 엔티티는 필드를 복사한 새 객체로 바꾼다 (연관 관계 없는 엔티티만 캐시한다)
+    private Object copy(Object value) {
+        if (value instanceof List<?> list) {
+            List<Object> copied = new ArrayList<>(list.size());
+            for (Object item : list) {
+                copied.add(copyEntity(item));
+            }
+            return copied;
+        } else if (value instanceof Map<?, ?> map) {
+            Map<Object, Object> copied = new LinkedHashMap<>(map.size() * 2);
+            map.forEach((k, v) -> copied.put(k, copyEntity(v)));
+            return copied;
+        } else if (value instanceof CursorPage<?> page) {
+            return new CursorPage<>((List<?>) copy(page.items()), page.nextCursor(), page.hasNext());
+        }
+        return copyEntity(value);
+    }
+
+    private Object copyEntity(Object value) {
+        if (value == null) {
+            return null;
+        }
+        Object entity = Hibernate.unproxy(value);
+        if (!entity.getClass().isAnnotationPresent(Entity.class)) {
+            return value;
+        }
+        Object copied = BeanUtils.instantiateClass(entity.getClass());
+        BeanUtils.copyProperties(entity, copied);
+        return copied;
+    }
+
+    private AtomicLong version(String board) {
+        return versions.computeIfAbsent(board, k -> new AtomicLong());
+    }
+
+    private Stats stats(String board) {
+        return stats.computeIfAbsent(board, k -> new Stats());
+    }
+}
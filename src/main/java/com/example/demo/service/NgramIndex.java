@@ -0,0 +1,340 @@
+package com.example.demo.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 부분 문자열 검색용 글자 n-gram 색인 (한 글자 + 두 글자)
+// "교통" 으로 "교통안전" 을 찾는 것처럼 단어 중간 검색을 LIKE 없이 처리한다.
+// 검색어의 두 글자 조각 postings 를 짧은 것부터 교집합한 뒤 원문에 실제로 포함되는지 확인한다.
+class NgramIndex {
+
+    // 조각 → 문서 id 목록 (오름차순, 차이값 varint 압축)
+    private final Map<String, PostingList> postings = new HashMap<>();
+    // 문서 id → 소문자 원문 (후보 확인 및 삭제용)
+    private final Map<Integer, String> docs = new HashMap<>();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    void put(long id, String text) {
+        int docId = Math.toIntExact(id);
+        String normalized = normalize(text);
+
+        lock.writeLock().lock();
+        try {
+            String previous = docs.put(docId, normalized);
+            if (previous != null) {
+                if (previous.equals(normalized)) {
+                    return;
+                }
+                for (String gram : grams(previous)) {
+                    removePosting(gram, docId);
+                }
+            }
+            for (String gram : grams(normalized)) {
+                postings.computeIfAbsent(gram, k -> new PostingList()).add(docId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(long id) {
+        int docId = Math.toIntExact(id);
+
+        lock.writeLock().lock();
+        try {
+            String previous = docs.remove(docId);
+            if (previous != null) {
+                for (String gram : grams(previous)) {
+                    removePosting(gram, docId);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removePosting(String gram, int docId) {
+        PostingList list = postings.get(gram);
+        if (list != null && list.remove(docId) && list.size() == 0) {
+            postings.remove(gram);
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 검색어를 부분 문자열로 포함하는 문서 id
+    Set<Long> search(String query) {
+        String needle = normalize(query);
+        Set<Long> result = new HashSet<>();
+        if (needle.isEmpty()) {
+            return result;
+        }
+
+        lock.readLock().lock();
+        try {
+            List<PostingList> lists = new ArrayList<>();
+            for (String gram : queryGrams(needle)) {
+                PostingList list = postings.get(gram);
+                if (list == null) {
+                    return result;
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(PostingList::size));
+
+            int[] candidates = lists.get(0).toArray();
+            for (int i = 1; i < lists.size() && candidates.length > 0; i++) {
+                candidates = lists.get(i).intersect(candidates);
+            }
+
+            for (int docId : candidates) {
+                if (docs.get(docId).contains(needle)) {
+                    result.add((long) docId);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase();
+    }
+
+    // 색인 조각: 모든 한 글자와 연속된 두 글자
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i < text.length(); i++) {
+            grams.add(text.substring(i, i + 1));
+            if (i + 1 < text.length()) {
+                grams.add(text.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    // 검색 조각: 한 글자 검색어는 그대로, 그 외에는 두 글자 조각만
+    private static Set<String> queryGrams(String needle) {
+        if (needle.length() == 1) {
+            return Set.of(needle);
+        }
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 1 < needle.length(); i++) {
+            grams.add(needle.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    // 오름차순 int 목록을 차이값 varint 로 압축해 보관
+    // 새 글은 id 가 증가하므로 대부분 끝에 덧붙이기만 한다.
+    // 중간 삽입 / 삭제는 압축 목록을 바로 고치지 않고 정렬된 추가분과 삭제 표시에 모았다가,
+    // 합이 압축 목록의 1/16 (최소 MIN_DELTA) 을 넘으면 한 번에 다시 압축한다. 읽을 때는 셋을 병합한다.
+    // add 는 목록에 없는 id, remove 는 목록에 있는 id 로만 호출한다 (NgramIndex 가 docs 로 보장).
+    static final class PostingList {
+
+        private static final int MIN_DELTA = 32;
+        private static final int[] EMPTY = {};
+
+        private byte[] data = new byte[8];
+        private int length;
+        // 압축 목록의 id 수 (삭제 표시된 id 포함) / 마지막 id
+        private int encoded;
+        private int last;
+
+        // 압축 목록에 아직 없는 추가분 (last 보다 작은 id), 압축 목록에서 지운 id (오름차순)
+        private int[] added = EMPTY;
+        private int addedCount;
+        private int[] removed = EMPTY;
+        private int removedCount;
+
+        int size() {
+            return encoded - removedCount + addedCount;
+        }
+
+        void add(int docId) {
+            int position = Arrays.binarySearch(removed, 0, removedCount, docId);
+            if (position >= 0) {
+                // 지웠던 id 를 다시 넣음: 삭제 표시만 없앤다
+                delete(removed, removedCount--, position);
+                return;
+            }
+            if (encoded == 0 || docId > last) {
+                writeVarint(encoded == 0 ? docId : docId - last);
+                last = docId;
+                encoded++;
+                return;
+            }
+            position = Arrays.binarySearch(added, 0, addedCount, docId);
+            if (position >= 0) {
+                return;
+            }
+            added = insert(added, addedCount++, -position - 1, docId);
+            compactIfNeeded();
+        }
+
+        boolean remove(int docId) {
+            int position = Arrays.binarySearch(added, 0, addedCount, docId);
+            if (position >= 0) {
+                delete(added, addedCount--, position);
+                return true;
+            }
+            if (encoded == 0 || docId > last) {
+                return false;
+            }
+            position = Arrays.binarySearch(removed, 0, removedCount, docId);
+            if (position >= 0) {
+                return false;
+            }
+            removed = insert(removed, removedCount++, -position - 1, docId);
+            compactIfNeeded();
+            return true;
+        }
+
+        int[] toArray() {
+            int[] ids = new int[size()];
+            int count = 0;
+            int a = 0;
+            int r = 0;
+            int offset = 0;
+            int value = 0;
+            for (int i = 0; i < encoded; i++) {
+                int delta = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = data[offset++];
+                    delta |= (b & 0x7f) << shift;
+                    shift += 7;
+                } while ((b & 0x80) != 0);
+                value += delta;
+
+                while (a < addedCount && added[a] < value) {
+                    ids[count++] = added[a++];
+                }
+                while (r < removedCount && removed[r] < value) {
+                    r++;
+                }
+                if (r < removedCount && removed[r] == value) {
+                    r++;
+                } else {
+                    ids[count++] = value;
+                }
+            }
+            while (a < addedCount) {
+                ids[count++] = added[a++];
+            }
+            return count == ids.length ? ids : Arrays.copyOf(ids, count);
+        }
+
+        // 정렬된 후보와 교집합 (변경분이 없으면 압축을 풀면서 병합)
+        int[] intersect(int[] candidates) {
+            if (addedCount > 0 || removedCount > 0) {
+                return intersect(toArray(), candidates);
+            }
+            int[] result = new int[Math.min(candidates.length, encoded)];
+            int count = 0;
+            int offset = 0;
+            int value = 0;
+            int c = 0;
+            for (int i = 0; i < encoded && c < candidates.length; i++) {
+                int delta = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = data[offset++];
+                    delta |= (b & 0x7f) << shift;
+                    shift += 7;
+                } while ((b & 0x80) != 0);
+                value += delta;
+
+                while (c < candidates.length && candidates[c] < value) {
+                    c++;
+                }
+                if (c < candidates.length && candidates[c] == value) {
+                    result[count++] = value;
+                    c++;
+                }
+            }
+            return Arrays.copyOf(result, count);
+        }
+
+        private static int[] intersect(int[] ids, int[] candidates) {
+            int[] result = new int[Math.min(ids.length, candidates.length)];
+            int count = 0;
+            for (int i = 0, c = 0; i < ids.length && c < candidates.length; ) {
+                if (ids[i] < candidates[c]) {
+                    i++;
+                } else if (ids[i] > candidates[c]) {
+                    c++;
+                } else {
+                    result[count++] = ids[i++];
+                    c++;
+                }
+            }
+            return Arrays.copyOf(result, count);
+        }
+
+        private void compactIfNeeded() {
+            if (addedCount + removedCount > Math.max(MIN_DELTA, encoded >> 4)) {
+                rebuild(toArray());
+            }
+        }
+
+        private void rebuild(int[] ids) {
+            data = new byte[Math.max(8, ids.length * 2)];
+            length = 0;
+            encoded = 0;
+            last = 0;
+            added = EMPTY;
+            addedCount = 0;
+            removed = EMPTY;
+            removedCount = 0;
+            for (int id : ids) {
+                writeVarint(encoded == 0 ? id : id - last);
+                last = id;
+                encoded++;
+            }
+        }
+
+        private void writeVarint(int value) {
+            if (length + 5 > data.length) {
+                data = Arrays.copyOf(data, data.length * 2);
+            }
+            while ((value & ~0x7f) != 0) {
+                data[length++] = (byte) ((value & 0x7f) | 0x80);
+                value >>>= 7;
+            }
+            data[length++] = (byte) value;
+        }
+
+        // 정렬 배열의 index 위치에 삽입 (꽉 차면 두 배로 늘림)
+        private static int[] insert(int[] array, int count, int index, int value) {
+            if (count == array.length) {
+                array = Arrays.copyOf(array, Math.max(4, count * 2));
+            }
+            System.arraycopy(array, index, array, index + 1, count - index);
+            array[index] = value;
+            return array;
+        }
+
+        private static void delete(int[] array, int count, int index) {
+            System.arraycopy(array, index + 1, array, index, count - index - 1);
+        }
+    }
+}
@@ -2,23 +2,23 @@ package com.example.demo.service;
 
 import com.example.demo.entity.Notice;
 import com.example.demo.entity.NoticeAttachment;
+import com.example.demo.entity.StoredBlob;
+import com.example.demo.repository.BoardSpecifications;
 import com.example.demo.repository.NoticeAttachmentRepository;
 import com.example.demo.repository.NoticeRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
-import java.time.LocalDate;
 
 @Service
 public class NoticeService {
@@ -29,7 +29,35 @@ public class NoticeService {
     @Autowired
     private NoticeAttachmentRepository attachmentRepository;
 
-    private final String uploadDir = "uploads/notices/";
+    @Autowired
+    private ViewCountService viewCountService;
+
+    @Autowired
+    private BlobStoreService blobStoreService;
+
+    @Autowired
+    private ThumbnailService thumbnailService;
+
+    @Autowired
+    private SearchIndexService searchIndexService;
+
+    @Autowired
+    private ListCacheService listCacheService;
+
+    @Autowired
+    private PublicationScheduler publicationScheduler;
+
+    @Autowired
+    private DashboardCounterService dashboardCounterService;
+
+    @Autowired
+    private UploadMetrics uploadMetrics;
+
+    @Autowired
+    private FileDeletionService fileDeletionService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
 
     // 허용된 확장자
     private final List<String> allowedExtensions = Arrays.asList(
@@ -41,78 +69,42 @@ public class NoticeService {
     private final int MAX_FILES = 5;
     private final long MAX_TOTAL_SIZE = 90 * 1024 * 1024;
 
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    private final int MAX_PAGE_SIZE = 100;
+
     // 전체 목록 조회
     public List<Notice> getAllNotices() {
         return noticeRepository.findAllOrderByPinnedAndCreatedAt();
     }
 
     // ID로 조회
+    @Transactional(readOnly = true)
     public Optional<Notice> getNoticeById(Long id) {
         return noticeRepository.findById(id);
     }
 
     // 검색 메서드
     public List<Notice> searchNotices(String searchType, String keyword, String status) {
-        List<Notice> notices;
-
-        // 상태 필터링
-        if (status != null && !status.equals("전체")) {
-            notices = noticeRepository.findByStatusOrderByPinnedDescCreatedAtDesc(status);
-
-            // 키워드 필터링
-            if (keyword != null && !keyword.trim().isEmpty()) {
-                String finalKeyword = keyword.trim();
-                notices = notices.stream()
-                        .filter(n -> {
-                            if ("제목".equals(searchType)) {
-                                return n.getTitle().contains(finalKeyword);
-                            } else if ("작성자".equals(searchType)) {
-                                return n.getAuthor() != null && n.getAuthor().contains(finalKeyword);
-                            } else {
-                                return n.getTitle().contains(finalKeyword) ||
-                                        (n.getAuthor() != null && n.getAuthor().contains(finalKeyword));
-                            }
-                        })
-                        .toList();
-            }
-        } else {
-            // 키워드로만 검색
-            if (keyword == null || keyword.trim().isEmpty()) {
-                notices = noticeRepository.findAllOrderByPinnedAndCreatedAt();
-            } else {
-                String finalKeyword = keyword.trim();
-                if ("제목".equals(searchType)) {
-                    notices = noticeRepository.findByTitleContaining(finalKeyword);
-                } else if ("작성자".equals(searchType)) {
-                    notices = noticeRepository.findByAuthorContaining(finalKeyword);
-                } else {
-                    notices = noticeRepository.findByKeyword(finalKeyword);
-                }
-            }
-        }
-
-        return notices;
+        return noticeRepository.findAll(
+                BoardSpecifications.<Notice>filters(null, status, null, null)
+                        .and(searchIndexService.keywordFilter(BoardType.NOTICE, searchType, keyword)),
+                BoardSpecifications.LIST_SORT);
     }
 
     // 공지사항 저장
     @Transactional
     public Notice saveNotice(Notice notice, MultipartFile[] files) throws IOException {
 
-        // 게시 기간 유효성 검사
-        if (notice.getStartDate() != null && notice.getEndDate() != null) {
-            if (notice.getEndDate().isBefore(notice.getStartDate())) {
-                throw new IllegalArgumentException("게시 종료일은 시작일보다 이후여야 합니다.");
-            }
-        }
+        // 게시 기간 유효성 검사 / 게시 상태 자동 설정
+        PostRules.validatePeriod(notice.getStartDate(), notice.getEndDate());
+        notice.setStatus(PostRules.statusOf(notice.getStartDate(), notice.getEndDate(), LocalDateTime.now()));
 
-        // 게시 상태 자동 설정
-        LocalDateTime now = LocalDateTime.now();
-        if (notice.getStartDate() != null && notice.getStartDate().isAfter(now)) {
-            notice.setStatus("예약");
-        } else if (notice.getEndDate() != null && notice.getEndDate().isBefore(now)) {
-            notice.setStatus("게시 종료");
-        } else {
-            notice.setStatus("게시 중");
+        // 대시보드 집계용 수정 전 상태
+        DashboardCounterService.PostState previousState = dashboardCounterService.stateOf(BoardType.NOTICE, notice.getId());
+
+        // 첨부파일 수는 게시글 INSERT 전에 채운다 (persist 후에 바꾸면 flush 때 UPDATE 가 한 번 더 나감)
+        if (files != null && files.length > 0) {
+            notice.setAttachmentCount((int) Arrays.stream(files).filter(file -> !file.isEmpty()).count());
         }
 
         // 공지사항 저장
@@ -135,41 +127,59 @@ public class NoticeService {
                 throw new IllegalArgumentException("총 90MB의 파일을 업로드 할 수 없습니다.");
             }
 
-            int uploadedCount = 0;
+            // 확장자는 파일을 쓰기 전에 모두 확인한다
+            List<MultipartFile> uploads = new ArrayList<>();
             for (MultipartFile file : files) {
                 if (!file.isEmpty()) {
-                    String fileName = file.getOriginalFilename();
-
-                    // 확장자 검증
-                    String extension = getFileExtension(fileName);
+                    String extension = getFileExtension(file.getOriginalFilename());
                     if (!isAllowedExtension(extension)) {
-                        throw new IllegalArgumentException(
-                                "허용되지 않은 파일 형식입니다: " + fileName
-                        );
-                    }
-
-                    String savedFileName = saveFile(file);
-
-                    NoticeAttachment attachment = new NoticeAttachment();
-                    attachment.setNoticeId(savedNotice.getId());
-                    attachment.setFileName(fileName);
-                    attachment.setFilePath(uploadDir + savedFileName);
-                    attachment.setFileSize(file.getSize());
-                    attachment.setFileType(extension);
-
-                    if (uploadedCount == 0 && isImageFile(extension)) {
-                        attachment.setIsRepresentative(true);
+                        uploadMetrics.recordRejected(BoardType.NOTICE.getTableName(), extension);
+                        throw new IllegalArgumentException("허용되지 않은 파일 형식입니다: " + file.getOriginalFilename());
                     }
+                    uploads.add(file);
+                }
+            }
 
-                    attachmentRepository.save(attachment);
-                    uploadedCount++;
+            // 파일 쓰기 / 해시 계산은 동시에 (하나라도 실패하면 나머지도 지우고 트랜잭션 롤백)
+            List<StoredBlob> blobs = blobStoreService.storeAll(uploads);
+
+            List<NoticeAttachment> attachments = new ArrayList<>();
+            for (int i = 0; i < uploads.size(); i++) {
+                MultipartFile file = uploads.get(i);
+                StoredBlob blob = blobs.get(i);
+                String fileName = file.getOriginalFilename();
+                String extension = getFileExtension(fileName);
+
+                NoticeAttachment attachment = new NoticeAttachment();
+                attachment.setNoticeId(savedNotice.getId());
+                attachment.setFileName(fileName);
+                attachment.setFilePath(blob.getFilePath());
+                attachment.setContentHash(blob.getSha256());
+                attachment.setFileSize(file.getSize());
+                attachment.setFileType(extension);
+
+                if (i == 0 && isImageFile(extension)) {
+                    attachment.setIsRepresentative(true);
                 }
+
+                attachments.add(attachment);
             }
 
-            savedNotice.setAttachmentCount(uploadedCount);
-            noticeRepository.save(savedNotice);
+            // 첨부파일은 모아서 한 번에 저장 (커밋 시 JDBC batch INSERT 한 번)
+            attachmentRepository.saveAll(attachments);
+            for (NoticeAttachment attachment : attachments) {
+                thumbnailService.generateAfterCommit(BoardType.NOTICE, attachment.getId(),
+                        attachment.getFilePath(), attachment.getContentHash(), attachment.getFileType());
+            }
+            uploadMetrics.recordUploaded(BoardType.NOTICE.getTableName(), files);
         }
 
+        searchIndexService.indexAfterCommit(BoardType.NOTICE, savedNotice);
+        publicationScheduler.scheduleAfterCommit(BoardType.NOTICE, savedNotice.getId(),
+                savedNotice.getStartDate(), savedNotice.getEndDate());
+        dashboardCounterService.savedAfterCommit(BoardType.NOTICE, previousState, savedNotice);
+        eventPublisher.publishEvent(new BoardChangedEvent(BoardType.NOTICE.getTableName(), savedNotice.getId()));
+
         return savedNotice;
     }
 
@@ -181,24 +191,27 @@ public class NoticeService {
             // 첨부파일 삭제
             List<NoticeAttachment> attachments = attachmentRepository.findByNoticeId(id);
             for (NoticeAttachment attachment : attachments) {
-                deleteFile(attachment.getFilePath());
+                releaseFile(attachment);
             }
             attachmentRepository.deleteByNoticeId(id);
 
             // 공지사항 삭제
             noticeRepository.deleteById(id);
+            viewCountService.evict(BoardType.NOTICE, id);
+            searchIndexService.removeAfterCommit(BoardType.NOTICE, id);
+            eventPublisher.publishEvent(new BoardChangedEvent(BoardType.NOTICE.getTableName(), id));
+            dashboardCounterService.deletedAfterCommit(BoardType.NOTICE, notice.get());
         }
     }
 
     // 조회수 증가
-    @Transactional
     public void increaseViewCount(Long id) {
-        Optional<Notice> notice = noticeRepository.findById(id);
-        if (notice.isPresent()) {
-            Notice n = notice.get();
-            n.setViewCount(n.getViewCount() + 1);
-            noticeRepository.save(n);
-        }
+        viewCountService.increase(BoardType.NOTICE, id);
+    }
+
+    // 화면에 보일 조회수 (DB 값 + 아직 DB 에 반영되지 않은 증가분)
+    public long getViewCount(Notice notice) {
+        return notice.getViewCount() + viewCountService.pendingCount(BoardType.NOTICE, notice.getId());
     }
 
     // 첨부파일 조회
@@ -206,6 +219,11 @@ public class NoticeService {
         return attachmentRepository.findByNoticeId(noticeId);
     }
 
+    // 첨부파일 단건 조회
+    public Optional<NoticeAttachment> getAttachment(Long attachmentId) {
+        return attachmentRepository.findById(attachmentId);
+    }
+
     // 파일 확장자 추출
     private String getFileExtension(String fileName) {
         if (fileName == null) return "";
@@ -215,7 +233,7 @@ public class NoticeService {
     }
 
     // 확장자 검증
-    private boolean isAllowedExtension(String extension) {
+    public boolean isAllowedExtension(String extension) {
         return allowedExtensions.contains(extension.toLowerCase());
     }
 
@@ -224,87 +242,64 @@ public class NoticeService {
         return Arrays.asList("jpg", "jpeg", "png", "svg", "gif").contains(extension.toLowerCase());
     }
 
-    // 파일 저장
-    private String saveFile(MultipartFile file) throws IOException {
-        File uploadDirectory = new File(uploadDir);
-        if (!uploadDirectory.exists()) {
-            uploadDirectory.mkdirs();
-        }
-
-        String originalFileName = file.getOriginalFilename();
-        String fileName = System.currentTimeMillis() + "_" + originalFileName;
-        Path filePath = Paths.get(uploadDir + fileName);
-        Files.write(filePath, file.getBytes());
-
-        return fileName;
-    }
-
-    // 파일 삭제
-    private void deleteFile(String filePath) {
-        if (filePath != null) {
-            try {
-                Path path = Paths.get(filePath);
-                Files.deleteIfExists(path);
-            } catch (IOException e) {
-                e.printStackTrace();
-            }
+    // 첨부파일 참조 해제 (공용 저장소 이전에 저장된 파일은 직접 삭제)
+    private void releaseFile(NoticeAttachment attachment) {
+        if (attachment.getContentHash() != null) {
+            blobStoreService.release(attachment.getContentHash());
+        } else {
+            fileDeletionService.deleteAfterCommit(attachment.getFilePath());
         }
     }
 
-    // 고급 검색
+    // 고급 검색 (모든 조건을 하나의 쿼리로 DB 에서 처리)
     public List<Notice> searchNoticesAdvanced(String searchType, String keyword,
                                               String category, String status,
                                               String startDate, String endDate) {
-        List<Notice> notices = noticeRepository.findAllOrderByPinnedAndCreatedAt();
-
-        // 키워드 필터
-        if (keyword != null && !keyword.trim().isEmpty()) {
-            String finalKeyword = keyword.trim();
-            notices = notices.stream()
-                    .filter(n -> {
-                        if ("제목".equals(searchType)) {
-                            return n.getTitle().contains(finalKeyword);
-                        } else if ("작성자".equals(searchType)) {
-                            return n.getAuthor() != null && n.getAuthor().contains(finalKeyword);
-                        } else {
-                            return n.getTitle().contains(finalKeyword) ||
-                                    (n.getAuthor() != null && n.getAuthor().contains(finalKeyword));
-                        }
-                    })
-                    .toList();
-        }
+        return noticeRepository.findAll(
+                BoardSpecifications.<Notice>filters(category, status, startDate, endDate)
+                        .and(searchIndexService.keywordFilter(BoardType.NOTICE, searchType, keyword)),
+                BoardSpecifications.LIST_SORT);
+    }
 
-        // 분류 필터
-        if (category != null && !category.equals("전체")) {
-            String finalCategory = category;
-            notices = notices.stream()
-                    .filter(n -> finalCategory.equals(n.getCategory()))
-                    .toList();
-        }
+    // 커서 기반 목록 조회 (pinned, createdAt, id 순 keyset 페이지네이션)
+    public CursorPage<Notice> searchNoticesPage(String searchType, String keyword,
+                                                String category, String status,
+                                                String startDate, String endDate,
+                                                String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
 
-        // 상태 필터
-        if (status != null && !status.equals("전체")) {
-            String finalStatus = status;
-            notices = notices.stream()
-                    .filter(n -> finalStatus.equals(n.getStatus()))
-                    .toList();
-        }
+        return listCacheService.get(BoardType.NOTICE.getTableName(),
+                ListCacheService.key(searchType, keyword, category, status, startDate, endDate, cursor, pageSize),
+                () -> loadNoticesPage(searchType, keyword, category, status, startDate, endDate, cursor, pageSize));
+    }
+
+    private CursorPage<Notice> loadNoticesPage(String searchType, String keyword,
+                                               String category, String status,
+                                               String startDate, String endDate,
+                                               String cursor, int pageSize) {
+        Specification<Notice> spec = BoardSpecifications.<Notice>filters(category, status, startDate, endDate)
+                .and(searchIndexService.keywordFilter(BoardType.NOTICE, searchType, keyword));
 
-        // 날짜 필터
-        if (startDate != null && !startDate.trim().isEmpty()) {
-            LocalDateTime start = LocalDate.parse(startDate).atStartOfDay();
-            notices = notices.stream()
-                    .filter(n -> n.getCreatedAt().isAfter(start) || n.getCreatedAt().isEqual(start))
-                    .toList();
+        PageCursor after = PageCursor.decode(cursor);
+        if (after != null) {
+            spec = spec.and(BoardSpecifications.after(after.pinned(), after.createdAt(), after.id()));
         }
 
-        if (endDate != null && !endDate.trim().isEmpty()) {
-            LocalDateTime end = LocalDate.parse(endDate).atTime(23, 59, 59);
-            notices = notices.stream()
-                    .filter(n -> n.getCreatedAt().isBefore(end) || n.getCreatedAt().isEqual(end))
-                    .toList();
+        // 한 건 더 읽어서 다음 페이지 존재 여부 판단
+        List<Notice> rows = noticeRepository.findBy(spec, q -> q
+                .sortBy(BoardSpecifications.LIST_SORT)
+                .limit(pageSize + 1)
+                .all());
+
+        boolean hasNext = rows.size() > pageSize;
+        List<Notice> items = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            Notice last = items.get(items.size() - 1);
+            nextCursor = new PageCursor(last.getPinned(), last.getCreatedAt(), last.getId()).encode();
         }
 
-        return notices;
+        return new CursorPage<>(items, nextCursor, hasNext);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,32 @@
+package com.example.demo.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+// 목록 페이지 커서 (고정 여부, 작성일시, ID)
+// URL 에는 base64url 로 인코딩한 문자열로 전달된다.
+public record PageCursor(boolean pinned, LocalDateTime createdAt, long id) {
+
+    public String encode() {
+        String raw = (pinned ? "1" : "0") + "|" + createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 빈 값이면 첫 페이지(null)
+    public static PageCursor decode(String token) {
+        if (token == null || token.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            return new PageCursor("1".equals(parts[0]),
+                    LocalDateTime.parse(parts[1]),
+                    Long.parseLong(parts[2]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 페이지 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.demo.service;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+// 파일 경로 집합 (경로 문자열 대신 64비트 지문만 저장, 선형 탐사 long 배열)
+// 경로 수십만 개도 수 MB 로 담는다. 지문이 우연히 겹치면 참조 중인 것으로 보므로 잘못 지우는 일은 없다.
+// 다 채운 뒤에는 읽기만 하므로 여러 스레드에서 contains 를 불러도 된다.
+final class PathFingerprintSet {
+
+    private static final long EMPTY = 0L;
+
+    private long[] table = new long[1 << 12];
+    private int size;
+
+    // DB 에 저장된 경로 (상대 경로 포함)
+    void add(String filePath) {
+        if (filePath != null && !filePath.isBlank()) {
+            add(Paths.get(filePath));
+        }
+    }
+
+    void add(Path file) {
+        long fingerprint = fingerprint(file);
+        if ((size + 1) * 2L > table.length) {
+            grow();
+        }
+        if (insert(table, fingerprint)) {
+            size++;
+        }
+    }
+
+    boolean contains(Path file) {
+        long fingerprint = fingerprint(file);
+        int mask = table.length - 1;
+        for (int i = index(fingerprint, mask); ; i = (i + 1) & mask) {
+            long value = table[i];
+            if (value == fingerprint) {
+                return true;
+            }
+            if (value == EMPTY) {
+                return false;
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    private static boolean insert(long[] table, long fingerprint) {
+        int mask = table.length - 1;
+        for (int i = index(fingerprint, mask); ; i = (i + 1) & mask) {
+            long value = table[i];
+            if (value == fingerprint) {
+                return false;
+            }
+            if (value == EMPTY) {
+                table[i] = fingerprint;
+                return true;
+            }
+        }
+    }
+
+    private void grow() {
+        long[] bigger = new long[table.length * 2];
+        Arrays.stream(table).filter(value -> value != EMPTY).forEach(value -> insert(bigger, value));
+        table = bigger;
+    }
+
+    private static int index(long fingerprint, int mask) {
+        return (int) (fingerprint ^ (fingerprint >>> 32)) & mask;
+    }
+
+    // 절대 경로 문자열의 FNV-1a 64 + 비트 섞기 (0 은 빈 칸 표시이므로 피한다)
+    private static long fingerprint(Path file) {
+        String key = file.toAbsolutePath().normalize().toString();
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash == EMPTY ? 1L : hash;
+    }
+}
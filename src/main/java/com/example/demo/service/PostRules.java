@@ -0,0 +1,32 @@
+package com.example.demo.service;
+
+import java.time.LocalDateTime;
+
+// 게시글 저장 공통 규칙 (화면 저장 / 일괄 가져오기)
+final class PostRules {
+
+    // 컬럼 길이 (엔티티 @Column 과 동일)
+    static final int TITLE_LENGTH = 200;
+    static final int CATEGORY_LENGTH = 50;
+    static final int AUTHOR_LENGTH = 100;
+
+    private PostRules() {
+    }
+
+    // 게시 기간 유효성 검사
+    static void validatePeriod(LocalDateTime startDate, LocalDateTime endDate) {
+        if (startDate != null && endDate != null && endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("게시 종료일은 시작일보다 이후여야 합니다.");
+        }
+    }
+
+    // 게시 상태 (시작 전 → 예약, 종료 후 → 게시 종료, 그 외 → 게시 중)
+    static String statusOf(LocalDateTime startDate, LocalDateTime endDate, LocalDateTime now) {
+        if (startDate != null && startDate.isAfter(now)) {
+            return "예약";
+        } else if (endDate != null && endDate.isBefore(now)) {
+            return "게시 종료";
+        }
+        return "게시 중";
+    }
+}
@@ -2,20 +2,19 @@ package com.example.demo.service;
 
 import com.example.demo.entity.Press;
 import com.example.demo.entity.PressAttachment;
+import com.example.demo.entity.StoredBlob;
+import com.example.demo.repository.BoardSpecifications;
 import com.example.demo.repository.PressAttachmentRepository;
 import com.example.demo.repository.PressRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -29,7 +28,35 @@ public class PressService {
     @Autowired
     private PressAttachmentRepository attachmentRepository;
 
-    private final String uploadDir = "uploads/press/";
+    @Autowired
+    private ViewCountService viewCountService;
+
+    @Autowired
+    private BlobStoreService blobStoreService;
+
+    @Autowired
+    private ThumbnailService thumbnailService;
+
+    @Autowired
+    private SearchIndexService searchIndexService;
+
+    @Autowired
+    private ListCacheService listCacheService;
+
+    @Autowired
+    private PublicationScheduler publicationScheduler;
+
+    @Autowired
+    private DashboardCounterService dashboardCounterService;
+
+    @Autowired
+    private UploadMetrics uploadMetrics;
+
+    @Autowired
+    private FileDeletionService fileDeletionService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
 
     private final List<String> allowedExtensions = Arrays.asList(
             "jpg", "jpeg", "png", "svg", "gif",
@@ -44,6 +71,7 @@ public class PressService {
         return pressRepository.findAllOrderByPinnedAndCreatedAt();
     }
 
+    @Transactional(readOnly = true)
     public Optional<Press> getPressById(Long id) {
         return pressRepository.findById(id);
     }
@@ -51,65 +79,28 @@ public class PressService {
     public List<Press> searchPressAdvanced(String searchType, String keyword,
                                            String status,
                                            String startDate, String endDate) {
-        List<Press> pressList = pressRepository.findAllOrderByPinnedAndCreatedAt();
-
-        if (keyword != null && !keyword.trim().isEmpty()) {
-            String finalKeyword = keyword.trim();
-            pressList = pressList.stream()
-                    .filter(p -> {
-                        if ("제목".equals(searchType)) {
-                            return p.getTitle().contains(finalKeyword);
-                        } else if ("작성자".equals(searchType)) {
-                            return p.getAuthor() != null && p.getAuthor().contains(finalKeyword);
-                        } else {
-                            return p.getTitle().contains(finalKeyword) ||
-                                    (p.getAuthor() != null && p.getAuthor().contains(finalKeyword));
-                        }
-                    })
-                    .toList();
-        }
-
-        if (status != null && !status.equals("전체")) {
-            String finalStatus = status;
-            pressList = pressList.stream()
-                    .filter(p -> finalStatus.equals(p.getStatus()))
-                    .toList();
-        }
-
-        if (startDate != null && !startDate.trim().isEmpty()) {
-            LocalDateTime start = LocalDate.parse(startDate).atStartOfDay();
-            pressList = pressList.stream()
-                    .filter(p -> p.getCreatedAt().isAfter(start) || p.getCreatedAt().isEqual(start))
-                    .toList();
-        }
-
-        if (endDate != null && !endDate.trim().isEmpty()) {
-            LocalDateTime end = LocalDate.parse(endDate).atTime(23, 59, 59);
-            pressList = pressList.stream()
-                    .filter(p -> p.getCreatedAt().isBefore(end) || p.getCreatedAt().isEqual(end))
-                    .toList();
-        }
-
-        return pressList;
+        return listCacheService.get(BoardType.PRESS.getTableName(),
+                ListCacheService.key(searchType, keyword, status, startDate, endDate),
+                () -> pressRepository.findAll(
+                        BoardSpecifications.<Press>filters(null, status, startDate, endDate)
+                                .and(searchIndexService.keywordFilter(BoardType.PRESS, searchType, keyword)),
+                        BoardSpecifications.LIST_SORT));
     }
 
 
     @Transactional
     public Press savePress(Press press, MultipartFile[] files) throws IOException {
 
-        if (press.getStartDate() != null && press.getEndDate() != null) {
-            if (press.getEndDate().isBefore(press.getStartDate())) {
-                throw new IllegalArgumentException("게시 종료일은 시작일보다 이후여야 합니다.");
-            }
-        }
+        // 게시 기간 유효성 검사 / 게시 상태 자동 설정
+        PostRules.validatePeriod(press.getStartDate(), press.getEndDate());
+        press.setStatus(PostRules.statusOf(press.getStartDate(), press.getEndDate(), LocalDateTime.now()));
 
-        LocalDateTime now = LocalDateTime.now();
-        if (press.getStartDate() != null && press.getStartDate().isAfter(now)) {
-            press.setStatus("예약");
-        } else if (press.getEndDate() != null && press.getEndDate().isBefore(now)) {
-            press.setStatus("게시 종료");
-        } else {
-            press.setStatus("게시 중");
+        // 대시보드 집계용 수정 전 상태
+        DashboardCounterService.PostState previousState = dashboardCounterService.stateOf(BoardType.PRESS, press.getId());
+
+        // 첨부파일 수는 게시글 INSERT 전에 채운다 (persist 후에 바꾸면 flush 때 UPDATE 가 한 번 더 나감)
+        if (files != null && files.length > 0) {
+            press.setAttachmentCount((int) Arrays.stream(files).filter(file -> !file.isEmpty()).count());
         }
 
         Press savedPress = pressRepository.save(press);
@@ -124,38 +115,59 @@ public class PressService {
                 throw new IllegalArgumentException("총 90MB의 파일을 업로드 할 수 없습니다.");
             }
 
-            int uploadedCount = 0;
+            // 확장자는 파일을 쓰기 전에 모두 확인한다
+            List<MultipartFile> uploads = new ArrayList<>();
             for (MultipartFile file : files) {
                 if (!file.isEmpty()) {
-                    String fileName = file.getOriginalFilename();
-                    String extension = getFileExtension(fileName);
-
+                    String extension = getFileExtension(file.getOriginalFilename());
                     if (!isAllowedExtension(extension)) {
-                        throw new IllegalArgumentException("허용되지 않은 파일 형식입니다: " + fileName);
-                    }
-
-                    String savedFileName = saveFile(file);
-
-                    PressAttachment attachment = new PressAttachment();
-                    attachment.setPressId(savedPress.getId());
-                    attachment.setFileName(fileName);
-                    attachment.setFilePath(uploadDir + savedFileName);
-                    attachment.setFileSize(file.getSize());
-                    attachment.setFileType(extension);
-
-                    if (uploadedCount == 0 && isImageFile(extension)) {
-                        attachment.setIsRepresentative(true);
+                        uploadMetrics.recordRejected(BoardType.PRESS.getTableName(), extension);
+                        throw new IllegalArgumentException("허용되지 않은 파일 형식입니다: " + file.getOriginalFilename());
                     }
+                    uploads.add(file);
+                }
+            }
 
-                    attachmentRepository.save(attachment);
-                    uploadedCount++;
+            // 파일 쓰기 / 해시 계산은 동시에 (하나라도 실패하면 나머지도 지우고 트랜잭션 롤백)
+            List<StoredBlob> blobs = blobStoreService.storeAll(uploads);
+
+            List<PressAttachment> attachments = new ArrayList<>();
+            for (int i = 0; i < uploads.size(); i++) {
+                MultipartFile file = uploads.get(i);
+                StoredBlob blob = blobs.get(i);
+                String fileName = file.getOriginalFilename();
+                String extension = getFileExtension(fileName);
+
+                PressAttachment attachment = new PressAttachment();
+                attachment.setPressId(savedPress.getId());
+                attachment.setFileName(fileName);
+                attachment.setFilePath(blob.getFilePath());
+                attachment.setContentHash(blob.getSha256());
+                attachment.setFileSize(file.getSize());
+                attachment.setFileType(extension);
+
+                if (i == 0 && isImageFile(extension)) {
+                    attachment.setIsRepresentative(true);
                 }
+
+                attachments.add(attachment);
             }
 
-            savedPress.setAttachmentCount(uploadedCount);
-            pressRepository.save(savedPress);
+            // 첨부파일은 모아서 한 번에 저장 (커밋 시 JDBC batch INSERT 한 번)
+            attachmentRepository.saveAll(attachments);
+            for (PressAttachment attachment : attachments) {
+                thumbnailService.generateAfterCommit(BoardType.PRESS, attachment.getId(),
+                        attachment.getFilePath(), attachment.getContentHash(), attachment.getFileType());
+            }
+            uploadMetrics.recordUploaded(BoardType.PRESS.getTableName(), files);
         }
 
+        searchIndexService.indexAfterCommit(BoardType.PRESS, savedPress);
+        publicationScheduler.scheduleAfterCommit(BoardType.PRESS, savedPress.getId(),
+                savedPress.getStartDate(), savedPress.getEndDate());
+        dashboardCounterService.savedAfterCommit(BoardType.PRESS, previousState, savedPress);
+        eventPublisher.publishEvent(new BoardChangedEvent(BoardType.PRESS.getTableName(), savedPress.getId()));
+
         return savedPress;
     }
 
@@ -165,27 +177,34 @@ public class PressService {
         if (press.isPresent()) {
             List<PressAttachment> attachments = attachmentRepository.findByPressId(id);
             for (PressAttachment attachment : attachments) {
-                deleteFile(attachment.getFilePath());
+                releaseFile(attachment);
             }
             attachmentRepository.deleteByPressId(id);
             pressRepository.deleteById(id);
+            viewCountService.evict(BoardType.PRESS, id);
+            searchIndexService.removeAfterCommit(BoardType.PRESS, id);
+            eventPublisher.publishEvent(new BoardChangedEvent(BoardType.PRESS.getTableName(), id));
+            dashboardCounterService.deletedAfterCommit(BoardType.PRESS, press.get());
         }
     }
 
-    @Transactional
     public void increaseViewCount(Long id) {
-        Optional<Press> press = pressRepository.findById(id);
-        if (press.isPresent()) {
-            Press p = press.get();
-            p.setViewCount(p.getViewCount() + 1);
-            pressRepository.save(p);
-        }
+        viewCountService.increase(BoardType.PRESS, id);
+    }
+
+    // 화면에 보일 조회수 (DB 값 + 아직 DB 에 반영되지 않은 증가분)
+    public long getViewCount(Press press) {
+        return press.getViewCount() + viewCountService.pendingCount(BoardType.PRESS, press.getId());
     }
 
     public List<PressAttachment> getAttachments(Long pressId) {
         return attachmentRepository.findByPressId(pressId);
     }
 
+    public Optional<PressAttachment> getAttachment(Long attachmentId) {
+        return attachmentRepository.findById(attachmentId);
+    }
+
     private String getFileExtension(String fileName) {
         if (fileName == null) return "";
         int lastDotIndex = fileName.lastIndexOf('.');
@@ -193,7 +212,7 @@ public class PressService {
         return fileName.substring(lastDotIndex + 1).toLowerCase();
     }
 
-    private boolean isAllowedExtension(String extension) {
+    public boolean isAllowedExtension(String extension) {
         return allowedExtensions.contains(extension.toLowerCase());
     }
 
@@ -201,28 +220,11 @@ public class PressService {
         return Arrays.asList("jpg", "jpeg", "png", "svg", "gif").contains(extension.toLowerCase());
     }
 
-    private String saveFile(MultipartFile file) throws IOException {
-        File uploadDirectory = new File(uploadDir);
-        if (!uploadDirectory.exists()) {
-            uploadDirectory.mkdirs();
-        }
-
-        String originalFileName = file.getOriginalFilename();
-        String fileName = System.currentTimeMillis() + "_" + originalFileName;
-        Path filePath = Paths.get(uploadDir + fileName);
-        Files.write(filePath, file.getBytes());
-
-        return fileName;
-    }
-
-    private void deleteFile(String filePath) {
-        if (filePath != null) {
-            try {
-                Path path = Paths.get(filePath);
-                Files.deleteIfExists(path);
-            } catch (IOException e) {
-                e.printStackTrace();
-            }
+    private void releaseFile(PressAttachment attachment) {
+        if (attachment.getContentHash() != null) {
+            blobStoreService.release(attachment.getContentHash());
+        } else {
+            fileDeletionService.deleteAfterCommit(attachment.getFilePath());
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,178 @@
+package com.example.demo.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 게시 상태 자동 전환 (예약 → 게시 중 → 게시 종료)
+// 게시 시작 / 종료 시각마다 타이머를 걸고, 만료된 글을 게시판별로 모아 UPDATE ... WHERE id IN (...) 한 번으로 바꾼다.
+// 상태는 저장 시점과 같은 규칙으로 DB 에서 다시 계산하므로 날짜가 바뀐 글의 옛 타이머가 울려도 결과는 같다.
+@Service
+public class PublicationScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(PublicationScheduler.class);
+
+    private static final long TICK_MS = 1000;
+    private static final int WHEEL_SIZE = 60;
+    private static final int BATCH_SIZE = 500;
+
+    // 저장 시 규칙과 동일 (시작 전 → 예약, 종료 후 → 게시 종료, 그 외 → 게시 중)
+    private static final String STATUS_CASE =
+            "CASE WHEN start_date > ? THEN '예약' WHEN end_date < ? THEN '게시 종료' ELSE '게시 중' END";
+
+    private record Due(BoardType board, Long id) {
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private DashboardCounterService dashboardCounterService;
+
+    private final TimingWheel<Due> wheel = new TimingWheel<>(TICK_MS, WHEEL_SIZE, System.currentTimeMillis());
+    private volatile boolean ready;
+
+    // 기동 시: 내려가 있는 동안 지난 경계를 한 번에 반영하고, 앞으로의 경계를 휠에 다시 건다
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void rebuild() {
+        LocalDateTime now = LocalDateTime.now();
+        for (BoardType board : BoardType.values()) {
+            int changed = jdbcTemplate.update(
+                    "UPDATE " + board.getTableName() + " SET status = " + STATUS_CASE
+                            + " WHERE (start_date IS NOT NULL OR end_date IS NOT NULL) AND status <> " + STATUS_CASE,
+                    Timestamp.valueOf(now), Timestamp.valueOf(now), Timestamp.valueOf(now), Timestamp.valueOf(now));
+            if (changed > 0) {
+                eventPublisher.publishEvent(new BoardChangedEvent(board.getTableName(), null));
+            }
+
+            jdbcTemplate.query(
+                    "SELECT id, start_date, end_date FROM " + board.getTableName()
+                            + " WHERE start_date > ? OR end_date > ?",
+                    rs -> {
+                        Timestamp start = rs.getTimestamp("start_date");
+                        Timestamp end = rs.getTimestamp("end_date");
+                        schedule(board, rs.getLong("id"),
+                                start == null ? null : start.toLocalDateTime(),
+                                end == null ? null : end.toLocalDateTime());
+                    },
+                    Timestamp.valueOf(now), Timestamp.valueOf(now));
+        }
+        ready = true;
+        int scheduled;
+        synchronized (wheel) {
+            scheduled = wheel.size();
+        }
+        log.info("게시 상태 타이머 등록: {}건", scheduled);
+    }
+
+    // 저장 커밋 후 게시 시작 / 종료 시각 타이머 등록
+    public void scheduleAfterCommit(BoardType board, Long id, LocalDateTime startDate, LocalDateTime endDate) {
+        AfterCommit.run(() -> schedule(board, id, startDate, endDate));
+    }
+
+    private void schedule(BoardType board, Long id, LocalDateTime startDate, LocalDateTime endDate) {
+        long now = System.currentTimeMillis();
+        synchronized (wheel) {
+            for (LocalDateTime boundary : new LocalDateTime[]{startDate, endDate}) {
+                if (boundary == null) {
+                    continue;
+                }
+                long at = boundary.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+                if (at > now) {
+                    // 경계 바로 다음 틱 (같은 틱에 울리면 아직 경계 전일 수 있음)
+                    wheel.add((at / TICK_MS + 1) * TICK_MS, new Due(board, id));
+                }
+            }
+        }
+    }
+
+    @Scheduled(fixedRate = TICK_MS)
+    public void tick() {
+        if (!ready) {
+            return;
+        }
+        List<Due> expired;
+        synchronized (wheel) {
+            expired = wheel.advance(System.currentTimeMillis());
+        }
+        if (expired.isEmpty()) {
+            return;
+        }
+
+        Map<BoardType, List<Long>> byBoard = new EnumMap<>(BoardType.class);
+        for (Due due : expired) {
+            byBoard.computeIfAbsent(due.board(), k -> new ArrayList<>()).add(due.id());
+        }
+        for (Map.Entry<BoardType, List<Long>> entry : byBoard.entrySet()) {
+            try {
+                if (refreshStatus(entry.getKey(), entry.getValue()) > 0) {
+                    eventPublisher.publishEvent(new BoardChangedEvent(entry.getKey().getTableName(), null));
+                }
+            } catch (Exception e) {
+                log.error("게시 상태 전환 실패 ({})", entry.getKey().getTableName(), e);
+            }
+        }
+    }
+
+    private int refreshStatus(BoardType board, List<Long> ids) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int changed = 0;
+        for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + BATCH_SIZE));
+            String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+
+            List<Object> args = new ArrayList<>(chunk.size() + 4);
+            args.add(now);
+            args.add(now);
+            args.addAll(chunk);
+            args.add(now);
+            args.add(now);
+
+            Map<String, Long> before = countByStatus(board, placeholders, chunk);
+            int updated = jdbcTemplate.update(
+                    "UPDATE " + board.getTableName() + " SET status = " + STATUS_CASE
+                            + " WHERE id IN (" + placeholders + ") AND status <> " + STATUS_CASE,
+                    args.toArray());
+            if (updated > 0) {
+                dashboardCounterService.statusShifted(board, before, countByStatus(board, placeholders, chunk));
+            }
+            changed += updated;
+        }
+        return changed;
+    }
+
+    // 대시보드 상태별 집계 보정용
+    private Map<String, Long> countByStatus(BoardType board, String placeholders, List<Long> ids) {
+        Map<String, Long> counts = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT status, COUNT(*) AS cnt FROM " + board.getTableName()
+                        + " WHERE id IN (" + placeholders + ") GROUP BY status",
+                rs -> {
+                    counts.put(rs.getString("status"), rs.getLong("cnt"));
+                },
+                ids.toArray());
+        return counts;
+    }
+}
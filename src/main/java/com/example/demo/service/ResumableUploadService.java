@@ -0,0 +1,282 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.ResumableUpload;
+import com.example.demo.entity.VideoAttachment;
+import com.example.demo.repository.ResumableUploadRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 홍보영상 이어받기 업로드 (tus 1.0 core + creation / expiration / termination 방식)
+// 1) 생성: 게시글 / 확장자 / 게시글당 용량을 먼저 확인하고 빈 임시 파일과 행을 만든다
+// 2) 이어 쓰기: 보낸 오프셋이 기록된 오프셋과 같을 때만 그 위치부터 FileChannel 위치 지정 쓰기로 붙인다
+//    요청이 중간에 끊겨도 받은 만큼은 디스크에 내려 쓰고 오프셋을 기록하므로, 클라이언트는 HEAD 로 오프셋을 묻고 나머지만 보낸다
+// 3) 다 받으면 내용 해시를 계산해 공용 저장소로 옮기고 첨부파일로 등록한다
+// 마지막으로 받은 뒤 expire-hours 가 지난 업로드는 행을 지우고 임시 파일은 삭제 대기열에 넣는다.
+@Service
+public class ResumableUploadService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int EXPIRE_BATCH_SIZE = 200;
+
+    @Autowired
+    private ResumableUploadRepository uploadRepository;
+
+    @Autowired
+    private VideoService videoService;
+
+    @Autowired
+    private FileDeletionService fileDeletionService;
+
+    @Value("${board.upload.resumable.expire-hours:24}")
+    private long expireHours;
+
+    private final String stagingDir = "uploads/tmp/resumable/";
+
+    // 지금 이어 쓰는 중인 업로드 (같은 업로드에 동시에 쓰거나, 쓰는 중에 만료 정리되는 것을 막음)
+    private final Set<String> active = ConcurrentHashMap.newKeySet();
+
+    private final TransactionTemplate transactionTemplate;
+
+    public ResumableUploadService(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public ResumableUpload create(Long videoId, String fileName, String contentType, long length) throws IOException {
+        if (fileName == null || fileName.isBlank()) {
+            throw new IllegalArgumentException("파일 이름(Upload-Metadata filename)이 없습니다.");
+        }
+        if (length <= 0) {
+            throw new IllegalArgumentException("업로드 크기가 올바르지 않습니다: " + length);
+        }
+        videoService.checkAttachmentQuota(videoId, fileName, length);
+
+        String id = UUID.randomUUID().toString().replace("-", "");
+        Path staged = Paths.get(stagingDir + id);
+        Files.createDirectories(staged.getParent());
+        Files.createFile(staged);
+
+        ResumableUpload upload = new ResumableUpload();
+        upload.setId(id);
+        upload.setVideoId(videoId);
+        upload.setFileName(fileName);
+        upload.setContentType(contentType);
+        upload.setStagedPath(staged.toString());
+        upload.setUploadLength(length);
+        try {
+            return uploadRepository.save(upload);
+        } catch (RuntimeException e) {
+            Files.deleteIfExists(staged);
+            throw e;
+        }
+    }
+
+    // 만료되지 않은 업로드
+    public Optional<ResumableUpload> find(String id) {
+        return uploadRepository.findById(id).filter(upload -> !expiresAt(upload).isBefore(LocalDateTime.now()));
+    }
+
+    public LocalDateTime expiresAt(ResumableUpload upload) {
+        return upload.getUpdatedAt().plusHours(expireHours);
+    }
+
+    // offset 부터 in 의 내용을 이어 쓴다 (contentLength 를 모르면 -1)
+    // 다 받으면 첨부파일 등록까지 하고 attachmentId 가 채워진 상태를 돌려준다. 없거나 만료된 업로드면 빈 값.
+    public Optional<ResumableUpload> append(String id, long offset, long contentLength, InputStream in) throws IOException {
+        if (!active.add(id)) {
+            throw new IllegalStateException("이미 전송 중인 업로드입니다.");
+        }
+        try {
+            Optional<ResumableUpload> found = find(id);
+            if (found.isEmpty()) {
+                return found;
+            }
+            ResumableUpload upload = found.get();
+            if (offset != upload.getUploadOffset()) {
+                throw new IllegalStateException("업로드 오프셋이 맞지 않습니다. 현재 오프셋: " + upload.getUploadOffset());
+            }
+            if (upload.getAttachmentId() != null) {
+                // 이미 등록됨 (완료 응답을 못 받은 클라이언트가 다시 보낸 경우)
+                return found;
+            }
+            long end = upload.getUploadLength();
+            if (contentLength > end - offset) {
+                throw new IllegalArgumentException("업로드 크기를 넘는 데이터입니다.");
+            }
+
+            long position = offset;
+            try (FileChannel channel = FileChannel.open(Paths.get(upload.getStagedPath()), StandardOpenOption.WRITE)) {
+                try {
+                    ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+                    while (position < end) {
+                        int read = in.read(buffer.array(), 0, (int) Math.min(BUFFER_SIZE, end - position));
+                        if (read == -1) {
+                            break;
+                        }
+                        buffer.limit(read);
+                        while (buffer.hasRemaining()) {
+                            position += channel.write(buffer, position);
+                        }
+                        buffer.clear();
+                    }
+                    if (position == end) {
+                        // 오프셋 기록 전에 죽어 같은 구간을 다시 받았던 경우 뒤에 남은 바이트
+                        channel.truncate(end);
+                    }
+                } finally {
+                    // 끊긴 요청도 받은 만큼은 남긴다 (디스크에 먼저 내려 써서 기록된 오프셋이 파일 내용보다 앞서지 않게)
+                    if (position > offset) {
+                        channel.force(false);
+                        long written = position;
+                        transactionTemplate.executeWithoutResult(status ->
+                                uploadRepository.updateOffset(id, written, LocalDateTime.now()));
+                    }
+                }
+            }
+            upload.setUploadOffset(position);
+
+            if (position < end) {
+                return Optional.of(upload);
+            }
+            return Optional.of(complete(upload));
+        } finally {
+            active.remove(id);
+        }
+    }
+
+    // 업로드 취소 (없으면 false)
+    public boolean terminate(String id) {
+        if (!active.add(id)) {
+            throw new IllegalStateException("이미 전송 중인 업로드입니다.");
+        }
+        try {
+            Optional<ResumableUpload> found = uploadRepository.findById(id);
+            found.ifPresent(upload -> discard(List.of(upload)));
+            return found.isPresent();
+        } finally {
+            active.remove(id);
+        }
+    }
+
+    // 만료된 업로드 정리 (전송 중인 것은 다음 주기로)
+    @Scheduled(fixedDelayString = "${board.upload.resumable.cleanup-interval-ms:3600000}")
+    public void expire() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(expireHours);
+        while (true) {
+            List<ResumableUpload> batch = uploadRepository.findByUpdatedAtBeforeOrderByUpdatedAtAsc(
+                    cutoff, Limit.of(EXPIRE_BATCH_SIZE));
+            List<ResumableUpload> claimed = new ArrayList<>();
+            for (ResumableUpload upload : batch) {
+                if (active.add(upload.getId())) {
+                    claimed.add(upload);
+                }
+            }
+            try {
+                if (!claimed.isEmpty()) {
+                    discard(claimed);
+                }
+            } finally {
+                claimed.forEach(upload -> active.remove(upload.getId()));
+            }
+            if (batch.size() < EXPIRE_BATCH_SIZE || claimed.isEmpty()) {
+                return;
+            }
+        }
+    }
+
+    // 다 받은 파일을 첨부파일로 등록 (공용 저장소로 옮기므로 임시 파일은 남지 않는다)
+    private ResumableUpload complete(ResumableUpload upload) throws IOException {
+        Path staged = Paths.get(upload.getStagedPath());
+        List<VideoAttachment> attachments;
+        try {
+            StagedMultipartFile file = new StagedMultipartFile("file", upload.getFileName(), upload.getContentType(),
+                    staged, upload.getUploadLength(), sha256Of(staged));
+            attachments = videoService.saveAttachments(upload.getVideoId(), new MultipartFile[]{file});
+        } catch (IOException | RuntimeException e) {
+            // 그 사이 게시글이 지워졌거나 한도를 넘었거나 임시 파일이 사라졌으면 다시 시도해도 소용없으므로 업로드도 지운다
+            // (저장 요청이 많아 기다리다 실패한 경우 등은 남겨 두고, 같은 오프셋으로 다시 보내면 등록을 다시 시도한다)
+            if (e instanceof IllegalArgumentException || !Files.exists(staged)) {
+                discard(List.of(upload));
+            }
+            throw e;
+        }
+
+        Long attachmentId = attachments.get(0).getId();
+        transactionTemplate.executeWithoutResult(status ->
+                uploadRepository.complete(upload.getId(), attachmentId, LocalDateTime.now()));
+        upload.setAttachmentId(attachmentId);
+        return upload;
+    }
+
+    private void discard(List<ResumableUpload> uploads) {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (ResumableUpload upload : uploads) {
+                if (upload.getAttachmentId() == null) {
+                    fileDeletionService.deleteAfterCommit(upload.getStagedPath());
+                }
+            }
+            uploadRepository.deleteAllByIdInBatch(uploads.stream().map(ResumableUpload::getId).toList());
+        });
+    }
+
+    private String sha256Of(Path file) throws IOException {
+        MessageDigest digest = BlobStoreService.newDigest();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    // Upload-Metadata: "key base64값,key base64값,..." (값은 생략 가능)
+    public static Map<String, String> parseMetadata(String header) {
+        Map<String, String> metadata = new HashMap<>();
+        if (header == null || header.isBlank()) {
+            return metadata;
+        }
+        for (String pair : header.split(",")) {
+            String[] parts = pair.trim().split(" ", 2);
+            if (parts[0].isEmpty()) {
+                continue;
+            }
+            try {
+                metadata.put(parts[0], parts.length > 1
+                        ? new String(Base64.getDecoder().decode(parts[1].trim()), StandardCharsets.UTF_8)
+                        : "");
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Upload-Metadata 값이 base64 가 아닙니다: " + parts[0]);
+            }
+        }
+        return metadata;
+    }
+}
@@ -0,0 +1,5 @@
+package com.example.demo.service;
+
+// 관련도 검색 결과 한 건
+public record SearchHit(Long id, String title, double score) {
+}
@@ -0,0 +1,232 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.BoardPost;
+import com.example.demo.repository.BoardSpecifications;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 게시판 전문 검색 (제목 / 작성자 / 내용 역색인 + 제목 / 작성자 n-gram 색인)
+// 기동 시 스냅샷을 읽고 이후 변경분만 DB 에서 따라잡는다. 스냅샷이 없으면 전체 색인.
+// 목록 검색의 제목 / 작성자는 부분 문자열(n-gram), 내용은 단어 접두어(역색인)로 찾는다.
+// 색인이 준비되기 전이나 후보가 너무 많으면 LIKE 검색으로 대신한다.
+@Service
+public class SearchIndexService {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchIndexService.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${board.search.persist:true}")
+    private boolean persist;
+
+    @Value("${board.search.index-dir:./data/search-index}")
+    private String indexDir;
+
+    private final Map<BoardType, InvertedIndex> indexes = new EnumMap<>(BoardType.class);
+    private final Map<BoardType, NgramIndex> titleGrams = new EnumMap<>(BoardType.class);
+    private final Map<BoardType, NgramIndex> authorGrams = new EnumMap<>(BoardType.class);
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private volatile boolean ready;
+
+    public SearchIndexService() {
+        for (BoardType board : BoardType.values()) {
+            indexes.put(board, new InvertedIndex());
+            titleGrams.put(board, new NgramIndex());
+            authorGrams.put(board, new NgramIndex());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        for (BoardType board : BoardType.values()) {
+            InvertedIndex index = indexes.get(board);
+            long started = System.currentTimeMillis();
+            if (persist && load(board, index)) {
+                catchUp(board, index);
+            } else {
+                indexRows(board, index, null);
+            }
+            indexGrams(board);
+            log.info("검색 색인 준비: {} {}건 ({}ms)", board.getTableName(), index.size(),
+                    System.currentTimeMillis() - started);
+        }
+        ready = true;
+    }
+
+    // 저장 커밋 후 색인 (롤백되면 색인하지 않는다)
+    public void indexAfterCommit(BoardType board, BoardPost post) {
+        AfterCommit.run(() -> index(board, post));
+    }
+
+    // 삭제 커밋 후 색인에서 제거
+    public void removeAfterCommit(BoardType board, Long id) {
+        AfterCommit.run(() -> {
+            indexes.get(board).remove(id);
+            titleGrams.get(board).remove(id);
+            authorGrams.get(board).remove(id);
+            dirty.set(true);
+        });
+    }
+
+    private void index(BoardType board, BoardPost post) {
+        indexes.get(board).put(post.getId(), post.getTitle(), post.getAuthor(), post.getContent(), post.getUpdatedAt());
+        titleGrams.get(board).put(post.getId(), post.getTitle());
+        authorGrams.get(board).put(post.getId(), post.getAuthor());
+        dirty.set(true);
+    }
+
+    // 목록 검색용 키워드 조건 (색인이 준비되기 전에만 LIKE)
+    public <T> Specification<T> keywordFilter(BoardType board, String searchType, String keyword) {
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return (root, query, cb) -> cb.conjunction();
+        }
+        if (!ready) {
+            return BoardSpecifications.keyword(searchType, keyword.trim());
+        }
+        return BoardSpecifications.idIn(match(board, searchType, keyword.trim()));
+    }
+
+    // 제목 / 작성자는 부분 문자열, 전체는 여기에 내용 단어 검색을 더한다
+    private Set<Long> match(BoardType board, String searchType, String keyword) {
+        if ("제목".equals(searchType)) {
+            return titleGrams.get(board).search(keyword);
+        } else if ("작성자".equals(searchType)) {
+            return authorGrams.get(board).search(keyword);
+        }
+        Set<Long> ids = new HashSet<>(titleGrams.get(board).search(keyword));
+        ids.addAll(authorGrams.get(board).search(keyword));
+        ids.addAll(indexes.get(board).match(keyword, 1 << InvertedIndex.CONTENT));
+        return ids;
+    }
+
+    // 관련도 순 검색
+    public List<SearchHit> search(BoardType board, String searchType, String keyword, int limit) {
+        return indexes.get(board).search(keyword, fieldMask(searchType), limit).stream()
+                .map(hit -> new SearchHit(hit.id(), hit.title(), hit.score()))
+                .toList();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    private int fieldMask(String searchType) {
+        if ("제목".equals(searchType)) {
+            return 1 << InvertedIndex.TITLE;
+        } else if ("작성자".equals(searchType)) {
+            return 1 << InvertedIndex.AUTHOR;
+        }
+        return InvertedIndex.ALL_FIELDS;
+    }
+
+    // DB 에서 색인 (since 가 null 이면 전체)
+    private void indexRows(BoardType board, InvertedIndex index, LocalDateTime since) {
+        String sql = "SELECT id, title, author, content, updated_at FROM " + board.getTableName();
+        Object[] args = {};
+        if (since != null) {
+            sql += " WHERE updated_at >= ?";
+            args = new Object[]{Timestamp.valueOf(since)};
+        }
+        jdbcTemplate.query(sql, rs -> {
+            Timestamp updatedAt = rs.getTimestamp("updated_at");
+            index.put(rs.getLong("id"), rs.getString("title"), rs.getString("author"),
+                    rs.getString("content"), updatedAt == null ? null : updatedAt.toLocalDateTime());
+        }, args);
+    }
+
+    // n-gram 색인은 제목 / 작성자만 읽으므로 스냅샷 없이 매번 DB 에서 만든다
+    private void indexGrams(BoardType board) {
+        jdbcTemplate.query("SELECT id, title, author FROM " + board.getTableName(), rs -> {
+            long id = rs.getLong("id");
+            titleGrams.get(board).put(id, rs.getString("title"));
+            authorGrams.get(board).put(id, rs.getString("author"));
+        });
+    }
+
+    // 스냅샷 이후 수정된 글 반영 + 내려가 있는 동안 삭제된 글 제거
+    private void catchUp(BoardType board, InvertedIndex index) {
+        indexRows(board, index, index.lastUpdatedAt());
+
+        Set<Long> existing = new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT id FROM " + board.getTableName(), Long.class));
+        for (Long id : index.ids()) {
+            if (!existing.contains(id)) {
+                index.remove(id);
+            }
+        }
+    }
+
+    private boolean load(BoardType board, InvertedIndex index) {
+        Path file = snapshotPath(board);
+        if (!Files.exists(file)) {
+            return false;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            index.readFrom(in);
+            return true;
+        } catch (IOException e) {
+            log.warn("검색 색인 스냅샷을 읽을 수 없어 새로 만듭니다: {} ({})", file, e.getMessage());
+            return false;
+        }
+    }
+
+    // 변경이 있을 때만 주기적으로 스냅샷 저장
+    @Scheduled(fixedDelayString = "${board.search.snapshot-interval-ms:600000}")
+    public void snapshot() {
+        if (!persist || !ready || !dirty.getAndSet(false)) {
+            return;
+        }
+        try {
+            Files.createDirectories(Paths.get(indexDir));
+            for (BoardType board : BoardType.values()) {
+                Path file = snapshotPath(board);
+                Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+                try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                    indexes.get(board).writeTo(out);
+                }
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+        } catch (IOException e) {
+            dirty.set(true);
+            log.error("검색 색인 스냅샷 저장 실패", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dirty.set(true);
+        snapshot();
+    }
+
+    private Path snapshotPath(BoardType board) {
+        return Paths.get(indexDir, board.getTableName() + ".idx");
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.demo.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+// 내보내기 파일 쓰기 (CSV / XLSX)
+// 행을 받는 즉시 출력 스트림에 쓰고, 지나간 행은 들고 있지 않는다.
+interface SheetWriter extends Closeable {
+
+    DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    // 값: String, Number, Boolean, LocalDateTime, null
+    void writeRow(List<?> values) throws IOException;
+
+    static SheetWriter open(String format, OutputStream out, String sheetName, List<String> header) throws IOException {
+        SheetWriter writer = switch (format) {
+            case "csv" -> new CsvWriter(out);
+            case "xlsx" -> new XlsxWriter(out, sheetName, header);
+            default -> throw new IllegalArgumentException("지원하지 않는 형식입니다: " + format);
+        };
+        if (writer instanceof CsvWriter) {
+            writer.writeRow(header);
+        }
+        return writer;
+    }
+
+    static String contentType(String format) {
+        return switch (format) {
+            case "csv" -> "text/csv;charset=UTF-8";
+            case "xlsx" -> "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+            default -> throw new IllegalArgumentException("지원하지 않는 형식입니다: " + format);
+        };
+    }
+
+    static String text(Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof LocalDateTime dateTime) {
+            return dateTime.format(DATE_TIME);
+        }
+        if (value instanceof Boolean flag) {
+            return flag ? "Y" : "N";
+        }
+        return value.toString();
+    }
+}
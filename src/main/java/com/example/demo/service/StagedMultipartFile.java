@@ -0,0 +1,86 @@
+package com.example.demo.service;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+// 스트리밍 업로드로 디스크에 임시 저장된 파일
+// transferTo 는 복사 없이 파일 이동(rename)으로 처리된다.
+public class StagedMultipartFile implements MultipartFile {
+
+    private final String name;
+    private final String originalFilename;
+    private final String contentType;
+    private final Path stagedPath;
+    private final long size;
+    private final String sha256;
+
+    public StagedMultipartFile(String name, String originalFilename, String contentType,
+                               Path stagedPath, long size, String sha256) {
+        this.name = name;
+        this.originalFilename = originalFilename;
+        this.contentType = contentType;
+        this.stagedPath = stagedPath;
+        this.size = size;
+        this.sha256 = sha256;
+    }
+
+    public Path getStagedPath() {
+        return stagedPath;
+    }
+
+    // 수신 중 계산한 내용 해시 (SHA-256, hex)
+    public String getSha256() {
+        return sha256;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getOriginalFilename() {
+        return originalFilename;
+    }
+
+    @Override
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public long getSize() {
+        return size;
+    }
+
+    @Override
+    public byte[] getBytes() throws IOException {
+        return Files.readAllBytes(stagedPath);
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return Files.newInputStream(stagedPath);
+    }
+
+    @Override
+    public void transferTo(File dest) throws IOException {
+        transferTo(dest.toPath());
+    }
+
+    @Override
+    public void transferTo(Path dest) throws IOException {
+        Files.move(stagedPath, dest, StandardCopyOption.REPLACE_EXISTING);
+    }
+}
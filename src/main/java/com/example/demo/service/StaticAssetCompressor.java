@@ -0,0 +1,176 @@
+package com.example.demo.service;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+// 정적 css / js 사전 압축
+// 기동 시 classpath:static 아래 css / js 를 assets 폴더에 복사하고 옆에 .gz (최대 압축) / .br 파일을 만든다.
+// 요청마다 압축하지 않고 EncodedResourceResolver 가 Accept-Encoding 에 맞는 파일을 그대로 보낸다 (WebConfig).
+// 내용이 바뀐 파일만 다시 만들고, 원본이 없어진 파일은 지운다. brotli 는 JDK 에 인코더가 없어 외부 명령이 있을 때만 만든다.
+@Service
+public class StaticAssetCompressor {
+
+    private static final Logger log = LoggerFactory.getLogger(StaticAssetCompressor.class);
+
+    private static final List<String> PATTERNS = List.of("classpath:static/**/*.css", "classpath:static/**/*.js");
+    private static final List<String> ENCODED_SUFFIXES = List.of(".gz", ".br");
+
+    @Value("${board.assets.precompress:true}")
+    private boolean enabled;
+
+    @Value("${board.assets.dir:./data/assets}")
+    private String assetDir;
+
+    // 비우면 brotli 압축본을 만들지 않는다
+    @Value("${board.assets.brotli-command:brotli}")
+    private String brotliCommand;
+
+    private boolean brotliAvailable;
+
+    @PostConstruct
+    public void prepare() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        long started = System.currentTimeMillis();
+        brotliAvailable = !brotliCommand.isBlank();
+        Path root = Paths.get(assetDir).toAbsolutePath().normalize();
+
+        Set<Path> current = new HashSet<>();
+        int updated = 0;
+        for (String pattern : PATTERNS) {
+            for (Resource resource : new PathMatchingResourcePatternResolver().getResources(pattern)) {
+                String url = resource.getURL().toString();
+                Path target = root.resolve(url.substring(url.lastIndexOf("/static/") + "/static/".length())).normalize();
+                current.add(target);
+                byte[] content;
+                try (InputStream in = resource.getInputStream()) {
+                    content = in.readAllBytes();
+                }
+                if (write(target, content)) {
+                    updated++;
+                }
+            }
+        }
+        removeStale(root, current);
+        log.info("정적 파일 사전 압축: {}개 (변경 {}개, brotli {}, {}ms)", current.size(), updated,
+                brotliAvailable ? "사용" : "없음", System.currentTimeMillis() - started);
+    }
+
+    // 원본 / 압축본 쓰기 (내용이 같고 압축본도 있으면 건너뜀)
+    private boolean write(Path target, byte[] content) throws IOException {
+        Path gzip = sibling(target, ".gz");
+        Path brotli = sibling(target, ".br");
+        boolean unchanged = Files.isRegularFile(target) && Arrays.equals(Files.readAllBytes(target), content);
+        if (unchanged && Files.exists(gzip) && (!brotliAvailable || Files.exists(brotli))) {
+            return false;
+        }
+
+        Files.createDirectories(target.getParent());
+        // 압축본을 먼저 바꾸고 원본을 마지막에 바꾼다 (버전 해시는 원본 내용으로 계산됨)
+        Path gzipTemp = temp(target);
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(gzipTemp)) {{
+            def.setLevel(Deflater.BEST_COMPRESSION);
+        }}) {
+            out.write(content);
+        }
+        replace(gzipTemp, gzip);
+
+        Files.deleteIfExists(brotli);
+        if (brotliAvailable) {
+            compressBrotli(target, content, brotli);
+        }
+
+        if (!unchanged) {
+            Path temp = temp(target);
+            Files.write(temp, content);
+            replace(temp, target);
+        }
+        return true;
+    }
+
+    private void compressBrotli(Path target, byte[] content, Path brotli) throws IOException {
+        Path source = temp(target);
+        Path output = temp(target);
+        try {
+            Files.write(source, content);
+            Process process = new ProcessBuilder(brotliCommand, "-q", "11", "-f", "-o", output.toString(), source.toString())
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+            if (process.waitFor(30, TimeUnit.SECONDS) && process.exitValue() == 0) {
+                replace(output, brotli);
+            } else {
+                process.destroyForcibly();
+                log.warn("brotli 압축 실패: {}", target);
+            }
+        } catch (IOException e) {
+            // 명령이 없음: 이번 기동에서는 gzip 만 만든다
+            brotliAvailable = false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            brotliAvailable = false;
+        } finally {
+            Files.deleteIfExists(source);
+            Files.deleteIfExists(output);
+        }
+    }
+
+    private void removeStale(Path root, Set<Path> current) throws IOException {
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(root)) {
+            for (Path file : files.filter(Files::isRegularFile).toList()) {
+                String name = file.getFileName().toString();
+                Path original = file;
+                for (String suffix : ENCODED_SUFFIXES) {
+                    if (name.endsWith(suffix)) {
+                        original = file.resolveSibling(name.substring(0, name.length() - suffix.length()));
+                    }
+                }
+                if (!current.contains(original)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    private static Path sibling(Path file, String suffix) {
+        return file.resolveSibling(file.getFileName() + suffix);
+    }
+
+    private static Path temp(Path file) throws IOException {
+        return Files.createTempFile(file.getParent(), ".", ".tmp");
+    }
+
+    private static void replace(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
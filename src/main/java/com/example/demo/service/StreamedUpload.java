@@ -0,0 +1,72 @@
+package com.example.demo.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 스트리밍 파싱된 multipart 요청 (폼 필드 + 임시 저장 파일)
+// close 시 저장 경로로 옮겨지지 않은 임시 파일은 삭제한다.
+public class StreamedUpload implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(StreamedUpload.class);
+
+    private final Map<String, String> fields = new HashMap<>();
+    private final List<StagedMultipartFile> files = new ArrayList<>();
+
+    void addField(String name, String value) {
+        fields.putIfAbsent(name, value);
+    }
+
+    void addFile(StagedMultipartFile file) {
+        files.add(file);
+    }
+
+    public String get(String name) {
+        return fields.get(name);
+    }
+
+    public Long getLong(String name) {
+        String value = fields.get(name);
+        if (value == null || value.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 값입니다: " + name);
+        }
+    }
+
+    public Boolean getBoolean(String name, boolean defaultValue) {
+        String value = fields.get(name);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        return Boolean.valueOf(value.trim());
+    }
+
+    int getFileCount() {
+        return files.size();
+    }
+
+    public StagedMultipartFile[] getFiles() {
+        return files.toArray(new StagedMultipartFile[0]);
+    }
+
+    @Override
+    public void close() {
+        for (StagedMultipartFile file : files) {
+            try {
+                Files.deleteIfExists(file.getStagedPath());
+            } catch (IOException e) {
+                log.warn("임시 업로드 파일 삭제 실패: {}", file.getStagedPath(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.demo.service;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.apache.commons.fileupload.FileItemIterator;
+import org.apache.commons.fileupload.FileItemStream;
+import org.apache.commons.fileupload.FileUpload;
+import org.apache.commons.fileupload.FileUploadBase;
+import org.apache.commons.fileupload.FileUploadException;
+import org.apache.commons.fileupload.UploadContext;
+import org.apache.commons.fileupload.util.Streams;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+// multipart 요청을 commons-fileupload 스트리밍 API 로 직접 파싱
+// 파일 파트는 고정 크기 버퍼로 임시 폴더에 바로 기록되므로 파일 크기와 무관하게 힙 사용량이 일정하다.
+// 확장자 / 개수 / 총 용량은 파트 헤더를 읽는 즉시 확인해 잘못된 업로드가 임시 폴더를 채우지 않게 한다.
+@Service
+public class StreamingUploadService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    // 게시판 서비스의 저장 시 검증과 같은 한도
+    static final int MAX_FILES = 5;
+    static final long MAX_TOTAL_SIZE = 90 * 1024 * 1024;
+
+    private final String stagingDir = "uploads/tmp/";
+
+    @Value("${board.upload.max-request-size:95MB}")
+    private DataSize maxRequestSize;
+
+    @Autowired
+    private UploadMetrics uploadMetrics;
+
+    // allowedExtension: 게시판 서비스의 확장자 허용 목록 (소문자 확장자)
+    public StreamedUpload receive(HttpServletRequest request, BoardType board,
+                                  Predicate<String> allowedExtension) throws IOException {
+        ServletUploadContext context = new ServletUploadContext(request);
+        String contentType = request.getContentType();
+        if (contentType == null || !contentType.toLowerCase().startsWith("multipart/")) {
+            throw new IllegalArgumentException("multipart/form-data 요청이 아닙니다.");
+        }
+
+        FileUpload upload = new FileUpload();
+        upload.setHeaderEncoding(StandardCharsets.UTF_8.name());
+        upload.setSizeMax(maxRequestSize.toBytes());
+
+        Files.createDirectories(Paths.get(stagingDir));
+
+        StreamedUpload result = new StreamedUpload();
+        long totalSize = 0;
+        try {
+            FileItemIterator iterator = upload.getItemIterator(context);
+            while (iterator.hasNext()) {
+                FileItemStream item = iterator.next();
+                try (InputStream in = item.openStream()) {
+                    if (item.isFormField()) {
+                        result.addField(item.getFieldName(), Streams.asString(in, StandardCharsets.UTF_8.name()));
+                    } else if (item.getName() != null && !item.getName().isEmpty()) {
+                        checkPart(board, allowedExtension, item.getName(), result.getFileCount());
+                        Path staged = Paths.get(stagingDir + UUID.randomUUID());
+                        MessageDigest digest = BlobStoreService.newDigest();
+                        long size = writeTo(in, staged, digest, MAX_TOTAL_SIZE - totalSize);
+                        totalSize += size;
+                        result.addFile(new StagedMultipartFile(
+                                item.getFieldName(), item.getName(), item.getContentType(), staged, size,
+                                HexFormat.of().formatHex(digest.digest())));
+                    }
+                }
+            }
+        } catch (FileUploadBase.SizeLimitExceededException e) {
+            result.close();
+            throw new IllegalArgumentException("업로드 가능한 최대 용량을 초과했습니다.");
+        } catch (FileUploadBase.FileUploadIOException e) {
+            // 스트리밍 도중 용량 초과
+            result.close();
+            throw new IllegalArgumentException("업로드 가능한 최대 용량을 초과했습니다.");
+        } catch (FileUploadException e) {
+            result.close();
+            throw new IOException("업로드 처리 중 오류가 발생했습니다.", e);
+        } catch (IOException | RuntimeException e) {
+            result.close();
+            throw e;
+        }
+        return result;
+    }
+
+    // 파일 파트 헤더만 보고 거절 (본문을 쓰기 전)
+    private void checkPart(BoardType board, Predicate<String> allowedExtension, String fileName, int fileCount) {
+        if (fileCount >= MAX_FILES) {
+            throw new IllegalArgumentException("최대 5개까지 업로드 가능합니다.");
+        }
+        String extension = getFileExtension(fileName);
+        if (!allowedExtension.test(extension)) {
+            uploadMetrics.recordRejected(board.getTableName(), extension);
+            throw new IllegalArgumentException("허용되지 않은 파일 형식입니다: " + fileName);
+        }
+    }
+
+    private String getFileExtension(String fileName) {
+        int lastDotIndex = fileName.lastIndexOf('.');
+        if (lastDotIndex == -1) return "";
+        return fileName.substring(lastDotIndex + 1).toLowerCase();
+    }
+
+    // 고정 크기 버퍼로 파일 채널에 기록하면서 내용 해시 계산
+    // 남은 용량(remaining)을 넘으면 그 자리에서 멈추고 쓰던 파일을 지운다.
+    private long writeTo(InputStream in, Path target, MessageDigest digest, long remaining) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        long written = 0;
+        try (FileChannel channel = FileChannel.open(target,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            int read;
+            while ((read = in.read(buffer.array())) != -1) {
+                if (written + read > remaining) {
+                    throw new IllegalArgumentException("총 90MB의 파일을 업로드 할 수 없습니다.");
+                }
+                digest.update(buffer.array(), 0, read);
+                buffer.limit(read);
+                while (buffer.hasRemaining()) {
+                    written += channel.write(buffer);
+                }
+                buffer.clear();
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(target);
+            throw e;
+        }
+        return written;
+    }
+
+    // jakarta 서블릿 요청 → commons-fileupload 요청 컨텍스트
+    private static class ServletUploadContext implements UploadContext {
+
+        private final HttpServletRequest request;
+
+        ServletUploadContext(HttpServletRequest request) {
+            this.request = request;
+        }
+
+        @Override
+        public String getCharacterEncoding() {
+            return request.getCharacterEncoding();
+        }
+
+        @Override
+        public String getContentType() {
+            return request.getContentType();
+        }
+
+        @Override
+        @Deprecated
+        public int getContentLength() {
+            return request.getContentLength();
+        }
+
+        @Override
+        public long contentLength() {
+            return request.getContentLengthLong();
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return request.getInputStream();
+        }
+    }
+}
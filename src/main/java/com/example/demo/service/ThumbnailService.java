@@ -0,0 +1,226 @@
+package com.example.demo.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 이미지 첨부파일 썸네일 생성 (백그라운드)
+// 업로드 커밋 후 고정 폭 JPEG 를 만들고 경로를 첨부파일 행에 기록한다.
+@Service
+public class ThumbnailService {
+
+    private static final Logger log = LoggerFactory.getLogger(ThumbnailService.class);
+
+    public enum Size {
+        SMALL(240),
+        LARGE(720);
+
+        private final int width;
+
+        Size(int width) {
+            this.width = width;
+        }
+
+        public int getWidth() {
+            return width;
+        }
+    }
+
+    // ImageIO 로 읽을 수 있는 형식 (svg 제외)
+    private static final List<String> SUPPORTED = List.of("jpg", "jpeg", "png", "gif");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityCacheService entityCacheService;
+
+    private final String thumbDir = "uploads/thumbs/";
+
+    private final ThreadPoolExecutor executor;
+
+    public ThumbnailService(@Value("${board.thumbnail.threads:2}") int threads,
+                            @Value("${board.thumbnail.queue-size:200}") int queueSize) {
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "thumbnail-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    public boolean isSupported(String extension) {
+        return extension != null && SUPPORTED.contains(extension.toLowerCase());
+    }
+
+    // 현재 트랜잭션 커밋 후 생성 요청
+    public void generateAfterCommit(BoardType board, Long attachmentId,
+                                    String filePath, String contentHash, String extension) {
+        if (!isSupported(extension)) {
+            return;
+        }
+        Runnable task = () -> submit(board, attachmentId, filePath, contentHash);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    // 서버 시작 시 썸네일이 없는 이미지 첨부파일 보충 (대기열이 넘쳐 누락된 항목 포함)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        for (BoardType board : BoardType.values()) {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                    "SELECT id, file_path, content_hash FROM " + board.getAttachmentTableName()
+                            + " WHERE thumb_small_path IS NULL AND LOWER(file_type) IN ('jpg', 'jpeg', 'png', 'gif')");
+            for (Map<String, Object> row : rows) {
+                submit(board, ((Number) row.get("id")).longValue(),
+                        (String) row.get("file_path"), (String) row.get("content_hash"));
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void submit(BoardType board, Long attachmentId, String filePath, String contentHash) {
+        try {
+            executor.execute(() -> generate(board, attachmentId, filePath, contentHash));
+        } catch (RejectedExecutionException e) {
+            // 대기열 초과: 원본으로 표시되다가 다음 시작 시 보충된다
+        }
+    }
+
+    private void generate(BoardType board, Long attachmentId, String filePath, String contentHash) {
+        try {
+            // 같은 내용(해시)의 썸네일은 게시판과 무관하게 공유
+            String key = contentHash != null ? contentHash : board.getTableName() + "_" + attachmentId;
+            String smallPath = thumbDir + key + "_" + Size.SMALL.getWidth() + ".jpg";
+            String largePath = thumbDir + key + "_" + Size.LARGE.getWidth() + ".jpg";
+
+            if (!Files.exists(Paths.get(smallPath)) || !Files.exists(Paths.get(largePath))) {
+                BufferedImage source = read(Paths.get(filePath), Size.LARGE.getWidth() * 2);
+                if (source == null) {
+                    return;
+                }
+                Files.createDirectories(Paths.get(thumbDir));
+                writeJpeg(scale(source, Size.LARGE.getWidth()), Paths.get(largePath));
+                writeJpeg(scale(source, Size.SMALL.getWidth()), Paths.get(smallPath));
+            }
+
+            jdbcTemplate.update("UPDATE " + board.getAttachmentTableName()
+                    + " SET thumb_small_path = ?, thumb_large_path = ? WHERE id = ?",
+                    smallPath, largePath, attachmentId);
+            entityCacheService.evict(board.getAttachmentTableName(), attachmentId);
+        } catch (IOException | RuntimeException e) {
+            // 원본으로 표시된다 (다음 시작 시 다시 시도)
+            log.warn("썸네일 생성 실패: {} #{} ({})", board.getAttachmentTableName(), attachmentId, filePath, e);
+        }
+    }
+
+    // 큰 사진은 디코딩 단계에서 서브샘플링해 메모리 사용을 줄인다
+    private BufferedImage read(Path file, int targetWidth) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(file.toFile())) {
+            if (in == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int width = reader.getWidth(0);
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, width / targetWidth);
+                if (step > 1) {
+                    param.setSourceSubsampling(step, step, 0, 0);
+                }
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private BufferedImage scale(BufferedImage source, int maxWidth) {
+        int width = Math.min(maxWidth, source.getWidth());
+        int height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            // 투명 배경(png/gif)은 흰색으로
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, width, height);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private void writeJpeg(BufferedImage image, Path target) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(0.8f);
+
+        Path temp = Paths.get(target + "." + UUID.randomUUID() + ".tmp");
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(temp.toFile())) {
+            writer.setOutput(out);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+}
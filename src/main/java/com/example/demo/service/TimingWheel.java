@@ -0,0 +1,111 @@
+package com.example.demo.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+// 계층형 타이밍 휠
+// 가장 아래 휠은 tickMs 간격 버킷 wheelSize 개, 그 범위를 넘는 타이머는 한 칸이 아래 휠 한 바퀴인 상위 휠에 들어간다.
+// 상위 휠 버킷이 만료되면 안의 타이머를 다시 넣어 아래 휠로 내려보낸다.
+// 만료 시각이 정해진 버킷만 우선순위 큐에 들어가므로 빈 칸을 하나씩 돌지 않는다.
+// 스레드 안전하지 않음 (호출하는 쪽에서 동기화).
+class TimingWheel<T> {
+
+    record Timer<T>(long expiration, T payload) {
+    }
+
+    private static final class Bucket<T> {
+        private final List<Timer<T>> timers = new ArrayList<>();
+        private long expiration = -1;
+    }
+
+    private final long tickMs;
+    private final int wheelSize;
+    private final long interval;
+    private final Bucket<T>[] buckets;
+    private final PriorityQueue<Bucket<T>> queue;
+    private long currentTime;
+    private TimingWheel<T> overflowWheel;
+    private int size;
+
+    TimingWheel(long tickMs, int wheelSize, long startMs) {
+        this(tickMs, wheelSize, startMs, new PriorityQueue<>((a, b) -> Long.compare(a.expiration, b.expiration)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private TimingWheel(long tickMs, int wheelSize, long startMs, PriorityQueue<Bucket<T>> queue) {
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.interval = tickMs * wheelSize;
+        this.buckets = new Bucket[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new Bucket<>();
+        }
+        this.queue = queue;
+        this.currentTime = startMs - (startMs % tickMs);
+    }
+
+    int size() {
+        return size;
+    }
+
+    // 타이머 추가 (이미 지난 시각이면 false, 호출하는 쪽에서 바로 처리)
+    boolean add(long expiration, T payload) {
+        if (!addTimer(new Timer<>(expiration, payload))) {
+            return false;
+        }
+        size++;
+        return true;
+    }
+
+    private boolean addTimer(Timer<T> timer) {
+        if (timer.expiration() < currentTime + tickMs) {
+            return false;
+        }
+        if (timer.expiration() < currentTime + interval) {
+            long virtualId = timer.expiration() / tickMs;
+            Bucket<T> bucket = buckets[(int) (virtualId % wheelSize)];
+            bucket.timers.add(timer);
+            long bucketExpiration = virtualId * tickMs;
+            if (bucket.expiration != bucketExpiration) {
+                // 한 바퀴 돌아 재사용되는 버킷 (이전 회차는 이미 비워졌음)
+                bucket.expiration = bucketExpiration;
+                queue.add(bucket);
+            }
+            return true;
+        }
+        if (overflowWheel == null) {
+            overflowWheel = new TimingWheel<>(interval, wheelSize, currentTime, queue);
+        }
+        return overflowWheel.addTimer(timer);
+    }
+
+    // nowMs 까지 만료된 타이머를 모두 꺼낸다
+    List<T> advance(long nowMs) {
+        List<T> expired = new ArrayList<>();
+        while (!queue.isEmpty() && queue.peek().expiration <= nowMs) {
+            Bucket<T> bucket = queue.poll();
+            advanceClock(bucket.expiration);
+            List<Timer<T>> timers = new ArrayList<>(bucket.timers);
+            bucket.timers.clear();
+            bucket.expiration = -1;
+            for (Timer<T> timer : timers) {
+                if (!addTimer(timer)) {
+                    expired.add(timer.payload());
+                    size--;
+                }
+            }
+        }
+        advanceClock(nowMs);
+        return expired;
+    }
+
+    private void advanceClock(long timeMs) {
+        if (timeMs >= currentTime + tickMs) {
+            currentTime = timeMs - (timeMs % tickMs);
+            if (overflowWheel != null) {
+                overflowWheel.advanceClock(currentTime);
+            }
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package com.example.demo.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+// 업로드 폴더 고아 파일 수거
+// 1) DB 가 가리키는 모든 경로(첨부파일 / 썸네일 / 공용 저장소 / 수상 이미지 / 이어받기 업로드 / 삭제 대기열) 를 지문 집합에 담고
+// 2) uploads 아래를 ForkJoin 으로 폴더마다 나눠 병렬 순회하면서
+// 3) 아무도 가리키지 않고 유예 기간보다 오래된 파일을 격리 폴더로 옮긴다 (mode=delete 일 때만 바로 지우고, dry-run 은 세기만 한다).
+// 경로를 먼저 읽고 폴더를 나중에 보므로, 그 사이 새로 저장된 파일은 유예 기간에 걸려 건드리지 않는다.
+// 공용 저장소 파일은 같은 내용이 막 다시 등록되는 경우를 막기 위해 저장소 잠금 안에서 한 번 더 확인한다.
+@Service
+public class UploadGarbageCollector {
+
+    private static final Logger log = LoggerFactory.getLogger(UploadGarbageCollector.class);
+
+    private static final Path UPLOAD_ROOT = Paths.get("uploads");
+
+    private static final String QUARANTINE = "quarantine";
+    private static final String DELETE = "delete";
+    private static final String DRY_RUN = "dry-run";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BlobStoreService blobStoreService;
+
+    @Value("${board.upload-gc.enabled:true}")
+    private boolean enabled;
+
+    @Value("${board.upload-gc.grace-hours:24}")
+    private long graceHours;
+
+    // quarantine: uploads 기준 상대 경로를 유지한 채 quarantine-dir 로 옮긴다 (기본)
+    // delete: 바로 지운다 / dry-run: 고아 파일을 세기만 하고 건드리지 않는다
+    @Value("${board.upload-gc.mode:quarantine}")
+    private String mode;
+
+    @Value("${board.upload-gc.quarantine-dir:./data/upload-quarantine}")
+    private String quarantineDir;
+
+    private final ForkJoinPool pool;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final Counter reclaimedBytes;
+    private final Counter reclaimedFiles;
+    private volatile UploadGcReport lastReport;
+
+    public UploadGarbageCollector(MeterRegistry registry,
+                                  @Value("${board.upload-gc.parallelism:4}") int parallelism) {
+        this.pool = new ForkJoinPool(Math.max(1, parallelism));
+        this.reclaimedBytes = Counter.builder("board.upload.gc.reclaimed")
+                .description("고아 파일 수거로 확보한 용량")
+                .baseUnit("bytes")
+                .register(registry);
+        this.reclaimedFiles = Counter.builder("board.upload.gc.files")
+                .description("수거한 고아 파일 수")
+                .register(registry);
+    }
+
+    @PostConstruct
+    public void checkMode() {
+        if (!List.of(QUARANTINE, DELETE, DRY_RUN).contains(mode)) {
+            throw new IllegalStateException("board.upload-gc.mode 는 quarantine / delete / dry-run 중 하나여야 합니다: " + mode);
+        }
+        if (QUARANTINE.equals(mode) && quarantineDir.isBlank()) {
+            throw new IllegalStateException("board.upload-gc.mode=quarantine 에는 board.upload-gc.quarantine-dir 가 필요합니다.");
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${board.upload-gc.interval-ms:21600000}",
+            initialDelayString = "${board.upload-gc.interval-ms:21600000}")
+    public void scheduledCollect() {
+        if (enabled) {
+            UploadGcReport report = collect();
+            log.info("고아 파일 수거: {}", report);
+        }
+    }
+
+    public UploadGcReport getLastReport() {
+        return lastReport;
+    }
+
+    public UploadGcReport collect() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("고아 파일 수거가 이미 실행 중입니다.");
+        }
+        try {
+            LocalDateTime startedAt = LocalDateTime.now();
+            long started = System.nanoTime();
+
+            PathFingerprintSet referenced = loadReferences();
+            Run run = new Run(referenced,
+                    System.currentTimeMillis() - Duration.ofHours(graceHours).toMillis(),
+                    QUARANTINE.equals(mode) ? Paths.get(quarantineDir).toAbsolutePath().normalize() : null,
+                    DRY_RUN.equals(mode));
+            Path root = UPLOAD_ROOT.toAbsolutePath().normalize();
+            if (Files.isDirectory(root)) {
+                pool.invoke(run.new DirectoryTask(root));
+            }
+
+            UploadGcReport report = new UploadGcReport(startedAt, (System.nanoTime() - started) / 1_000_000,
+                    referenced.size(), run.scanned.sum(), run.orphans.sum(), run.bytes.sum(), run.failed.sum(),
+                    mode);
+            if (!run.dryRun) {
+                reclaimedBytes.increment(report.reclaimedBytes());
+                reclaimedFiles.increment(report.orphanFiles());
+            }
+            lastReport = report;
+            return report;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    // 공용 저장소 행을 삭제 대기열보다 먼저 읽는다 (참조 해제 트랜잭션이 두 조회 사이에 커밋되어도 둘 중 하나에는 보인다)
+    private PathFingerprintSet loadReferences() {
+        PathFingerprintSet referenced = new PathFingerprintSet();
+        for (BoardType board : BoardType.values()) {
+            jdbcTemplate.query("SELECT file_path, thumb_small_path, thumb_large_path FROM " + board.getAttachmentTableName(),
+                    rs -> {
+                        referenced.add(rs.getString(1));
+                        referenced.add(rs.getString(2));
+                        referenced.add(rs.getString(3));
+                    });
+        }
+        jdbcTemplate.query("SELECT image_file_path FROM award", rs -> {
+            referenced.add(rs.getString(1));
+        });
+        jdbcTemplate.query("SELECT file_path FROM stored_blob", rs -> {
+            referenced.add(rs.getString(1));
+        });
+        jdbcTemplate.query("SELECT staged_path FROM resumable_upload", rs -> {
+            referenced.add(rs.getString(1));
+        });
+        jdbcTemplate.query("SELECT file_path FROM pending_file_deletion", rs -> {
+            referenced.add(rs.getString(1));
+        });
+        return referenced;
+    }
+
+    // 한 번의 수거 (집계는 여러 작업 스레드에서 더한다)
+    private final class Run {
+        final PathFingerprintSet referenced;
+        final long cutoffMillis;
+        final Path quarantine;
+        final boolean dryRun;
+        final LongAdder scanned = new LongAdder();
+        final LongAdder orphans = new LongAdder();
+        final LongAdder bytes = new LongAdder();
+        final LongAdder failed = new LongAdder();
+
+        Run(PathFingerprintSet referenced, long cutoffMillis, Path quarantine, boolean dryRun) {
+            this.referenced = referenced;
+            this.cutoffMillis = cutoffMillis;
+            this.quarantine = quarantine;
+            this.dryRun = dryRun;
+        }
+
+        // 폴더 하나: 파일은 바로 검사하고 하위 폴더는 나눠서 병렬로
+        final class DirectoryTask extends RecursiveAction {
+            private final Path dir;
+
+            DirectoryTask(Path dir) {
+                this.dir = dir;
+            }
+
+            @Override
+            protected void compute() {
+                List<DirectoryTask> subdirectories = new ArrayList<>();
+                try (DirectoryStream<Path> entries = Files.newDirectoryStream(dir)) {
+                    for (Path entry : entries) {
+                        BasicFileAttributes attributes;
+                        try {
+                            attributes = Files.readAttributes(entry, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+                        } catch (IOException e) {
+                            // 순회 중 삭제된 파일
+                            continue;
+                        }
+                        if (attributes.isDirectory()) {
+                            if (!entry.equals(quarantine)) {
+                                subdirectories.add(new DirectoryTask(entry));
+                            }
+                        } else if (attributes.isRegularFile()) {
+                            visit(entry, attributes);
+                        }
+                    }
+                } catch (IOException e) {
+                    log.warn("업로드 폴더 순회 실패: {} ({})", dir, e.getMessage());
+                }
+                invokeAll(subdirectories);
+            }
+        }
+
+        private void visit(Path file, BasicFileAttributes attributes) {
+            scanned.increment();
+            if (attributes.lastModifiedTime().toMillis() > cutoffMillis || referenced.contains(file)) {
+                return;
+            }
+            try {
+                String sha256 = blobStoreService.hashOf(file);
+                boolean removed = sha256 != null
+                        ? blobStoreService.ifUnreferenced(sha256, this::dispose)
+                        : dispose(file);
+                if (removed) {
+                    orphans.increment();
+                    bytes.add(attributes.size());
+                }
+            } catch (IOException | RuntimeException e) {
+                failed.increment();
+                log.warn("고아 파일 정리 실패: {} ({})", file, e.getMessage());
+            }
+        }
+
+        private boolean dispose(Path file) throws IOException {
+            if (dryRun) {
+                return Files.exists(file);
+            }
+            if (quarantine == null) {
+                return Files.deleteIfExists(file);
+            }
+            Path target = quarantine.resolve(UPLOAD_ROOT.toAbsolutePath().normalize().relativize(file));
+            Files.createDirectories(target.getParent());
+            Files.move(file, target, StandardCopyOption.REPLACE_EXISTING);
+            return true;
+        }
+    }
+}
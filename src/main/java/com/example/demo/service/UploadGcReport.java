@@ -0,0 +1,10 @@
+package com.example.demo.service;
+
+import java.time.LocalDateTime;
+
+// 고아 파일 수거 결과 (mode 가 dry-run 이면 orphanFiles / reclaimedBytes 는 수거 대상 수 / 용량)
+public record UploadGcReport(LocalDateTime startedAt, long elapsedMs,
+                             int referencedPaths, long scannedFiles,
+                             long orphanFiles, long reclaimedBytes, long failedFiles,
+                             String mode) {
+}
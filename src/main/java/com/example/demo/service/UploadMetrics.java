@@ -0,0 +1,63 @@
+package com.example.demo.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+// 업로드 지표
+// - board.upload.file.size  : 파일 한 개 크기 분포 (bytes)
+// - board.upload.files      : 게시글 한 건당 파일 수 분포
+// - board.upload.rejected   : 허용되지 않은 확장자로 거절된 파일 수
+@Service
+public class UploadMetrics {
+
+    private final MeterRegistry registry;
+
+    public UploadMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    // 저장된 게시글 한 건의 첨부파일
+    public void recordUploaded(String board, MultipartFile[] files) {
+        int count = 0;
+        for (MultipartFile file : files) {
+            if (!file.isEmpty()) {
+                DistributionSummary.builder("board.upload.file.size")
+                        .description("업로드 파일 크기")
+                        .baseUnit("bytes")
+                        .tag("board", board)
+                        .publishPercentileHistogram()
+                        .register(registry)
+                        .record(file.getSize());
+                count++;
+            }
+        }
+        DistributionSummary.builder("board.upload.files")
+                .description("게시글당 첨부파일 수")
+                .tag("board", board)
+                .register(registry)
+                .record(count);
+    }
+
+    public void recordRejected(String board, String extension) {
+        Counter.builder("board.upload.rejected")
+                .description("허용되지 않은 확장자로 거절된 파일 수")
+                .tag("board", board)
+                .tag("extension", extensionTag(extension))
+                .register(registry)
+                .increment();
+    }
+
+    // 사용자 입력이므로 태그 값 종류가 무한히 늘지 않도록 제한
+    private String extensionTag(String extension) {
+        if (extension == null || extension.isEmpty()) {
+            return "none";
+        }
+        if (extension.length() > 10 || !extension.matches("[a-z0-9]+")) {
+            return "other";
+        }
+        return extension;
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.demo.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+// 업로드 저장 용량 게이지
+// - board.upload.storage : 게시판별 첨부파일 용량 합계 (DB 기준, 공용 저장소 중복 제거 전)
+// - board.upload.directory : uploads 하위 폴더별 실제 디스크 사용량 (blobs, thumbs, tmp, awards ...)
+// 폴더 순회는 비싸므로 주기적으로 계산해 두고 게이지는 그 값을 읽기만 한다.
+@Service
+public class UploadStorageMetrics {
+
+    private static final Logger log = LoggerFactory.getLogger(UploadStorageMetrics.class);
+
+    private static final Path UPLOAD_ROOT = Paths.get("uploads");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final MeterRegistry registry;
+    private final Map<BoardType, AtomicLong> boardBytes = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> directoryBytes = new ConcurrentHashMap<>();
+
+    public UploadStorageMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        for (BoardType board : BoardType.values()) {
+            AtomicLong value = new AtomicLong();
+            boardBytes.put(board, value);
+            Gauge.builder("board.upload.storage", value, AtomicLong::get)
+                    .description("게시판별 첨부파일 용량")
+                    .baseUnit("bytes")
+                    .tag("board", board.getTableName())
+                    .register(registry);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${board.metrics.storage-refresh-ms:300000}",
+            initialDelayString = "${board.metrics.storage-refresh-ms:300000}")
+    public void refresh() {
+        for (BoardType board : BoardType.values()) {
+            Long bytes = jdbcTemplate.queryForObject(
+                    "SELECT COALESCE(SUM(file_size), 0) FROM " + board.getAttachmentTableName(), Long.class);
+            boardBytes.get(board).set(bytes == null ? 0 : bytes);
+        }
+
+        if (!Files.isDirectory(UPLOAD_ROOT)) {
+            return;
+        }
+        try (Stream<Path> children = Files.list(UPLOAD_ROOT)) {
+            children.filter(Files::isDirectory).forEach(dir ->
+                    directoryGauge(dir.getFileName().toString()).set(sizeOf(dir)));
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("업로드 폴더 용량 계산 실패: {}", e.getMessage());
+        }
+    }
+
+    private AtomicLong directoryGauge(String name) {
+        return directoryBytes.computeIfAbsent(name, key -> {
+            AtomicLong value = new AtomicLong();
+            Gauge.builder("board.upload.directory", value, AtomicLong::get)
+                    .description("업로드 폴더 디스크 사용량")
+                    .baseUnit("bytes")
+                    .tag("directory", key)
+                    .register(registry);
+            return value;
+        });
+    }
+
+    // 순회 중 다른 작업(삭제 대기열 / 고아 파일 수거 / 이어받기 정리)이 지운 파일이나 폴더는 건너뛴다
+    private long sizeOf(Path dir) {
+        long[] total = {0};
+        try {
+            Files.walkFileTree(dir, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                    if (attributes.isRegularFile()) {
+                        total[0] += attributes.size();
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException e) {
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult postVisitDirectory(Path directory, IOException e) {
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            log.warn("업로드 폴더 용량 계산 실패: {} ({})", dir, e.getMessage());
+        }
+        return total[0];
+    }
+}
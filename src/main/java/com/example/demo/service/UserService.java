@@ -1,13 +1,19 @@
 package com.example.demo.service;
 
 import com.example.demo.entity.User;
+import com.example.demo.repository.BoardSpecifications;
 import com.example.demo.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 public class UserService {
@@ -15,6 +21,18 @@ public class UserService {
     @Autowired
     private UserRepository userRepository;
 
+    // 아이디 / 이름 / 이메일 부분 문자열 검색 색인
+    private final NgramIndex searchIndex = new NgramIndex();
+    private volatile boolean searchIndexReady;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildSearchIndex() {
+        for (User user : userRepository.findAll()) {
+            indexUser(user);
+        }
+        searchIndexReady = true;
+    }
+
     public List<User> getAllUsers() {
         return userRepository.findAllByOrderByCreatedAtDesc();
     }
@@ -29,19 +47,55 @@ public class UserService {
 
     @Transactional
     public User saveUser(User user) {
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        AfterCommit.run(() -> indexUser(savedUser));
+        return savedUser;
     }
 
     @Transactional
     public void deleteUser(Long id) {
         userRepository.deleteById(id);
+        AfterCommit.run(() -> searchIndex.remove(id));
     }
 
     public List<User> searchUsers(String keyword) {
         if (keyword == null || keyword.trim().isEmpty()) {
             return getAllUsers();
         }
-        return userRepository.findByUserIdContainingOrNameContainingOrEmailContaining(
-                keyword, keyword, keyword);
+        if (!searchIndexReady) {
+            return userRepository.findByUserIdContainingOrNameContainingOrEmailContaining(
+                    keyword, keyword, keyword);
+        }
+        Set<Long> ids = searchIndex.search(keyword.trim());
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        // 일치 건수가 많아도 IN 목록 하나가 끝없이 길어지지 않도록 BETWEEN / 나눈 IN 목록으로
+        return userRepository.findAll(BoardSpecifications.idIn(ids), Sort.by(Sort.Order.desc("createdAt")));
+    }
+
+    // searchUsers 와 같은 조건 (내보내기용)
+    public Specification<User> searchFilter(String keyword) {
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return (root, query, cb) -> cb.conjunction();
+        }
+        String trimmed = keyword.trim();
+        if (!searchIndexReady) {
+            return (root, query, cb) -> cb.or(
+                    cb.like(root.get("userId"), "%" + trimmed + "%"),
+                    cb.like(root.get("name"), "%" + trimmed + "%"),
+                    cb.like(root.get("email"), "%" + trimmed + "%"));
+        }
+        return BoardSpecifications.idIn(searchIndex.search(trimmed));
+    }
+
+    // 필드 경계를 넘는 일치가 생기지 않도록 구분 문자로 이어 붙인다
+    private void indexUser(User user) {
+        searchIndex.put(user.getId(), String.join("\0",
+                nullToEmpty(user.getUserId()), nullToEmpty(user.getName()), nullToEmpty(user.getEmail())));
+    }
+
+    private String nullToEmpty(String value) {
+        return value == null ? "" : value;
     }
 }
\ No newline at end of file
@@ -2,20 +2,19 @@ package com.example.demo.service;
 
 import com.example.demo.entity.Video;
 import com.example.demo.entity.VideoAttachment;
+import com.example.demo.entity.StoredBlob;
+import com.example.demo.repository.BoardSpecifications;
 import com.example.demo.repository.VideoAttachmentRepository;
 import com.example.demo.repository.VideoRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -29,7 +28,35 @@ public class VideoService {
     @Autowired
     private VideoAttachmentRepository attachmentRepository;
 
-    private final String uploadDir = "uploads/video/";
+    @Autowired
+    private ViewCountService viewCountService;
+
+    @Autowired
+    private BlobStoreService blobStoreService;
+
+    @Autowired
+    private ThumbnailService thumbnailService;
+
+    @Autowired
+    private SearchIndexService searchIndexService;
+
+    @Autowired
+    private ListCacheService listCacheService;
+
+    @Autowired
+    private PublicationScheduler publicationScheduler;
+
+    @Autowired
+    private DashboardCounterService dashboardCounterService;
+
+    @Autowired
+    private UploadMetrics uploadMetrics;
+
+    @Autowired
+    private FileDeletionService fileDeletionService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
 
     private final List<String> allowedExtensions = Arrays.asList(
             "jpg", "jpeg", "png", "svg", "gif",
@@ -44,6 +71,7 @@ public class VideoService {
         return videoRepository.findAllOrderByPinnedAndCreatedAt();
     }
 
+    @Transactional(readOnly = true)
     public Optional<Video> getVideoById(Long id) {
         return videoRepository.findById(id);
     }
@@ -51,64 +79,27 @@ public class VideoService {
     public List<Video> searchVideosAdvanced(String searchType, String keyword,
                                             String status,
                                             String startDate, String endDate) {
-        List<Video> videos = videoRepository.findAllOrderByPinnedAndCreatedAt();
-
-        if (keyword != null && !keyword.trim().isEmpty()) {
-            String finalKeyword = keyword.trim();
-            videos = videos.stream()
-                    .filter(v -> {
-                        if ("제목".equals(searchType)) {
-                            return v.getTitle().contains(finalKeyword);
-                        } else if ("작성자".equals(searchType)) {
-                            return v.getAuthor() != null && v.getAuthor().contains(finalKeyword);
-                        } else {
-                            return v.getTitle().contains(finalKeyword) ||
-                                    (v.getAuthor() != null && v.getAuthor().contains(finalKeyword));
-                        }
-                    })
-                    .toList();
-        }
-
-        if (status != null && !status.equals("전체")) {
-            String finalStatus = status;
-            videos = videos.stream()
-                    .filter(v -> finalStatus.equals(v.getStatus()))
-                    .toList();
-        }
-
-        if (startDate != null && !startDate.trim().isEmpty()) {
-            LocalDateTime start = LocalDate.parse(startDate).atStartOfDay();
-            videos = videos.stream()
-                    .filter(v -> v.getCreatedAt().isAfter(start) || v.getCreatedAt().isEqual(start))
-                    .toList();
-        }
-
-        if (endDate != null && !endDate.trim().isEmpty()) {
-            LocalDateTime end = LocalDate.parse(endDate).atTime(23, 59, 59);
-            videos = videos.stream()
-                    .filter(v -> v.getCreatedAt().isBefore(end) || v.getCreatedAt().isEqual(end))
-                    .toList();
-        }
-
-        return videos;
+        return listCacheService.get(BoardType.VIDEO.getTableName(),
+                ListCacheService.key(searchType, keyword, status, startDate, endDate),
+                () -> videoRepository.findAll(
+                        BoardSpecifications.<Video>filters(null, status, startDate, endDate)
+                                .and(searchIndexService.keywordFilter(BoardType.VIDEO, searchType, keyword)),
+                        BoardSpecifications.LIST_SORT));
     }
 
     @Transactional
     public Video saveVideo(Video video, MultipartFile[] files) throws IOException {
 
-        if (video.getStartDate() != null && video.getEndDate() != null) {
-            if (video.getEndDate().isBefore(video.getStartDate())) {
-                throw new IllegalArgumentException("게시 종료일은 시작일보다 이후여야 합니다.");
-            }
-        }
+        // 게시 기간 유효성 검사 / 게시 상태 자동 설정
+        PostRules.validatePeriod(video.getStartDate(), video.getEndDate());
+        video.setStatus(PostRules.statusOf(video.getStartDate(), video.getEndDate(), LocalDateTime.now()));
 
-        LocalDateTime now = LocalDateTime.now();
-        if (video.getStartDate() != null && video.getStartDate().isAfter(now)) {
-            video.setStatus("예약");
-        } else if (video.getEndDate() != null && video.getEndDate().isBefore(now)) {
-            video.setStatus("게시 종료");
-        } else {
-            video.setStatus("게시 중");
+        // 대시보드 집계용 수정 전 상태
+        DashboardCounterService.PostState previousState = dashboardCounterService.stateOf(BoardType.VIDEO, video.getId());
+
+        // 첨부파일 수는 게시글 INSERT 전에 채운다 (persist 후에 바꾸면 flush 때 UPDATE 가 한 번 더 나감)
+        if (files != null && files.length > 0) {
+            video.setAttachmentCount((int) Arrays.stream(files).filter(file -> !file.isEmpty()).count());
         }
 
         Video savedVideo = videoRepository.save(video);
@@ -123,39 +114,144 @@ public class VideoService {
                 throw new IllegalArgumentException("총 90MB의 파일을 업로드 할 수 없습니다.");
             }
 
-            int uploadedCount = 0;
+            // 확장자는 파일을 쓰기 전에 모두 확인한다
+            List<MultipartFile> uploads = new ArrayList<>();
             for (MultipartFile file : files) {
                 if (!file.isEmpty()) {
-                    String fileName = file.getOriginalFilename();
-                    String extension = getFileExtension(fileName);
-
+                    String extension = getFileExtension(file.getOriginalFilename());
                     if (!isAllowedExtension(extension)) {
-                        throw new IllegalArgumentException("허용되지 않은 파일 형식입니다: " + fileName);
+                        uploadMetrics.recordRejected(BoardType.VIDEO.getTableName(), extension);
+                        throw new IllegalArgumentException("허용되지 않은 파일 형식입니다: " + file.getOriginalFilename());
                     }
+                    uploads.add(file);
+                }
+            }
 
-                    String savedFileName = saveFile(file);
+            // 파일 쓰기 / 해시 계산은 동시에 (하나라도 실패하면 나머지도 지우고 트랜잭션 롤백)
+            List<StoredBlob> blobs = blobStoreService.storeAll(uploads);
+
+            List<VideoAttachment> attachments = new ArrayList<>();
+            for (int i = 0; i < uploads.size(); i++) {
+                MultipartFile file = uploads.get(i);
+                StoredBlob blob = blobs.get(i);
+                String fileName = file.getOriginalFilename();
+                String extension = getFileExtension(fileName);
+
+                VideoAttachment attachment = new VideoAttachment();
+                attachment.setVideoId(savedVideo.getId());
+                attachment.setFileName(fileName);
+                attachment.setFilePath(blob.getFilePath());
+                attachment.setContentHash(blob.getSha256());
+                attachment.setFileSize(file.getSize());
+                attachment.setFileType(extension);
+
+                if (i == 0 && isImageFile(extension)) {
+                    attachment.setIsRepresentative(true);
+                }
 
-                    VideoAttachment attachment = new VideoAttachment();
-                    attachment.setVideoId(savedVideo.getId());
-                    attachment.setFileName(fileName);
-                    attachment.setFilePath(uploadDir + savedFileName);
-                    attachment.setFileSize(file.getSize());
-                    attachment.setFileType(extension);
+                attachments.add(attachment);
+            }
 
-                    if (uploadedCount == 0 && isImageFile(extension)) {
-                        attachment.setIsRepresentative(true);
-                    }
+            // 첨부파일은 모아서 한 번에 저장 (커밋 시 JDBC batch INSERT 한 번)
+            attachmentRepository.saveAll(attachments);
+            for (VideoAttachment attachment : attachments) {
+                thumbnailService.generateAfterCommit(BoardType.VIDEO, attachment.getId(),
+                        attachment.getFilePath(), attachment.getContentHash(), attachment.getFileType());
+            }
+            uploadMetrics.recordUploaded(BoardType.VIDEO.getTableName(), files);
+        }
 
-                    attachmentRepository.save(attachment);
-                    uploadedCount++;
-                }
+        searchIndexService.indexAfterCommit(BoardType.VIDEO, savedVideo);
+        publicationScheduler.scheduleAfterCommit(BoardType.VIDEO, savedVideo.getId(),
+                savedVideo.getStartDate(), savedVideo.getEndDate());
+        dashboardCounterService.savedAfterCommit(BoardType.VIDEO, previousState, savedVideo);
+        eventPublisher.publishEvent(new BoardChangedEvent(BoardType.VIDEO.getTableName(), savedVideo.getId()));
+
+        return savedVideo;
+    }
+
+    // 기존 게시글에 첨부파일을 더 붙일 수 있는지 확인 (이어받기 업로드 생성 시, 게시글당 파일 수 / 총 용량 포함)
+    @Transactional(readOnly = true)
+    public void checkAttachmentQuota(Long videoId, String fileName, long size) {
+        if (!videoRepository.existsById(videoId)) {
+            throw new IllegalArgumentException("Invalid video Id:" + videoId);
+        }
+        String extension = getFileExtension(fileName);
+        if (!isAllowedExtension(extension)) {
+            uploadMetrics.recordRejected(BoardType.VIDEO.getTableName(), extension);
+            throw new IllegalArgumentException("허용되지 않은 파일 형식입니다: " + fileName);
+        }
+        checkQuota(attachmentRepository.findByVideoId(videoId), 1, size);
+    }
+
+    // 기존 게시글에 첨부파일 추가 (이어받기 업로드 완료 시)
+    @Transactional
+    public List<VideoAttachment> saveAttachments(Long videoId, MultipartFile[] files) throws IOException {
+        Video video = videoRepository.findById(videoId)
+                .orElseThrow(() -> new IllegalArgumentException("Invalid video Id:" + videoId));
+        List<VideoAttachment> existing = attachmentRepository.findByVideoId(videoId);
+        checkQuota(existing, files.length, Arrays.stream(files).mapToLong(MultipartFile::getSize).sum());
+
+        List<MultipartFile> uploads = new ArrayList<>();
+        for (MultipartFile file : files) {
+            String extension = getFileExtension(file.getOriginalFilename());
+            if (!isAllowedExtension(extension)) {
+                uploadMetrics.recordRejected(BoardType.VIDEO.getTableName(), extension);
+                throw new IllegalArgumentException("허용되지 않은 파일 형식입니다: " + file.getOriginalFilename());
+            }
+            uploads.add(file);
+        }
+
+        List<StoredBlob> blobs = blobStoreService.storeAll(uploads);
+
+        List<VideoAttachment> attachments = new ArrayList<>();
+        for (int i = 0; i < uploads.size(); i++) {
+            MultipartFile file = uploads.get(i);
+            StoredBlob blob = blobs.get(i);
+            String fileName = file.getOriginalFilename();
+            String extension = getFileExtension(fileName);
+
+            VideoAttachment attachment = new VideoAttachment();
+            attachment.setVideoId(videoId);
+            attachment.setFileName(fileName);
+            attachment.setFilePath(blob.getFilePath());
+            attachment.setContentHash(blob.getSha256());
+            attachment.setFileSize(file.getSize());
+            attachment.setFileType(extension);
+
+            if (existing.isEmpty() && i == 0 && isImageFile(extension)) {
+                attachment.setIsRepresentative(true);
             }
 
-            savedVideo.setAttachmentCount(uploadedCount);
-            videoRepository.save(savedVideo);
+            attachments.add(attachment);
         }
 
-        return savedVideo;
+        attachmentRepository.saveAll(attachments);
+        for (VideoAttachment attachment : attachments) {
+            thumbnailService.generateAfterCommit(BoardType.VIDEO, attachment.getId(),
+                    attachment.getFilePath(), attachment.getContentHash(), attachment.getFileType());
+        }
+        uploadMetrics.recordUploaded(BoardType.VIDEO.getTableName(), files);
+
+        video.setAttachmentCount(existing.size() + attachments.size());
+        eventPublisher.publishEvent(new BoardChangedEvent(BoardType.VIDEO.getTableName(), videoId));
+        return attachments;
+    }
+
+    private void checkQuota(List<VideoAttachment> existing, int addedFiles, long addedSize) {
+        if (existing.size() + addedFiles > MAX_FILES) {
+            throw new IllegalArgumentException("최대 5개까지 업로드 가능합니다.");
+        }
+        long totalSize = existing.stream()
+                .mapToLong(attachment -> attachment.getFileSize() == null ? 0 : attachment.getFileSize())
+                .sum() + addedSize;
+        if (totalSize > MAX_TOTAL_SIZE) {
+            throw new IllegalArgumentException("총 90MB의 파일을 업로드 할 수 없습니다.");
+        }
+    }
+
+    public long getMaxTotalSize() {
+        return MAX_TOTAL_SIZE;
     }
 
     @Transactional
@@ -164,27 +260,34 @@ public class VideoService {
         if (video.isPresent()) {
             List<VideoAttachment> attachments = attachmentRepository.findByVideoId(id);
             for (VideoAttachment attachment : attachments) {
-                deleteFile(attachment.getFilePath());
+                releaseFile(attachment);
             }
             attachmentRepository.deleteByVideoId(id);
             videoRepository.deleteById(id);
+            viewCountService.evict(BoardType.VIDEO, id);
+            searchIndexService.removeAfterCommit(BoardType.VIDEO, id);
+            eventPublisher.publishEvent(new BoardChangedEvent(BoardType.VIDEO.getTableName(), id));
+            dashboardCounterService.deletedAfterCommit(BoardType.VIDEO, video.get());
         }
     }
 
-    @Transactional
     public void increaseViewCount(Long id) {
-        Optional<Video> video = videoRepository.findById(id);
-        if (video.isPresent()) {
-            Video v = video.get();
-            v.setViewCount(v.getViewCount() + 1);
-            videoRepository.save(v);
-        }
+        viewCountService.increase(BoardType.VIDEO, id);
+    }
+
+    // 화면에 보일 조회수 (DB 값 + 아직 DB 에 반영되지 않은 증가분)
+    public long getViewCount(Video video) {
+        return video.getViewCount() + viewCountService.pendingCount(BoardType.VIDEO, video.getId());
     }
 
     public List<VideoAttachment> getAttachments(Long videoId) {
         return attachmentRepository.findByVideoId(videoId);
     }
 
+    public Optional<VideoAttachment> getAttachment(Long attachmentId) {
+        return attachmentRepository.findById(attachmentId);
+    }
+
     private String getFileExtension(String fileName) {
         if (fileName == null) return "";
         int lastDotIndex = fileName.lastIndexOf('.');
@@ -192,7 +295,7 @@ public class VideoService {
         return fileName.substring(lastDotIndex + 1).toLowerCase();
     }
 
-    private boolean isAllowedExtension(String extension) {
+    public boolean isAllowedExtension(String extension) {
         return allowedExtensions.contains(extension.toLowerCase());
     }
 
@@ -200,28 +303,11 @@ public class VideoService {
         return Arrays.asList("jpg", "jpeg", "png", "svg", "gif").contains(extension.toLowerCase());
     }
 
-    private String saveFile(MultipartFile file) throws IOException {
-        File uploadDirectory = new File(uploadDir);
-        if (!uploadDirectory.exists()) {
-            uploadDirectory.mkdirs();
-        }
-
-        String originalFileName = file.getOriginalFilename();
-        String fileName = System.currentTimeMillis() + "_" + originalFileName;
-        Path filePath = Paths.get(uploadDir + fileName);
-        Files.write(filePath, file.getBytes());
-
-        return fileName;
-    }
-
-    private void deleteFile(String filePath) {
-        if (filePath != null) {
-            try {
-                Path path = Paths.get(filePath);
-                Files.deleteIfExists(path);
-            } catch (IOException e) {
-                e.printStackTrace();
-            }
+    private void releaseFile(VideoAttachment attachment) {
+        if (attachment.getContentHash() != null) {
+            blobStoreService.release(attachment.getContentHash());
+        } else {
+            fileDeletionService.deleteAfterCommit(attachment.getFilePath());
         }
     }
 }
\ No newline at end of file
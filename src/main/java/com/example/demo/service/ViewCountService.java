@@ -0,0 +1,102 @@
+package com.example.demo.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 조회수 누적 (write-behind)
+// 상세 조회 시에는 메모리 카운터만 올리고, 주기적으로 게시판별 batch UPDATE 로 DB 에 반영한다.
+@Service
+public class ViewCountService {
+
+    private static final Logger log = LoggerFactory.getLogger(ViewCountService.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DashboardCounterService dashboardCounterService;
+
+    @Autowired
+    private EntityCacheService entityCacheService;
+
+    private final Map<BoardType, ConcurrentHashMap<Long, LongAdder>> pending = new EnumMap<>(BoardType.class);
+
+    public ViewCountService() {
+        for (BoardType board : BoardType.values()) {
+            pending.put(board, new ConcurrentHashMap<>());
+        }
+    }
+
+    // 조회수 1 증가 (DB 접근 없음)
+    public void increase(BoardType board, Long id) {
+        pending.get(board).computeIfAbsent(id, k -> new LongAdder()).increment();
+        dashboardCounterService.viewed(board);
+    }
+
+    // 아직 DB 에 반영되지 않은 증가분
+    public long pendingCount(BoardType board, Long id) {
+        LongAdder adder = pending.get(board).get(id);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    // 삭제된 게시글의 카운터 제거
+    public void evict(BoardType board, Long id) {
+        pending.get(board).remove(id);
+    }
+
+    @Scheduled(fixedDelayString = "${board.view-count.flush-interval-ms:5000}")
+    public void flush() {
+        for (BoardType board : BoardType.values()) {
+            flush(board);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void flush(BoardType board) {
+        ConcurrentHashMap<Long, LongAdder> counters = pending.get(board);
+        List<Object[]> batch = new ArrayList<>();
+
+        for (Map.Entry<Long, LongAdder> entry : counters.entrySet()) {
+            // 항목은 제거하지 않는다 (제거와 동시에 들어온 증가분이 유실될 수 있음)
+            long delta = entry.getValue().sumThenReset();
+            if (delta > 0) {
+                batch.add(new Object[]{delta, entry.getKey()});
+            }
+        }
+
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(
+                    "UPDATE " + board.getTableName() + " SET view_count = view_count + ? WHERE id = ?",
+                    batch);
+        } catch (RuntimeException e) {
+            // 반영 실패 시 증가분을 되돌려 다음 주기에 재시도
+            for (Object[] row : batch) {
+                counters.computeIfAbsent((Long) row[1], k -> new LongAdder()).add((Long) row[0]);
+            }
+            log.error("조회수 반영 실패: {} {}건 (다음 주기에 다시 시도)", board.getTableName(), batch.size(), e);
+            return;
+        }
+        // 2차 캐시의 게시글은 반영 전 조회수를 들고 있다 (화면 조회수 = 캐시 값 + 아직 반영 안 된 증가분)
+        entityCacheService.evict(board.getTableName(), batch.stream().map(row -> (Long) row[1]).toList());
+    }
+}
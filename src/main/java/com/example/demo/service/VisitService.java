@@ -2,23 +2,24 @@ package com.example.demo.service;
 
 import com.example.demo.entity.Visit;
 import com.example.demo.entity.VisitAttachment;
+import com.example.demo.entity.StoredBlob;
+import com.example.demo.repository.BoardSpecifications;
 import com.example.demo.repository.VisitAttachmentRepository;
 import com.example.demo.repository.VisitRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Service
 public class VisitService {
@@ -29,7 +30,35 @@ public class VisitService {
     @Autowired
     private VisitAttachmentRepository attachmentRepository;
 
-    private final String uploadDir = "uploads/visit/";
+    @Autowired
+    private ViewCountService viewCountService;
+
+    @Autowired
+    private BlobStoreService blobStoreService;
+
+    @Autowired
+    private ThumbnailService thumbnailService;
+
+    @Autowired
+    private SearchIndexService searchIndexService;
+
+    @Autowired
+    private ListCacheService listCacheService;
+
+    @Autowired
+    private PublicationScheduler publicationScheduler;
+
+    @Autowired
+    private DashboardCounterService dashboardCounterService;
+
+    @Autowired
+    private UploadMetrics uploadMetrics;
+
+    @Autowired
+    private FileDeletionService fileDeletionService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
 
     private final List<String> allowedExtensions = Arrays.asList(
             "jpg", "jpeg", "png", "svg", "gif",
@@ -44,6 +73,7 @@ public class VisitService {
         return visitRepository.findAllOrderByPinnedAndCreatedAt();
     }
 
+    @Transactional(readOnly = true)
     public Optional<Visit> getVisitById(Long id) {
         return visitRepository.findById(id);
     }
@@ -51,64 +81,27 @@ public class VisitService {
     public List<Visit> searchVisitsAdvanced(String searchType, String keyword,
                                             String status,
                                             String startDate, String endDate) {
-        List<Visit> visits = visitRepository.findAllOrderByPinnedAndCreatedAt();
-
-        if (keyword != null && !keyword.trim().isEmpty()) {
-            String finalKeyword = keyword.trim();
-            visits = visits.stream()
-                    .filter(v -> {
-                        if ("제목".equals(searchType)) {
-                            return v.getTitle().contains(finalKeyword);
-                        } else if ("작성자".equals(searchType)) {
-                            return v.getAuthor() != null && v.getAuthor().contains(finalKeyword);
-                        } else {
-                            return v.getTitle().contains(finalKeyword) ||
-                                    (v.getAuthor() != null && v.getAuthor().contains(finalKeyword));
-                        }
-                    })
-                    .toList();
-        }
-
-        if (status != null && !status.equals("전체")) {
-            String finalStatus = status;
-            visits = visits.stream()
-                    .filter(v -> finalStatus.equals(v.getStatus()))
-                    .toList();
-        }
-
-        if (startDate != null && !startDate.trim().isEmpty()) {
-            LocalDateTime start = LocalDate.parse(startDate).atStartOfDay();
-            visits = visits.stream()
-                    .filter(v -> v.getCreatedAt().isAfter(start) || v.getCreatedAt().isEqual(start))
-                    .toList();
-        }
-
-        if (endDate != null && !endDate.trim().isEmpty()) {
-            LocalDateTime end = LocalDate.parse(endDate).atTime(23, 59, 59);
-            visits = visits.stream()
-                    .filter(v -> v.getCreatedAt().isBefore(end) || v.getCreatedAt().isEqual(end))
-                    .toList();
-        }
-
-        return visits;
+        return listCacheService.get(BoardType.VISIT.getTableName(),
+                ListCacheService.key(searchType, keyword, status, startDate, endDate),
+                () -> visitRepository.findAll(
+                        BoardSpecifications.<Visit>filters(null, status, startDate, endDate)
+                                .and(searchIndexService.keywordFilter(BoardType.VISIT, searchType, keyword)),
+                        BoardSpecifications.LIST_SORT));
     }
 
     @Transactional
     public Visit saveVisit(Visit visit, MultipartFile[] files) throws IOException {
 
-        if (visit.getStartDate() != null && visit.getEndDate() != null) {
-            if (visit.getEndDate().isBefore(visit.getStartDate())) {
-                throw new IllegalArgumentException("게시 종료일은 시작일보다 이후여야 합니다.");
-            }
-        }
+        // 게시 기간 유효성 검사 / 게시 상태 자동 설정
+        PostRules.validatePeriod(visit.getStartDate(), visit.getEndDate());
+        visit.setStatus(PostRules.statusOf(visit.getStartDate(), visit.getEndDate(), LocalDateTime.now()));
 
-        LocalDateTime now = LocalDateTime.now();
-        if (visit.getStartDate() != null && visit.getStartDate().isAfter(now)) {
-            visit.setStatus("예약");
-        } else if (visit.getEndDate() != null && visit.getEndDate().isBefore(now)) {
-            visit.setStatus("게시 종료");
-        } else {
-            visit.setStatus("게시 중");
+        // 대시보드 집계용 수정 전 상태
+        DashboardCounterService.PostState previousState = dashboardCounterService.stateOf(BoardType.VISIT, visit.getId());
+
+        // 첨부파일 수는 게시글 INSERT 전에 채운다 (persist 후에 바꾸면 flush 때 UPDATE 가 한 번 더 나감)
+        if (files != null && files.length > 0) {
+            visit.setAttachmentCount((int) Arrays.stream(files).filter(file -> !file.isEmpty()).count());
         }
 
         Visit savedVisit = visitRepository.save(visit);
@@ -123,38 +116,59 @@ public class VisitService {
                 throw new IllegalArgumentException("총 90MB의 파일을 업로드 할 수 없습니다.");
             }
 
-            int uploadedCount = 0;
+            // 확장자는 파일을 쓰기 전에 모두 확인한다
+            List<MultipartFile> uploads = new ArrayList<>();
             for (MultipartFile file : files) {
                 if (!file.isEmpty()) {
-                    String fileName = file.getOriginalFilename();
-                    String extension = getFileExtension(fileName);
-
+                    String extension = getFileExtension(file.getOriginalFilename());
                     if (!isAllowedExtension(extension)) {
-                        throw new IllegalArgumentException("허용되지 않은 파일 형식입니다: " + fileName);
-                    }
-
-                    String savedFileName = saveFile(file);
-
-                    VisitAttachment attachment = new VisitAttachment();
-                    attachment.setVisitId(savedVisit.getId());
-                    attachment.setFileName(fileName);
-                    attachment.setFilePath(uploadDir + savedFileName);
-                    attachment.setFileSize(file.getSize());
-                    attachment.setFileType(extension);
-
-                    if (uploadedCount == 0 && isImageFile(extension)) {
-                        attachment.setIsRepresentative(true);
+                        uploadMetrics.recordRejected(BoardType.VISIT.getTableName(), extension);
+                        throw new IllegalArgumentException("허용되지 않은 파일 형식입니다: " + file.getOriginalFilename());
                     }
+                    uploads.add(file);
+                }
+            }
 
-                    attachmentRepository.save(attachment);
-                    uploadedCount++;
+            // 파일 쓰기 / 해시 계산은 동시에 (하나라도 실패하면 나머지도 지우고 트랜잭션 롤백)
+            List<StoredBlob> blobs = blobStoreService.storeAll(uploads);
+
+            List<VisitAttachment> attachments = new ArrayList<>();
+            for (int i = 0; i < uploads.size(); i++) {
+                MultipartFile file = uploads.get(i);
+                StoredBlob blob = blobs.get(i);
+                String fileName = file.getOriginalFilename();
+                String extension = getFileExtension(fileName);
+
+                VisitAttachment attachment = new VisitAttachment();
+                attachment.setVisitId(savedVisit.getId());
+                attachment.setFileName(fileName);
+                attachment.setFilePath(blob.getFilePath());
+                attachment.setContentHash(blob.getSha256());
+                attachment.setFileSize(file.getSize());
+                attachment.setFileType(extension);
+
+                if (i == 0 && isImageFile(extension)) {
+                    attachment.setIsRepresentative(true);
                 }
+
+                attachments.add(attachment);
             }
 
-            savedVisit.setAttachmentCount(uploadedCount);
-            visitRepository.save(savedVisit);
+            // 첨부파일은 모아서 한 번에 저장 (커밋 시 JDBC batch INSERT 한 번)
+            attachmentRepository.saveAll(attachments);
+            for (VisitAttachment attachment : attachments) {
+                thumbnailService.generateAfterCommit(BoardType.VISIT, attachment.getId(),
+                        attachment.getFilePath(), attachment.getContentHash(), attachment.getFileType());
+            }
+            uploadMetrics.recordUploaded(BoardType.VISIT.getTableName(), files);
         }
 
+        searchIndexService.indexAfterCommit(BoardType.VISIT, savedVisit);
+        publicationScheduler.scheduleAfterCommit(BoardType.VISIT, savedVisit.getId(),
+                savedVisit.getStartDate(), savedVisit.getEndDate());
+        dashboardCounterService.savedAfterCommit(BoardType.VISIT, previousState, savedVisit);
+        eventPublisher.publishEvent(new BoardChangedEvent(BoardType.VISIT.getTableName(), savedVisit.getId()));
+
         return savedVisit;
     }
 
@@ -164,27 +178,45 @@ public class VisitService {
         if (visit.isPresent()) {
             List<VisitAttachment> attachments = attachmentRepository.findByVisitId(id);
             for (VisitAttachment attachment : attachments) {
-                deleteFile(attachment.getFilePath());
+                releaseFile(attachment);
             }
             attachmentRepository.deleteByVisitId(id);
             visitRepository.deleteById(id);
+            viewCountService.evict(BoardType.VISIT, id);
+            searchIndexService.removeAfterCommit(BoardType.VISIT, id);
+            eventPublisher.publishEvent(new BoardChangedEvent(BoardType.VISIT.getTableName(), id));
+            dashboardCounterService.deletedAfterCommit(BoardType.VISIT, visit.get());
         }
     }
 
-    @Transactional
     public void increaseViewCount(Long id) {
-        Optional<Visit> visit = visitRepository.findById(id);
-        if (visit.isPresent()) {
-            Visit v = visit.get();
-            v.setViewCount(v.getViewCount() + 1);
-            visitRepository.save(v);
-        }
+        viewCountService.increase(BoardType.VISIT, id);
+    }
+
+    // 화면에 보일 조회수 (DB 값 + 아직 DB 에 반영되지 않은 증가분)
+    public long getViewCount(Visit visit) {
+        return visit.getViewCount() + viewCountService.pendingCount(BoardType.VISIT, visit.getId());
     }
 
     public List<VisitAttachment> getAttachments(Long visitId) {
         return attachmentRepository.findByVisitId(visitId);
     }
 
+    public Optional<VisitAttachment> getAttachment(Long attachmentId) {
+        return attachmentRepository.findById(attachmentId);
+    }
+
+    // 목록 썸네일용 대표 이미지 (게시글 ID → 첨부파일, 한 번의 쿼리)
+    public Map<Long, VisitAttachment> getRepresentativeAttachments(List<Visit> visits) {
+        if (visits.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> ids = visits.stream().map(Visit::getId).toList();
+        return listCacheService.get(BoardType.VISIT.getTableName(), List.of("representatives", ids),
+                () -> attachmentRepository.findByVisitIdInAndIsRepresentativeTrue(ids).stream()
+                        .collect(Collectors.toMap(VisitAttachment::getVisitId, a -> a, (a, b) -> a)));
+    }
+
     private String getFileExtension(String fileName) {
         if (fileName == null) return "";
         int lastDotIndex = fileName.lastIndexOf('.');
@@ -192,7 +224,7 @@ public class VisitService {
         return fileName.substring(lastDotIndex + 1).toLowerCase();
     }
 
-    private boolean isAllowedExtension(String extension) {
+    public boolean isAllowedExtension(String extension) {
         return allowedExtensions.contains(extension.toLowerCase());
     }
 
@@ -200,28 +232,11 @@ public class VisitService {
         return Arrays.asList("jpg", "jpeg", "png", "svg", "gif").contains(extension.toLowerCase());
     }
 
-    private String saveFile(MultipartFile file) throws IOException {
-        File uploadDirectory = new File(uploadDir);
-        if (!uploadDirectory.exists()) {
-            uploadDirectory.mkdirs();
-        }
-
-        String originalFileName = file.getOriginalFilename();
-        String fileName = System.currentTimeMillis() + "_" + originalFileName;
-        Path filePath = Paths.get(uploadDir + fileName);
-        Files.write(filePath, file.getBytes());
-
-        return fileName;
-    }
-
-    private void deleteFile(String filePath) {
-        if (filePath != null) {
-            try {
-                Path path = Paths.get(filePath);
-                Files.deleteIfExists(path);
-            } catch (IOException e) {
-                e.printStackTrace();
-            }
+    private void releaseFile(VisitAttachment attachment) {
+        if (attachment.getContentHash() != null) {
+            blobStoreService.release(attachment.getContentHash());
+        } else {
+            fileDeletionService.deleteAfterCommit(attachment.getFilePath());
         }
     }
 }
\ No newline at end of file
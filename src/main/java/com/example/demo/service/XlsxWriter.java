@@ -0,0 +1,177 @@
+package com.example.demo.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+// 스트리밍 XLSX 쓰기 (Office Open XML 최소 구성)
+// 시트 XML 을 zip 항목에 바로 써 내려가므로 통합 문서 전체를 메모리에 만들지 않는다.
+// 문자열은 공유 문자열 표 대신 셀 안에 직접(inlineStr) 넣고, 시트 행 수 제한을 넘으면 다음 시트로 이어 쓴다.
+class XlsxWriter implements SheetWriter {
+
+    // 엑셀 시트 최대 행 수 / 셀 최대 글자 수
+    static final int MAX_ROWS = 1_048_576;
+    static final int MAX_CELL_LENGTH = 32_767;
+
+    private static final LocalDateTime EXCEL_EPOCH = LocalDateTime.of(1899, 12, 30, 0, 0);
+    private static final String MAIN_NS = "http://schemas.openxmlformats.org/spreadsheetml/2006/main";
+    private static final String REL_NS = "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+    private static final String PKG_REL_NS = "http://schemas.openxmlformats.org/package/2006/relationships";
+
+    private final ZipOutputStream zip;
+    private final Writer writer;
+    private final String sheetName;
+    private final List<String> header;
+    private int sheets;
+    private int rows;
+
+    XlsxWriter(OutputStream out, String sheetName, List<String> header) throws IOException {
+        this.zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+        // zip 항목을 바꾸기 전에 flush 만 하고, 닫는 것은 zip 에서 한 번만 한다
+        this.writer = new BufferedWriter(new OutputStreamWriter(zip, StandardCharsets.UTF_8), 64 * 1024);
+        this.sheetName = sheetName;
+        this.header = header;
+        startSheet();
+    }
+
+    @Override
+    public void writeRow(List<?> values) throws IOException {
+        if (rows >= MAX_ROWS) {
+            endSheet();
+            startSheet();
+        }
+        writer.write("<row>");
+        for (Object value : values) {
+            if (value == null) {
+                writer.write("<c/>");
+            } else if (value instanceof Number number) {
+                writer.write("<c><v>");
+                writer.write(number.toString());
+                writer.write("</v></c>");
+            } else if (value instanceof LocalDateTime dateTime) {
+                // 날짜 서식(s=1) 을 쓴 일련번호 (1899-12-30 기준 일수)
+                double serial = ChronoUnit.DAYS.between(EXCEL_EPOCH, dateTime)
+                        + dateTime.toLocalTime().toNanoOfDay() / 86_400_000_000_000d;
+                writer.write("<c s=\"1\"><v>");
+                writer.write(Double.toString(serial));
+                writer.write("</v></c>");
+            } else {
+                String text = SheetWriter.text(value);
+                if (text.length() > MAX_CELL_LENGTH) {
+                    text = text.substring(0, MAX_CELL_LENGTH);
+                }
+                writer.write("<c t=\"inlineStr\"><is><t xml:space=\"preserve\">");
+                writeEscaped(text);
+                writer.write("</t></is></c>");
+            }
+        }
+        writer.write("</row>");
+        rows++;
+    }
+
+    @Override
+    public void close() throws IOException {
+        endSheet();
+        writeWorkbook();
+        zip.finish();
+        zip.close();
+    }
+
+    private void startSheet() throws IOException {
+        sheets++;
+        rows = 0;
+        zip.putNextEntry(new ZipEntry("xl/worksheets/sheet" + sheets + ".xml"));
+        writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>");
+        writer.write("<worksheet xmlns=\"" + MAIN_NS + "\"><sheetData>");
+        writeRow(header);
+    }
+
+    private void endSheet() throws IOException {
+        writer.write("</sheetData></worksheet>");
+        writer.flush();
+        zip.closeEntry();
+    }
+
+    // 시트 수를 알아야 하는 목록 파일은 마지막에 쓴다 (zip 항목 순서는 상관없음)
+    private void writeWorkbook() throws IOException {
+        StringBuilder types = new StringBuilder()
+                .append("<Types xmlns=\"http://schemas.openxmlformats.org/package/2006/content-types\">")
+                .append("<Default Extension=\"rels\" ContentType=\"application/vnd.openxmlformats-package.relationships+xml\"/>")
+                .append("<Default Extension=\"xml\" ContentType=\"application/xml\"/>")
+                .append("<Override PartName=\"/xl/workbook.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.sheet.main+xml\"/>")
+                .append("<Override PartName=\"/xl/styles.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.styles+xml\"/>");
+        StringBuilder workbook = new StringBuilder()
+                .append("<workbook xmlns=\"" + MAIN_NS + "\" xmlns:r=\"" + REL_NS + "\"><sheets>");
+        StringBuilder workbookRels = new StringBuilder()
+                .append("<Relationships xmlns=\"" + PKG_REL_NS + "\">");
+
+        for (int i = 1; i <= sheets; i++) {
+            types.append("<Override PartName=\"/xl/worksheets/sheet").append(i)
+                    .append(".xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml\"/>");
+            String name = i == 1 ? sheetName : sheetName + " (" + i + ")";
+            workbook.append("<sheet name=\"").append(escape(name)).append("\" sheetId=\"").append(i)
+                    .append("\" r:id=\"rId").append(i).append("\"/>");
+            workbookRels.append("<Relationship Id=\"rId").append(i)
+                    .append("\" Type=\"" + REL_NS + "/worksheet\" Target=\"worksheets/sheet").append(i).append(".xml\"/>");
+        }
+        types.append("</Types>");
+        workbook.append("</sheets></workbook>");
+        workbookRels.append("<Relationship Id=\"rId").append(sheets + 1)
+                .append("\" Type=\"" + REL_NS + "/styles\" Target=\"styles.xml\"/></Relationships>");
+
+        entry("[Content_Types].xml", types.toString());
+        entry("_rels/.rels", "<Relationships xmlns=\"" + PKG_REL_NS + "\">"
+                + "<Relationship Id=\"rId1\" Type=\"" + REL_NS + "/officeDocument\" Target=\"xl/workbook.xml\"/>"
+                + "</Relationships>");
+        entry("xl/workbook.xml", workbook.toString());
+        entry("xl/_rels/workbook.xml.rels", workbookRels.toString());
+        // 셀 서식 0: 기본, 1: 날짜 시간 (yyyy-mm-dd hh:mm:ss)
+        entry("xl/styles.xml", "<styleSheet xmlns=\"" + MAIN_NS + "\">"
+                + "<numFmts count=\"1\"><numFmt numFmtId=\"164\" formatCode=\"yyyy-mm-dd hh:mm:ss\"/></numFmts>"
+                + "<fonts count=\"1\"><font><sz val=\"11\"/><name val=\"맑은 고딕\"/></font></fonts>"
+                + "<fills count=\"2\"><fill><patternFill patternType=\"none\"/></fill><fill><patternFill patternType=\"gray125\"/></fill></fills>"
+                + "<borders count=\"1\"><border><left/><right/><top/><bottom/><diagonal/></border></borders>"
+                + "<cellStyleXfs count=\"1\"><xf numFmtId=\"0\" fontId=\"0\" fillId=\"0\" borderId=\"0\"/></cellStyleXfs>"
+                + "<cellXfs count=\"2\"><xf numFmtId=\"0\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\"/>"
+                + "<xf numFmtId=\"164\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\" applyNumberFormat=\"1\"/></cellXfs>"
+                + "</styleSheet>");
+    }
+
+    private void entry(String name, String xml) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>");
+        writer.write(xml);
+        writer.flush();
+        zip.closeEntry();
+    }
+
+    // XML 특수 문자 이스케이프, XML 에 쓸 수 없는 제어 문자는 버린다
+    private void writeEscaped(String text) throws IOException {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '&' -> writer.write("&amp;");
+                case '<' -> writer.write("&lt;");
+                case '>' -> writer.write("&gt;");
+                case '"' -> writer.write("&quot;");
+                default -> {
+                    if (c >= 0x20 || c == '\t' || c == '\n' || c == '\r') {
+                        writer.write(c);
+                    }
+                }
+            }
+        }
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+}
@@ -0,0 +1,34 @@
+function toggleAward(element) {
+    const details = element.querySelector('.award-details');
+    const toggle = element.querySelector('.award-toggle');
+
+    if (details.classList.contains('active')) {
+        details.classList.remove('active');
+        toggle.textContent = '▼';
+    } else {
+        details.classList.add('active');
+        toggle.textContent = '▲';
+    }
+}
+
+function openModal(src, event) {
+    if (event) {
+        event.stopPropagation();
+    }
+    const modal = document.getElementById('imageModal');
+    const modalImg = document.getElementById('modalImage');
+    modal.classList.add('active');
+    modalImg.src = src;
+}
+
+function closeModal() {
+    const modal = document.getElementById('imageModal');
+    modal.classList.remove('active');
+}
+
+// ESC 키로 모달 닫기
+document.addEventListener('keydown', function(event) {
+    if (event.key === 'Escape') {
+        closeModal();
+    }
+});
@@ -0,0 +1,61 @@
+function previewFile(event) {
+    const file = event.target.files[0];
+    const preview = document.getElementById('filePreview');
+
+    if (file) {
+        preview.style.display = 'block';
+
+        const fileName = document.createElement('p');
+        fileName.className = 'file-name';
+        fileName.textContent = file.name;
+
+        preview.innerHTML = '';
+        preview.appendChild(fileName);
+
+        // 이미지 파일인 경우 미리보기 표시
+        if (file.type.startsWith('image/')) {
+            const reader = new FileReader();
+            reader.onload = function(e) {
+                const img = document.createElement('img');
+                img.src = e.target.result;
+                preview.appendChild(img);
+            };
+            reader.readAsDataURL(file);
+        }
+    }
+}
+
+document.getElementById('awardForm').addEventListener('submit', function(e) {
+    e.preventDefault();
+
+    const formData = new FormData();
+    formData.append('id', document.getElementById('awardId').value);
+    formData.append('year', document.getElementById('year').value);
+    formData.append('title', document.getElementById('title').value);
+
+    const fileInput = document.getElementById('fileInput');
+    if (fileInput.files.length > 0) {
+        formData.append('image', fileInput.files[0]);
+    }
+
+    fetch('/award/api/save', {
+        method: 'POST',
+        body: formData
+    })
+    .then(response => {
+        if (!response.ok) {
+            return response.text().then(text => {
+                throw new Error(text);
+            });
+        }
+        return response.json();
+    })
+    .then(data => {
+        alert('수상 이력이 수정되었습니다.');
+        location.href = '/award/list';
+    })
+    .catch(error => {
+        alert('수정 중 오류가 발생했습니다:\n' + error.message);
+        console.error('Error:', error);
+    });
+});
@@ -0,0 +1,128 @@
+let currentImages = [];
+let currentIndex = 0;
+let modalOpen = false;  // 모달이 열려있는지 추적
+
+// 페이지 로드 시 이미지 목록 수집
+window.onload = function() {
+    const awards = pageData.awards;
+    currentImages = awards
+        .filter(award => award.imageFilePath && award.imageFilePath.trim() !== '')
+        .map(award => {
+            const path = award.imageFilePath;
+            const filename = path.substring(path.lastIndexOf('/') + 1);
+            return '/award/image/' + filename;
+        });
+
+    console.log('Available images:', currentImages);
+};
+
+function openModal(imagePath) {
+    if (!imagePath || imagePath.trim() === '') {
+        alert('이미지가 등록되지 않았습니다.');
+        return;
+    }
+
+    modalOpen = true;  // 모달 열림 상태로 설정
+
+    const filename = imagePath.substring(imagePath.lastIndexOf('/') + 1);
+    const imageUrl = '/award/image/' + filename;
+
+    console.log('Opening image:', imageUrl);
+
+    const modal = document.getElementById('imageModal');
+    const img = document.getElementById('modalImage');
+
+    modal.style.display = 'block';
+    img.src = imageUrl;
+
+    currentIndex = currentImages.findIndex(img => img.includes(filename));
+    console.log('Current index:', currentIndex);
+}
+
+function closeModal() {
+    modalOpen = false;  // 모달 닫힘 상태로 설정
+    document.getElementById('imageModal').style.display = 'none';
+    document.getElementById('modalImage').src = '';  // 이미지 src 초기화
+}
+
+function changeImage(direction) {
+    if (currentImages.length === 0) {
+        alert('이미지가 없습니다.');
+        return;
+    }
+
+    currentIndex += direction;
+    if (currentIndex < 0) {
+        currentIndex = currentImages.length - 1;
+    } else if (currentIndex >= currentImages.length) {
+        currentIndex = 0;
+    }
+
+    console.log('Changing to image:', currentImages[currentIndex]);
+    document.getElementById('modalImage').src = currentImages[currentIndex];
+}
+
+// 이미지 로드 에러 처리 - 모달이 열려있을 때만 처리
+document.getElementById('modalImage').onerror = function() {
+    if (modalOpen) {  // 모달이 열려있을 때만 alert 표시
+        console.error('Failed to load image:', this.src);
+        alert('이미지를 불러올 수 없습니다.');
+        closeModal();
+    }
+};
+
+// 모달 외부 클릭 시 닫기
+document.getElementById('imageModal').onclick = function(event) {
+    if (event.target === this) {
+        closeModal();
+    }
+};
+
+// ESC 키로 모달 닫기
+document.addEventListener('keydown', function(event) {
+    if (event.key === 'Escape') {
+        closeModal();
+    } else if (event.key === 'ArrowLeft') {
+        if (modalOpen) {
+            changeImage(-1);
+        }
+    } else if (event.key === 'ArrowRight') {
+        if (modalOpen) {
+            changeImage(1);
+        }
+    }
+});
+
+function toggleVisibility(id) {
+    if (confirm('게시 상태를 변경하시겠습니까?')) {
+        fetch(`/award/api/toggle-visibility/${id}`, {
+            method: 'POST'
+        })
+        .then(response => response.text())
+        .then(data => {
+            alert(data);
+            location.reload();
+        })
+        .catch(error => {
+            alert('상태 변경 중 오류가 발생했습니다.');
+            console.error('Error:', error);
+        });
+    }
+}
+
+function deleteAward(id) {
+    if (confirm('정말 삭제하시겠습니까?')) {
+        fetch(`/award/api/delete/${id}`, {
+            method: 'DELETE'
+        })
+        .then(response => response.text())
+        .then(data => {
+            alert(data);
+            location.reload();
+        })
+        .catch(error => {
+            alert('삭제 중 오류가 발생했습니다.');
+            console.error('Error:', error);
+        });
+    }
+}
@@ -0,0 +1,164 @@
+// 허용된 특수문자 (32개)
+const allowedSpecialChars = "!@#$%^&*()_+-=[]{}|;:',.<>?/~`\" ";
+
+// 제목 글자 수 카운트
+document.getElementById('title').addEventListener('input', function(e) {
+    const length = e.target.value.length;
+    document.getElementById('titleLength').textContent = length;
+
+    // 실시간 유효성 검사
+    validateTitle(e.target.value);
+});
+
+// 제목 유효성 검사
+function validateTitle(title) {
+    const errorDiv = document.getElementById('titleError');
+    const titleInput = document.getElementById('title');
+
+    if (title.length < 10) {
+        errorDiv.textContent = '제목은 최소 10자 이상이어야 합니다.';
+        errorDiv.className = 'form-text error';
+        titleInput.classList.add('error');
+        return false;
+    } else if (title.length > 50) {
+        errorDiv.textContent = '제목은 최대 50자까지 입력 가능합니다.';
+        errorDiv.className = 'form-text error';
+        titleInput.classList.add('error');
+        return false;
+    }
+
+    // 허용되지 않은 문자 검사
+    for (let char of title) {
+        const isAlphaNum = /[a-zA-Z0-9가-힣]/.test(char);
+        const isAllowedSpecial = allowedSpecialChars.includes(char);
+
+        if (!isAlphaNum && !isAllowedSpecial) {
+            errorDiv.textContent = `허용되지 않은 문자가 포함되어 있습니다: '${char}'`;
+            errorDiv.className = 'form-text error';
+            titleInput.classList.add('error');
+            return false;
+        }
+    }
+
+    errorDiv.textContent = '✓ 유효한 제목입니다.';
+    errorDiv.className = 'form-text';
+    errorDiv.style.color = '#4ade80';
+    titleInput.classList.remove('error');
+    return true;
+}
+
+// 파일 선택 이벤트
+document.getElementById('imageFile').addEventListener('change', function(e) {
+    const file = e.target.files[0];
+    const fileNameSpan = document.getElementById('fileName');
+    const fileError = document.getElementById('fileError');
+    const previewBox = document.getElementById('previewBox');
+    const previewImage = document.getElementById('previewImage');
+
+    if (!file) {
+        fileNameSpan.textContent = '선택된 파일 없음';
+        previewBox.style.display = 'none';
+        return;
+    }
+
+    // 파일명 검증 (영문, 숫자, ., -, _ 만 허용)
+    const fileName = file.name;
+    if (!/^[a-zA-Z0-9._-]+$/.test(fileName)) {
+        fileError.textContent = '❌ 파일명에 공백이나 특수문자가 포함될 수 없습니다. (영문, 숫자, ., -, _만 가능)';
+        e.target.value = '';
+        fileNameSpan.textContent = '선택된 파일 없음';
+        previewBox.style.display = 'none';
+        return;
+    }
+
+    // 파일 크기 검증 (20MB)
+    const maxSize = 20 * 1024 * 1024; // 20MB
+    if (file.size > maxSize) {
+        fileError.textContent = '❌ 파일 크기는 20MB를 초과할 수 없습니다.';
+        e.target.value = '';
+        fileNameSpan.textContent = '선택된 파일 없음';
+        previewBox.style.display = 'none';
+        return;
+    }
+
+    // 확장자 검증
+    const extension = fileName.split('.').pop().toLowerCase();
+    const allowedExtensions = ['jpg', 'jpeg', 'png', 'svg'];
+    if (!allowedExtensions.includes(extension)) {
+        fileError.textContent = '❌ jpg, jpeg, png, svg 파일만 업로드 가능합니다.';
+        e.target.value = '';
+        fileNameSpan.textContent = '선택된 파일 없음';
+        previewBox.style.display = 'none';
+        return;
+    }
+
+    // 유효성 검사 통과
+    fileError.textContent = '✓ 유효한 파일입니다.';
+    fileError.style.color = '#4ade80';
+    fileNameSpan.textContent = fileName;
+
+    // 미리보기
+    const reader = new FileReader();
+    reader.onload = function(e) {
+        previewImage.src = e.target.result;
+        previewBox.style.display = 'block';
+    };
+    reader.readAsDataURL(file);
+});
+
+// 폼 제출
+document.getElementById('awardForm').addEventListener('submit', function(e) {
+    e.preventDefault();
+
+    const year = document.getElementById('year').value;
+    const title = document.getElementById('title').value;
+    const author = document.getElementById('author').value;
+    const imageFile = document.getElementById('imageFile').files[0];
+    const isVisible = document.getElementById('isVisible').checked;
+
+    // 유효성 검사
+    if (!year || year < 2000 || year > 2100) {
+        alert('올바른 연도를 입력하세요. (2000-2100)');
+        return;
+    }
+
+    if (!validateTitle(title)) {
+        alert('제목을 올바르게 입력하세요.');
+        return;
+    }
+
+    if (!imageFile) {
+        alert('이미지 파일을 선택하세요.');
+        return;
+    }
+
+    // FormData 생성
+    const formData = new FormData();
+    formData.append('year', year);
+    formData.append('title', title);
+    formData.append('author', author);
+    formData.append('imageFile', imageFile);
+    formData.append('isVisible', isVisible);
+
+    // 서버 전송
+    fetch('/award/api/save', {
+        method: 'POST',
+        body: formData
+    })
+    .then(response => {
+        if (!response.ok) {
+            return response.text().then(text => {
+                throw new Error(text);
+            });
+        }
+        return response.json();
+    })
+    .then(data => {
+        alert('수상 이력이 등록되었습니다.');
+        location.href = '/award/list';
+    })
+    .catch(error => {
+        alert('등록 중 오류가 발생했습니다:\n' + error.message);
+        console.error('Error:', error);
+    });
+});
@@ -0,0 +1,47 @@
+// 게시판 현황
+const boardNames = {notice: '📢 공지사항', press: '📰 보도자료', visit: '📷 방문사진', video: '🎥 홍보영상'};
+
+function loadStats() {
+    fetch('/api/dashboard')
+        .then(response => response.json())
+        .then(data => {
+            const grid = document.getElementById('statsGrid');
+            grid.innerHTML = '';
+            Object.entries(data.boards).forEach(([board, stats]) => {
+                const statuses = Object.entries(stats.byStatus)
+                    .map(([status, count]) => status + ' ' + count).join(' · ');
+                const card = document.createElement('div');
+                card.className = 'stat-card';
+                card.innerHTML =
+                    '<div class="stat-card-title">' + (boardNames[board] || board) + '</div>' +
+                    '<div class="stat-card-total">' + stats.total + '</div>' +
+                    '<div class="stat-card-detail">' + (statuses || '-') + '<br>' +
+                    '오늘 등록 ' + stats.todayNew + ' · 오늘 조회 ' + stats.todayViews + '</div>';
+                grid.appendChild(card);
+            });
+        })
+        .catch(error => console.error('현황 조회 실패:', error));
+}
+
+loadStats();
+setInterval(loadStats, 30000);
+
+// 카드 호버 시 약간의 3D 효과
+document.querySelectorAll('.menu-card').forEach(card => {
+    card.addEventListener('mouseenter', function() {
+        this.style.transform = 'translateY(-12px) scale(1.02)';
+    });
+
+    card.addEventListener('mouseleave', function() {
+        this.style.transform = 'translateY(0) scale(1)';
+    });
+});
+
+// 드롭다운 메뉴 클릭 외부 감지
+document.addEventListener('click', function(e) {
+    if (!e.target.closest('.menu-item')) {
+        document.querySelectorAll('.dropdown').forEach(dropdown => {
+            dropdown.style.display = 'none';
+        });
+    }
+});
@@ -0,0 +1,7 @@
+// 기능 아이콘 클릭 이벤트
+document.querySelectorAll('.feature-item').forEach(item => {
+    item.addEventListener('click', function() {
+        const label = this.querySelector('.feature-label').textContent;
+        alert(`${label} 기능은 로그인 후 이용 가능합니다.`);
+    });
+});
@@ -0,0 +1,17 @@
+// 입력 필드 포커스 애니메이션
+document.querySelectorAll('.form-group input').forEach(input => {
+    input.addEventListener('focus', function() {
+        this.parentElement.parentElement.style.transform = 'scale(1.02)';
+    });
+
+    input.addEventListener('blur', function() {
+        this.parentElement.parentElement.style.transform = 'scale(1)';
+    });
+});
+
+// 폼 제출 시 버튼 애니메이션
+document.querySelector('form').addEventListener('submit', function(e) {
+    const btn = document.querySelector('.btn-submit');
+    btn.textContent = '로그인 중...';
+    btn.style.background = 'linear-gradient(135deg, #1a3461 0%, #234481 100%)';
+});
@@ -0,0 +1,84 @@
+// 페이지 로드 시 필터 태그 표시
+window.onload = function() {
+    displayFilterTags();
+};
+
+function displayFilterTags() {
+    const filterTagsDiv = document.getElementById('filterTags');
+    filterTagsDiv.innerHTML = '';
+
+    const keyword = pageData.keyword;
+    const searchType = pageData.searchType;
+    const category = pageData.category;
+    const status = pageData.status;
+    const startDate = pageData.startDate;
+    const endDate = pageData.endDate;
+
+    if (keyword && keyword.trim() !== '') {
+        addFilterTag(filterTagsDiv, `검색: ${keyword} (${searchType})`, 'keyword');
+    }
+
+    if (category && category !== '전체') {
+        addFilterTag(filterTagsDiv, `분류: ${category}`, 'category');
+    }
+
+    if (status && status !== '전체') {
+        addFilterTag(filterTagsDiv, `상태: ${status}`, 'status');
+    }
+
+    if (startDate || endDate) {
+        const dateText = `날짜: ${startDate || '시작일'} ~ ${endDate || '종료일'}`;
+        addFilterTag(filterTagsDiv, dateText, 'date');
+    }
+}
+
+function addFilterTag(container, text, type) {
+    const tag = document.createElement('div');
+    tag.className = 'filter-tag';
+    tag.innerHTML = `
+        ${text}
+        <span class="remove" onclick="removeFilter('${type}')">✕</span>
+    `;
+    container.appendChild(tag);
+}
+
+function removeFilter(type) {
+    if (type === 'keyword') {
+        document.getElementById('keyword').value = '';
+    } else if (type === 'category') {
+        document.getElementById('category').value = '전체';
+    } else if (type === 'status') {
+        document.getElementById('status').value = '전체';
+    } else if (type === 'date') {
+        document.getElementById('startDate').value = '';
+        document.getElementById('endDate').value = '';
+    }
+    document.getElementById('searchForm').submit();
+}
+
+function resetSearch() {
+    document.getElementById('searchType').selectedIndex = 0;
+    document.getElementById('keyword').value = '';
+    document.getElementById('category').selectedIndex = 0;
+    document.getElementById('status').selectedIndex = 0;
+    document.getElementById('startDate').value = '';
+    document.getElementById('endDate').value = '';
+    document.getElementById('searchForm').submit();
+}
+
+function deleteNotice(id) {
+    if (confirm('정말 삭제하시겠습니까? 삭제된 목록은 복구할 수 없습니다.')) {
+        fetch(`/notice/api/delete/${id}`, {
+            method: 'DELETE'
+        })
+        .then(response => response.text())
+        .then(data => {
+            alert(data);
+            location.reload();
+        })
+        .catch(error => {
+            alert('삭제 중 오류가 발생했습니다.');
+            console.error('Error:', error);
+        });
+    }
+}
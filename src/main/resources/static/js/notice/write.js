@@ -0,0 +1,146 @@
+let selectedFiles = [];
+
+// 파일 선택 처리
+function handleFileSelect(event) {
+    const files = Array.from(event.target.files);
+
+    if (selectedFiles.length + files.length > 5) {
+        alert('최대 5개의 첨부파일만 업로드 가능합니다.');
+        event.target.value = '';
+        return;
+    }
+
+    let totalSize = selectedFiles.reduce((sum, file) => sum + file.size, 0);
+    totalSize += files.reduce((sum, file) => sum + file.size, 0);
+
+    if (totalSize > 90 * 1024 * 1024) {
+        alert('총 90MB의 파일을 업로드 할 수 없습니다.');
+        event.target.value = '';
+        return;
+    }
+
+    selectedFiles = selectedFiles.concat(files);
+    displayFileList();
+    event.target.value = '';
+}
+
+// 파일 목록 표시
+function displayFileList() {
+    const fileListDiv = document.getElementById('fileList');
+    fileListDiv.innerHTML = '';
+
+    selectedFiles.forEach((file, index) => {
+        const fileItem = document.createElement('div');
+        fileItem.className = 'file-item';
+
+        const fileInfo = document.createElement('div');
+        fileInfo.className = 'file-item-info';
+        fileInfo.innerHTML = `
+            <span>📎</span>
+            <span>${file.name} (${formatFileSize(file.size)})</span>
+        `;
+
+        const removeBtn = document.createElement('button');
+        removeBtn.className = 'file-remove';
+        removeBtn.textContent = '삭제';
+        removeBtn.type = 'button';
+        removeBtn.onclick = () => removeFile(index);
+
+        fileItem.appendChild(fileInfo);
+        fileItem.appendChild(removeBtn);
+        fileListDiv.appendChild(fileItem);
+    });
+}
+
+// 파일 제거
+function removeFile(index) {
+    selectedFiles.splice(index, 1);
+    displayFileList();
+}
+
+// 파일 크기 포맷
+function formatFileSize(bytes) {
+    if (bytes === 0) return '0 Bytes';
+    const k = 1024;
+    const sizes = ['Bytes', 'KB', 'MB', 'GB'];
+    const i = Math.floor(Math.log(bytes) / Math.log(k));
+    return Math.round(bytes / Math.pow(k, i) * 100) / 100 + ' ' + sizes[i];
+}
+
+// 돌아가기 확인
+function confirmBack() {
+    document.getElementById('backModal').style.display = 'block';
+}
+
+function closeBackModal() {
+    document.getElementById('backModal').style.display = 'none';
+}
+
+function goBack() {
+    location.href = '/notice/list';
+}
+
+// 현재 시간 + 30일 설정
+window.onload = function() {
+    const now = new Date();
+    const startDate = new Date(now);
+    const endDate = new Date(now);
+    endDate.setDate(endDate.getDate() + 30);
+
+    document.getElementById('startDate').value = formatDateTime(startDate);
+    document.getElementById('endDate').value = formatDateTime(endDate);
+};
+
+function formatDateTime(date) {
+    const year = date.getFullYear();
+    const month = String(date.getMonth() + 1).padStart(2, '0');
+    const day = String(date.getDate()).padStart(2, '0');
+    const hours = String(date.getHours()).padStart(2, '0');
+    const minutes = String(date.getMinutes()).padStart(2, '0');
+    return `${year}-${month}-${day}T${hours}:${minutes}`;
+}
+
+// 폼 제출
+document.getElementById('noticeForm').addEventListener('submit', function(e) {
+    e.preventDefault();
+
+    const formData = new FormData();
+    formData.append('title', document.getElementById('title').value);
+    formData.append('content', document.getElementById('content').value);
+    formData.append('category', document.getElementById('category').value);
+    formData.append('author', document.getElementById('author').value);
+    formData.append('startDate', document.getElementById('startDate').value);
+    formData.append('endDate', document.getElementById('endDate').value);
+    formData.append('pinned', document.getElementById('pinned').checked);
+
+    selectedFiles.forEach(file => {
+        formData.append('files', file);
+    });
+
+    fetch('/notice/api/save', {
+        method: 'POST',
+        body: formData
+    })
+    .then(response => {
+        if (!response.ok) {
+            return response.text().then(text => {
+                throw new Error(text);
+            });
+        }
+        return response.json();
+    })
+    .then(data => {
+        if (data.status === '예약') {
+            const startDate = new Date(data.startDate);
+            const dateStr = formatDateTime(startDate).replace('T', ' ');
+            alert(`작성하신 글이 ${dateStr} 게시예정입니다.`);
+        } else {
+            alert('작성하신 글이 게시되었습니다.');
+        }
+        location.href = '/notice/list';
+    })
+    .catch(error => {
+        alert('등록 중 오류가 발생했습니다:\n' + error.message);
+        console.error('Error:', error);
+    });
+});
@@ -0,0 +1,35 @@
+let deleteId = null;
+
+function deletePress(id) {
+    deleteId = id;
+    document.getElementById('deleteModal').style.display = 'block';
+}
+
+function closeDeleteModal() {
+    document.getElementById('deleteModal').style.display = 'none';
+    deleteId = null;
+}
+
+function confirmDelete() {
+    if (deleteId) {
+        fetch(`/press/api/delete/${deleteId}`, {
+            method: 'DELETE'
+        })
+        .then(response => response.text())
+        .then(data => {
+            alert(data);
+            location.href = '/press/list';
+        })
+        .catch(error => {
+            alert('삭제 중 오류가 발생했습니다.');
+            console.error('Error:', error);
+        });
+    }
+}
+
+window.onclick = function(event) {
+    const modal = document.getElementById('deleteModal');
+    if (event.target === modal) {
+        closeDeleteModal();
+    }
+}
@@ -0,0 +1,75 @@
+const userId = pageData.userId;
+const originalUserId = pageData.originalUserId;
+
+// 비밀번호 확인
+document.getElementById('passwordConfirm').addEventListener('input', function() {
+    const password = document.getElementById('password').value;
+    const passwordConfirm = this.value;
+    const messageDiv = document.getElementById('passwordCheckMessage');
+
+    if (password || passwordConfirm) {
+        if (password === passwordConfirm) {
+            messageDiv.className = 'check-message success';
+            messageDiv.textContent = '비밀번호가 일치합니다.';
+        } else {
+            messageDiv.className = 'check-message error';
+            messageDiv.textContent = '비밀번호가 일치하지 않습니다.';
+        }
+    } else {
+        messageDiv.textContent = '';
+    }
+});
+
+// 폼 제출
+document.getElementById('userEditForm').addEventListener('submit', function(e) {
+    e.preventDefault();
+
+    // 비밀번호 일치 확인 (입력된 경우에만)
+    const password = document.getElementById('password').value;
+    const passwordConfirm = document.getElementById('passwordConfirm').value;
+
+    if (password && password !== passwordConfirm) {
+        alert('비밀번호가 일치하지 않습니다.');
+        return;
+    }
+
+    // 폼 데이터 수집
+    const formData = {
+        id: userId,
+        userId: originalUserId,
+        name: document.getElementById('name').value,
+        email: document.getElementById('email').value,
+        phone: document.getElementById('phone').value,
+        department: document.getElementById('department').value,
+        group: document.querySelector('input[name="group"]:checked').value,
+        accountStatus: document.querySelector('input[name="accountStatus"]:checked').value
+    };
+
+    // 비밀번호가 입력된 경우에만 추가
+    if (password) {
+        formData.password = password;
+    }
+
+    // 서버로 전송
+    fetch('/user/api/save', {
+        method: 'POST',
+        headers: {
+            'Content-Type': 'application/json'
+        },
+        body: JSON.stringify(formData)
+    })
+    .then(response => {
+        if (response.ok) {
+            alert('사용자 정보가 수정되었습니다.');
+            location.href = '/user/list';
+        } else {
+            return response.text().then(text => {
+                alert('오류: ' + text);
+            });
+        }
+    })
+    .catch(error => {
+        alert('수정 중 오류가 발생했습니다.');
+        console.error('Error:', error);
+    });
+});
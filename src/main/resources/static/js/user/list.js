@@ -0,0 +1,52 @@
+function searchUsers() {
+    const keyword = document.getElementById('searchKeyword').value;
+
+    fetch(`/user/api/search?keyword=${encodeURIComponent(keyword)}`)
+        .then(response => response.json())
+        .then(users => {
+            const tbody = document.getElementById('userTableBody');
+            if (users.length === 0) {
+                tbody.innerHTML = '<tr><td colspan="10" class="empty-state">검색 결과가 없습니다.</td></tr>';
+                return;
+            }
+
+            tbody.innerHTML = users.map((user, index) => `
+                <tr>
+                    <td>${index + 1}</td>
+                    <td>${user.userId}</td>
+                    <td>${user.name}</td>
+                    <td>${user.group || '-'}</td>
+                    <td>${user.email}</td>
+                    <td>${user.phone || '-'}</td>
+                    <td>${user.department || '-'}</td>
+                    <td>${user.lastLogin || '-'}</td>
+                    <td><span class="${user.accountStatus === '사용' ? 'status-active' : 'status-inactive'}">${user.accountStatus}</span></td>
+                    <td>
+                        <button class="btn btn-edit" onclick="location.href='/user/edit/${user.id}'">수정</button>
+                        <button class="btn btn-delete" onclick="deleteUser(${user.id})">삭제</button>
+                    </td>
+                </tr>
+            `).join('');
+        });
+}
+
+function deleteUser(id) {
+    if (confirm('정말 삭제하시겠습니까?')) {
+        fetch(`/user/api/delete/${id}`, {
+            method: 'DELETE'
+        })
+        .then(response => response.text())
+        .then(data => {
+            alert(data);
+            location.reload();
+        })
+        .catch(error => {
+            alert('삭제 중 오류가 발생했습니다.');
+            console.error('Error:', error);
+        });
+    }
+}
+
+function downloadExcel() {
+    alert('엑셀 다운로드 기능은 추후 구현 예정입니다.');
+}
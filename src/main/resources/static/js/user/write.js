@@ -0,0 +1,112 @@
+let userIdChecked = false;
+
+// 아이디 중복 확인
+function checkUserId() {
+    const userId = document.getElementById('userId').value;
+    const messageDiv = document.getElementById('userIdCheckMessage');
+
+    if (!userId) {
+        messageDiv.className = 'check-message error';
+        messageDiv.textContent = '아이디를 입력하세요.';
+        return;
+    }
+
+    fetch(`/user/api/check-userid?userId=${encodeURIComponent(userId)}`)
+        .then(response => response.json())
+        .then(data => {
+            if (data.exists) {
+                messageDiv.className = 'check-message error';
+                messageDiv.textContent = '이미 사용 중인 아이디입니다.';
+                userIdChecked = false;
+            } else {
+                messageDiv.className = 'check-message success';
+                messageDiv.textContent = '사용 가능한 아이디입니다.';
+                userIdChecked = true;
+            }
+        })
+        .catch(error => {
+            messageDiv.className = 'check-message error';
+            messageDiv.textContent = '중복 확인 중 오류가 발생했습니다.';
+            console.error('Error:', error);
+        });
+}
+
+// 아이디 입력 시 중복 확인 초기화
+document.getElementById('userId').addEventListener('input', function() {
+    userIdChecked = false;
+    document.getElementById('userIdCheckMessage').textContent = '';
+});
+
+// 비밀번호 확인
+document.getElementById('passwordConfirm').addEventListener('input', function() {
+    const password = document.getElementById('password').value;
+    const passwordConfirm = this.value;
+    const messageDiv = document.getElementById('passwordCheckMessage');
+
+    if (passwordConfirm) {
+        if (password === passwordConfirm) {
+            messageDiv.className = 'check-message success';
+            messageDiv.textContent = '비밀번호가 일치합니다.';
+        } else {
+            messageDiv.className = 'check-message error';
+            messageDiv.textContent = '비밀번호가 일치하지 않습니다.';
+        }
+    } else {
+        messageDiv.textContent = '';
+    }
+});
+
+// 폼 제출
+document.getElementById('userForm').addEventListener('submit', function(e) {
+    e.preventDefault();
+
+    // 아이디 중복 확인 체크
+    if (!userIdChecked) {
+        alert('아이디 중복 확인을 해주세요.');
+        return;
+    }
+
+    // 비밀번호 일치 확인
+    const password = document.getElementById('password').value;
+    const passwordConfirm = document.getElementById('passwordConfirm').value;
+
+    if (password !== passwordConfirm) {
+        alert('비밀번호가 일치하지 않습니다.');
+        return;
+    }
+
+    // 폼 데이터 수집
+    const formData = {
+        userId: document.getElementById('userId').value,
+        password: password,
+        name: document.getElementById('name').value,
+        email: document.getElementById('email').value,
+        phone: document.getElementById('phone').value,
+        department: document.getElementById('department').value,
+        group: document.querySelector('input[name="group"]:checked').value,
+        accountStatus: document.querySelector('input[name="accountStatus"]:checked').value
+    };
+
+    // 서버로 전송
+    fetch('/user/api/save', {
+        method: 'POST',
+        headers: {
+            'Content-Type': 'application/json'
+        },
+        body: JSON.stringify(formData)
+    })
+    .then(response => {
+        if (response.ok) {
+            alert('사용자가 등록되었습니다.');
+            location.href = '/user/list';
+        } else {
+            return response.text().then(text => {
+                alert('오류: ' + text);
+            });
+        }
+    })
+    .catch(error => {
+        alert('등록 중 오류가 발생했습니다.');
+        console.error('Error:', error);
+    });
+});
@@ -0,0 +1,113 @@
+let selectedFiles = [];
+
+window.onload = function() {
+    const startDate = pageData.startDate;
+    const endDate = pageData.endDate;
+
+    if (startDate) {
+        document.getElementById('startDate').value = formatDateForInput(startDate);
+    }
+    if (endDate) {
+        document.getElementById('endDate').value = formatDateForInput(endDate);
+    }
+};
+
+function formatDateForInput(dateString) {
+    const date = new Date(dateString);
+    const year = date.getFullYear();
+    const month = String(date.getMonth() + 1).padStart(2, '0');
+    const day = String(date.getDate()).padStart(2, '0');
+    const hours = String(date.getHours()).padStart(2, '0');
+    const minutes = String(date.getMinutes()).padStart(2, '0');
+    return `${year}-${month}-${day}T${hours}:${minutes}`;
+}
+
+function handleFileSelect(event) {
+    const files = Array.from(event.target.files);
+
+    if (selectedFiles.length + files.length > 5) {
+        alert('최대 5개의 첨부파일만 업로드 가능합니다.');
+        event.target.value = '';
+        return;
+    }
+
+    let totalSize = selectedFiles.reduce((sum, file) => sum + file.size, 0);
+    totalSize += files.reduce((sum, file) => sum + file.size, 0);
+
+    if (totalSize > 90 * 1024 * 1024) {
+        alert('총 90MB의 파일을 업로드 할 수 없습니다.');
+        event.target.value = '';
+        return;
+    }
+
+    selectedFiles = selectedFiles.concat(files);
+    displayFileList();
+    event.target.value = '';
+}
+
+function displayFileList() {
+    const fileListDiv = document.getElementById('fileList');
+    fileListDiv.innerHTML = '';
+
+    selectedFiles.forEach((file, index) => {
+        const fileItem = document.createElement('div');
+        fileItem.className = 'file-item';
+
+        const fileInfo = document.createElement('div');
+        fileInfo.className = 'file-item-info';
+        fileInfo.innerHTML = `<span>📎 ${file.name}</span>`;
+
+        const removeBtn = document.createElement('button');
+        removeBtn.className = 'file-remove';
+        removeBtn.textContent = '삭제';
+        removeBtn.type = 'button';
+        removeBtn.onclick = () => removeFile(index);
+
+        fileItem.appendChild(fileInfo);
+        fileItem.appendChild(removeBtn);
+        fileListDiv.appendChild(fileItem);
+    });
+}
+
+function removeFile(index) {
+    selectedFiles.splice(index, 1);
+    displayFileList();
+}
+
+document.getElementById('videoForm').addEventListener('submit', function(e) {
+    e.preventDefault();
+
+    const formData = new FormData();
+    formData.append('id', document.getElementById('videoId').value);
+    formData.append('title', document.getElementById('title').value);
+    formData.append('content', document.getElementById('content').value);
+    formData.append('author', document.getElementById('author').value);
+    formData.append('startDate', document.getElementById('startDate').value);
+    formData.append('endDate', document.getElementById('endDate').value);
+    formData.append('pinned', document.getElementById('pinned').checked);
+
+    selectedFiles.forEach(file => {
+        formData.append('files', file);
+    });
+
+    fetch('/video/api/save', {
+        method: 'POST',
+        body: formData
+    })
+    .then(response => {
+        if (!response.ok) {
+            return response.text().then(text => {
+                throw new Error(text);
+            });
+        }
+        return response.json();
+    })
+    .then(data => {
+        alert('홍보영상이 수정되었습니다.');
+        location.href = '/video/list';
+    })
+    .catch(error => {
+        alert('수정 중 오류가 발생했습니다:\n' + error.message);
+        console.error('Error:', error);
+    });
+});
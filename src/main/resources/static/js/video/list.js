@@ -0,0 +1,23 @@
+function resetSearch() {
+    document.getElementById('searchType').selectedIndex = 0;
+    document.getElementById('keyword').value = '';
+    document.getElementById('status').selectedIndex = 0;
+    document.getElementById('searchForm').submit();
+}
+
+function deleteVideo(id) {
+    if (confirm('정말 삭제하시겠습니까? 삭제된 목록은 복구할 수 없습니다.')) {
+        fetch(`/video/api/delete/${id}`, {
+            method: 'DELETE'
+        })
+        .then(response => response.text())
+        .then(data => {
+            alert(data);
+            location.reload();
+        })
+        .catch(error => {
+            alert('삭제 중 오류가 발생했습니다.');
+            console.error('Error:', error);
+        });
+    }
+}
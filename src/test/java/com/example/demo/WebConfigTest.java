@@ -0,0 +1,63 @@
+package com.example.demo;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.resource.ResourceUrlProvider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+// 화면 css / js 캐시 헤더: 내용 해시가 붙은 주소만 immutable, 해시 없는 주소는 no-cache
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class WebConfigTest {
+
+    private static final String IMMUTABLE = "max-age=31536000, public, immutable";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ResourceUrlProvider resourceUrlProvider;
+
+    @Test
+    void onlyVersionedAssetUrlsAreImmutable() throws Exception {
+        String versioned = resourceUrlProvider.getForLookupPath("/css/layout.css");
+        assertThat(versioned).matches("/css/layout-[0-9a-f]{32}\\.css");
+
+        // 같은 파일을 번갈아 요청해도 (리소스 캐시) 헤더가 섞이지 않아야 한다
+        for (String encoding : new String[] {null, "gzip"}) {
+            assertThat(cacheControl("/css/layout.css", encoding)).as(encoding).isEqualTo("no-cache");
+            assertThat(cacheControl(versioned, encoding)).as(encoding).isEqualTo(IMMUTABLE);
+            assertThat(cacheControl("/css/layout.css", encoding)).as(encoding).isEqualTo("no-cache");
+        }
+        assertThat(cacheControl(resourceUrlProvider.getForLookupPath("/js/notice/list.js"), null))
+                .isEqualTo(IMMUTABLE);
+    }
+
+    @Test
+    void wrongVersionIsNotFound() throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(
+                get("/css/layout-00000000000000000000000000000000.css")).andReturn().getResponse();
+
+        assertThat(response.getStatus()).isEqualTo(404);
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isNotEqualTo(IMMUTABLE);
+    }
+
+    private String cacheControl(String url, String encoding) throws Exception {
+        HttpHeaders headers = new HttpHeaders();
+        if (encoding != null) {
+            headers.set(HttpHeaders.ACCEPT_ENCODING, encoding);
+        }
+        MockHttpServletResponse response = mockMvc.perform(get(url).headers(headers)).andReturn().getResponse();
+        assertThat(response.getStatus()).as(url).isEqualTo(200);
+        return response.getHeader(HttpHeaders.CACHE_CONTROL);
+    }
+}
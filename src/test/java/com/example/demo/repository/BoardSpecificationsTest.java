@@ -0,0 +1,175 @@
+package com.example.demo.repository;
+
+import com.example.demo.EntityCacheConfig;
+import com.example.demo.entity.Notice;
+import com.example.demo.service.PageCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 커서 페이지를 끝까지 넘겨서 빠짐 / 중복 없이 LIST_SORT 순서 그대로 나오는지 확인
+@DataJpaTest
+@Import(EntityCacheConfig.class)
+@ActiveProfiles("test")
+class BoardSpecificationsTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+    @Autowired
+    private NoticeRepository noticeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Row> rows = new ArrayList<>();
+
+    // createdAt 은 @PrePersist 가 덮어쓰므로 JDBC 로 직접 넣는다.
+    // ID 는 작성일시와 무관하게 섞어서, 같은 작성일시끼리는 ID 로만 순서가 정해지게 한다.
+    @BeforeEach
+    void insertNotices() {
+        List<LocalDateTime> pinned = List.of(
+                BASE.plusDays(3), BASE.plusDays(3), BASE.plusDays(3),  // 같은 작성일시 3건
+                BASE.plusDays(1).plusNanos(123_456_000),                // 마이크로초까지 커서에 실려야 함
+                BASE);
+        List<LocalDateTime> normal = new ArrayList<>();
+        normal.add(BASE.plusDays(10));                                  // 고정 게시글보다 최신인 일반 게시글
+        for (int i = 0; i < 4; i++) {
+            normal.add(BASE.plusDays(2));                               // 같은 작성일시 4건
+        }
+        for (int i = 0; i < 3; i++) {
+            normal.add(BASE.plusHours(5).plusNanos(1_000));             // 같은 작성일시 3건
+        }
+        for (int i = 0; i < 15; i++) {
+            normal.add(BASE.minusHours(i * 7L));
+        }
+
+        List<Long> ids = new ArrayList<>();
+        for (long id = 1001; id < 1001 + pinned.size() + normal.size(); id++) {
+            ids.add(id);
+        }
+        Collections.shuffle(ids, new Random(7));
+
+        int next = 0;
+        for (LocalDateTime createdAt : pinned) {
+            insert(ids.get(next), true, createdAt, next % 4 == 0 ? "게시 종료" : "게시 중");
+            next++;
+        }
+        for (LocalDateTime createdAt : normal) {
+            insert(ids.get(next), false, createdAt, next % 4 == 0 ? "게시 종료" : "게시 중");
+            next++;
+        }
+    }
+
+    @Test
+    void databaseOrderMatchesListSort() {
+        List<Long> fromDb = noticeRepository.findAll(BoardSpecifications.LIST_SORT).stream()
+                .map(Notice::getId).toList();
+        assertThat(fromDb).containsExactlyElementsOf(expected(null));
+    }
+
+    @Test
+    void walksEveryPageWithoutGapsOrDuplicates() {
+        // 페이지 크기마다 고정 → 일반 경계와 같은 작성일시 묶음이 페이지 중간 / 끝에 걸리는 위치가 달라진다
+        for (int pageSize = 1; pageSize <= 8; pageSize++) {
+            assertThat(walk(BoardSpecifications.filters(null, "전체", null, null), pageSize))
+                    .as("pageSize=%d", pageSize)
+                    .containsExactlyElementsOf(expected(null));
+        }
+        // 고정 게시글 수(5)와 같은 크기: 첫 페이지가 정확히 고정 게시글에서 끝나고 커서가 고정 게시글을 가리킨다
+        assertThat(walk(BoardSpecifications.filters(null, "전체", null, null), 5))
+                .containsExactlyElementsOf(expected(null));
+        // 한 페이지에 다 들어가는 경우
+        assertThat(walk(BoardSpecifications.filters(null, "전체", null, null), 100))
+                .containsExactlyElementsOf(expected(null));
+    }
+
+    @Test
+    void walksFilteredPages() {
+        for (int pageSize = 1; pageSize <= 4; pageSize++) {
+            assertThat(walk(BoardSpecifications.filters(null, "게시 중", null, null), pageSize))
+                    .as("pageSize=%d", pageSize)
+                    .containsExactlyElementsOf(expected("게시 중"));
+        }
+    }
+
+    @Test
+    void cursorOnLastPinnedContinuesWithNewestNormal() {
+        List<Row> sorted = sorted(null);
+        Row lastPinned = sorted.stream().filter(Row::pinned).reduce((a, b) -> b).orElseThrow();
+        PageCursor cursor = PageCursor.decode(
+                new PageCursor(true, lastPinned.createdAt(), lastPinned.id()).encode());
+
+        List<Notice> page = noticeRepository.findAll(
+                BoardSpecifications.after(cursor.pinned(), cursor.createdAt(), cursor.id()),
+                BoardSpecifications.LIST_SORT);
+
+        // 고정 게시글보다 최신인 일반 게시글이 바로 이어져야 한다
+        assertThat(page).extracting(Notice::getId)
+                .containsExactlyElementsOf(sorted.stream().filter(row -> !row.pinned()).map(Row::id).toList());
+    }
+
+    // NoticeService.loadNoticesPage 와 같은 방식으로 한 건 더 읽으며 다음 커서를 만든다 (커서는 문자열로 왕복)
+    private List<Long> walk(Specification<Notice> filter, int pageSize) {
+        List<Long> seen = new ArrayList<>();
+        String token = null;
+        for (int page = 0; page <= rows.size(); page++) {
+            Specification<Notice> spec = filter;
+            PageCursor after = PageCursor.decode(token);
+            if (after != null) {
+                spec = spec.and(BoardSpecifications.after(after.pinned(), after.createdAt(), after.id()));
+            }
+            List<Notice> fetched = noticeRepository.findBy(spec, q -> q
+                    .sortBy(BoardSpecifications.LIST_SORT)
+                    .limit(pageSize + 1)
+                    .all());
+
+            boolean hasNext = fetched.size() > pageSize;
+            List<Notice> items = hasNext ? fetched.subList(0, pageSize) : fetched;
+            items.forEach(notice -> seen.add(notice.getId()));
+            if (!hasNext) {
+                return seen;
+            }
+            Notice last = items.get(items.size() - 1);
+            token = new PageCursor(last.getPinned(), last.getCreatedAt(), last.getId()).encode();
+        }
+        throw new AssertionError("커서가 끝나지 않음: " + seen);
+    }
+
+    private List<Long> expected(String status) {
+        return sorted(status).stream().map(Row::id).toList();
+    }
+
+    private List<Row> sorted(String status) {
+        return rows.stream()
+                .filter(row -> status == null || status.equals(row.status()))
+                .sorted(Comparator.comparing(Row::pinned).reversed()
+                        .thenComparing(Row::createdAt, Comparator.reverseOrder())
+                        .thenComparing(Row::id, Comparator.reverseOrder()))
+                .toList();
+    }
+
+    private void insert(long id, boolean pinned, LocalDateTime createdAt, String status) {
+        jdbcTemplate.update("INSERT INTO notice (id, title, author, status, pinned, view_count, created_at, attachment_count)"
+                        + " VALUES (?, ?, ?, ?, ?, 0, ?, 0)",
+                id, "공지 " + id, "관리자", status, pinned, Timestamp.valueOf(createdAt));
+        rows.add(new Row(id, pinned, createdAt, status));
+    }
+
+    private record Row(long id, boolean pinned, LocalDateTime createdAt, String status) {
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.PendingFileDeletion;
+import com.example.demo.entity.StoredBlob;
+import com.example.demo.repository.PendingFileDeletionRepository;
+import com.example.demo.repository.StoredBlobRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 공용 저장소 참조 수: 같은 내용 두 번 저장 → 한 번 해제(파일 유지) → 마지막 해제(파일 삭제), 저장 트랜잭션 롤백
+// 파일은 실제 uploads/blobs 아래에 생기므로 테스트마다 새 내용을 쓰고 끝나면 지운다.
+@SpringBootTest
+@ActiveProfiles("test")
+class BlobStoreServiceTest {
+
+    @Autowired
+    private BlobStoreService blobStoreService;
+
+    @Autowired
+    private FileDeletionReaper fileDeletionReaper;
+
+    @Autowired
+    private StoredBlobRepository blobRepository;
+
+    @Autowired
+    private PendingFileDeletionRepository pendingFileDeletionRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<Path> created = new ArrayList<>();
+
+    @AfterEach
+    void deleteFiles() throws IOException {
+        for (Path file : created) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void sameContentIsStoredOnceAndDeletedWithLastReference() {
+        MockMultipartFile upload = uniqueFile();
+
+        StoredBlob first = store(upload);
+        StoredBlob second = store(upload);
+        Path file = track(first);
+
+        assertThat(second.getSha256()).isEqualTo(first.getSha256());
+        assertThat(second.getFilePath()).isEqualTo(first.getFilePath());
+        assertThat(refCount(first)).isEqualTo(2);
+        assertThat(file).exists();
+
+        // 한 번 해제: 아직 참조가 남아 있으므로 삭제 예약도 없고 파일도 그대로
+        blobStoreService.release(first.getSha256());
+        assertThat(refCount(first)).isEqualTo(1);
+        assertThat(pendingFor(first)).isEmpty();
+        fileDeletionReaper.reap();
+        assertThat(file).exists();
+
+        // 마지막 해제: 행이 지워지고 삭제가 예약되며, 대기열 처리 후 파일이 사라진다
+        blobStoreService.release(first.getSha256());
+        assertThat(blobRepository.findBySha256(first.getSha256())).isEmpty();
+        assertThat(pendingFor(first)).hasSize(1);
+        assertThat(file).exists();
+        fileDeletionReaper.reap();
+        assertThat(file).doesNotExist();
+        assertThat(pendingFor(first)).isEmpty();
+    }
+
+    @Test
+    void rolledBackSaveReleasesItsReference() {
+        MockMultipartFile upload = uniqueFile();
+        StoredBlob committed = store(upload);
+        Path file = track(committed);
+
+        // 같은 내용을 저장한 트랜잭션이 롤백되면 올린 참조만 되돌린다
+        StoredBlob rolledBack = storeAndRollBack(upload);
+        assertThat(rolledBack.getSha256()).isEqualTo(committed.getSha256());
+        assertThat(refCount(committed)).isEqualTo(1);
+        assertThat(pendingFor(committed)).isEmpty();
+        fileDeletionReaper.reap();
+        assertThat(file).exists();
+
+        blobStoreService.release(committed.getSha256());
+        fileDeletionReaper.reap();
+        assertThat(file).doesNotExist();
+    }
+
+    @Test
+    void rolledBackFirstSaveDeletesNewFile() {
+        StoredBlob rolledBack = storeAndRollBack(uniqueFile());
+        Path file = track(rolledBack);
+
+        // 처음 저장한 내용이면 행이 지워지고 파일은 삭제 대기열로 간다
+        assertThat(blobRepository.findBySha256(rolledBack.getSha256())).isEmpty();
+        assertThat(pendingFor(rolledBack)).hasSize(1);
+        fileDeletionReaper.reap();
+        assertThat(file).doesNotExist();
+    }
+
+    @Test
+    void releaseInRolledBackTransactionKeepsReference() {
+        StoredBlob blob = store(uniqueFile());
+        Path file = track(blob);
+
+        // 게시글 삭제가 롤백되면 해제도, 삭제 예약도 함께 되돌아간다
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            blobStoreService.release(blob.getSha256());
+            status.setRollbackOnly();
+        });
+        assertThat(refCount(blob)).isEqualTo(1);
+        assertThat(pendingFor(blob)).isEmpty();
+        fileDeletionReaper.reap();
+        assertThat(file).exists();
+
+        blobStoreService.release(blob.getSha256());
+        fileDeletionReaper.reap();
+        assertThat(file).doesNotExist();
+    }
+
+    // 게시판 서비스처럼 저장 트랜잭션 안에서 저장
+    private StoredBlob store(MockMultipartFile upload) {
+        return new TransactionTemplate(transactionManager).execute(status -> storeAll(upload));
+    }
+
+    private StoredBlob storeAndRollBack(MockMultipartFile upload) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            StoredBlob blob = storeAll(upload);
+            status.setRollbackOnly();
+            return blob;
+        });
+    }
+
+    private StoredBlob storeAll(MockMultipartFile upload) {
+        try {
+            return blobStoreService.storeAll(List.of(upload)).get(0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private int refCount(StoredBlob blob) {
+        return blobRepository.findBySha256(blob.getSha256()).orElseThrow().getRefCount();
+    }
+
+    private List<PendingFileDeletion> pendingFor(StoredBlob blob) {
+        return pendingFileDeletionRepository.findAll().stream()
+                .filter(deletion -> blob.getSha256().equals(deletion.getContentHash()))
+                .toList();
+    }
+
+    private Path track(StoredBlob blob) {
+        Path file = Paths.get(blob.getFilePath());
+        created.add(file);
+        return file;
+    }
+
+    private static MockMultipartFile uniqueFile() {
+        return new MockMultipartFile("files", "a.txt", "text/plain", UUID.randomUUID().toString().getBytes());
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.demo.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvReaderTest {
+
+    @Test
+    void readsPlainRows() throws IOException {
+        assertThat(readAll("title,author\n제목1,홍길동\n제목2,\n"))
+                .containsExactly(List.of("title", "author"), List.of("제목1", "홍길동"), List.of("제목2", ""));
+    }
+
+    @Test
+    void quotedFieldsKeepCommasAndEscapedQuotes() throws IOException {
+        assertThat(readAll("\"a,b\",\"say \"\"hi\"\"\",\"\"\n"))
+                .containsExactly(List.of("a,b", "say \"hi\"", ""));
+    }
+
+    @Test
+    void quotedFieldMayContainLineBreaks() throws IOException {
+        CsvReader csv = new CsvReader(new StringReader("title,content\r\n\"t1\",\"line1\r\nline2\nline3\"\r\nt2,c2\r\n"));
+
+        assertThat(csv.next()).containsExactly("title", "content");
+        assertThat(csv.getRecordLine()).isEqualTo(1);
+        assertThat(csv.next()).containsExactly("t1", "line1\r\nline2\nline3");
+        assertThat(csv.getRecordLine()).isEqualTo(2);
+        // 줄 번호는 필드 안 줄바꿈까지 센다
+        assertThat(csv.next()).containsExactly("t2", "c2");
+        assertThat(csv.getRecordLine()).isEqualTo(5);
+        assertThat(csv.next()).isNull();
+    }
+
+    @Test
+    void crlfAndBareCrEndRows() throws IOException {
+        assertThat(readAll("a,b\r\nc,d\re,f"))
+                .containsExactly(List.of("a", "b"), List.of("c", "d"), List.of("e", "f"));
+    }
+
+    @Test
+    void skipsLeadingBom() throws IOException {
+        assertThat(readAll("\uFEFF\"title\",content\nt,c\n"))
+                .containsExactly(List.of("title", "content"), List.of("t", "c"));
+        assertThat(readAll("\uFEFFtitle\n")).containsExactly(List.of("title"));
+    }
+
+    @Test
+    void bomIsOnlySkippedAtStart() throws IOException {
+        assertThat(readAll("a\n\uFEFFb\n")).containsExactly(List.of("a"), List.of("\uFEFFb"));
+    }
+
+    @Test
+    void skipsBlankLinesAndKeepsTrailingEmptyField() throws IOException {
+        assertThat(readAll("\n\na,b,\n\r\n\nc,,d\n\n"))
+                .containsExactly(List.of("a", "b", ""), List.of("c", "", "d"));
+    }
+
+    @Test
+    void emptyInputHasNoRows() throws IOException {
+        assertThat(readAll("")).isEmpty();
+        assertThat(readAll("\uFEFF")).isEmpty();
+    }
+
+    @Test
+    void unclosedQuoteReportsStartLine() throws IOException {
+        CsvReader csv = new CsvReader(new StringReader("title\nok\n\"broken\nstill open"));
+        csv.next();
+        csv.next();
+
+        assertThatThrownBy(csv::next)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("3번째 줄");
+    }
+
+    private static List<List<String>> readAll(String text) throws IOException {
+        CsvReader csv = new CsvReader(new StringReader(text));
+        List<List<String>> rows = new ArrayList<>();
+        List<String> row;
+        while ((row = csv.next()) != null) {
+            rows.add(row);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,251 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.Notice;
+import com.example.demo.entity.NoticeAttachment;
+import com.example.demo.repository.NoticeAttachmentRepository;
+import com.example.demo.repository.NoticeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.head;
+
+// 첨부파일 다운로드 (/notice/download/{id}) 의 Range / 조건부 요청 처리
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class FileTransferServiceTest {
+
+    // 100 바이트 (구간이 한 칸만 어긋나도 내용이 달라지도록 글자를 섞음)
+    private static final String CONTENT;
+
+    static {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            content.append((char) ('A' + (i * 7) % 26));
+        }
+        CONTENT = content.toString();
+    }
+
+    private static final String HASH = "3f1c0ffee";
+    private static final String LAST_MODIFIED = "Fri, 02 Jan 2026 03:04:05 GMT";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private NoticeRepository noticeRepository;
+
+    @Autowired
+    private NoticeAttachmentRepository attachmentRepository;
+
+    private Long hashedId;
+    private Long unhashedId;
+
+    @BeforeEach
+    void createAttachments() throws Exception {
+        Path file = Paths.get("target/test-downloads/range.txt");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, CONTENT, StandardCharsets.US_ASCII);
+        Files.setLastModifiedTime(file, FileTime.from(Instant.parse("2026-01-02T03:04:05Z")));
+
+        Notice notice = new Notice();
+        notice.setTitle("다운로드 테스트");
+        Long noticeId = noticeRepository.save(notice).getId();
+        hashedId = attachment(noticeId, file, HASH);
+        unhashedId = attachment(noticeId, file, null);
+    }
+
+    @Test
+    void withoutRangeSendsWholeFile() throws Exception {
+        MockHttpServletResponse response = download(hashedId, new HttpHeaders());
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"" + HASH + "\"");
+        assertThat(response.getContentLengthLong()).isEqualTo(100);
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void singleRanges() throws Exception {
+        assertPartial(range("bytes=0-9"), 0, 9);
+        assertPartial(range("bytes=90-"), 90, 99);
+        // 끝이 파일 크기를 넘으면 마지막 바이트까지
+        assertPartial(range("bytes=95-500"), 95, 99);
+        assertPartial(range("bytes=99-99"), 99, 99);
+    }
+
+    @Test
+    void suffixRanges() throws Exception {
+        assertPartial(range("bytes=-10"), 90, 99);
+        assertPartial(range("bytes=-1"), 99, 99);
+        // 파일보다 긴 접미 구간은 파일 전체
+        assertPartial(range("bytes=-500"), 0, 99);
+    }
+
+    @Test
+    void overlappingAndAdjacentRangesAreMerged() throws Exception {
+        assertPartial(range("bytes=0-9,5-14"), 0, 14);
+        assertPartial(range("bytes=10-19,0-9"), 0, 19);
+        assertPartial(range("bytes=-10,80-95"), 80, 99);
+        assertPartial(range("bytes=0-0,0-0"), 0, 0);
+    }
+
+    @Test
+    void multipleRangesAreSentAsMultipartByteranges() throws Exception {
+        // 순서가 뒤섞이고 일부 겹친 구간 → 정렬 / 병합 후 두 부분
+        MockHttpServletResponse response = download(hashedId, range("bytes=50-59,0-4,3-9"));
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        String contentType = response.getContentType();
+        assertThat(contentType).startsWith("multipart/byteranges; boundary=");
+        String boundary = contentType.substring(contentType.indexOf("boundary=") + "boundary=".length());
+
+        String expected = part(boundary, 0, 9) + part(boundary, 50, 59) + "\r\n--" + boundary + "--\r\n";
+        assertThat(response.getContentAsString()).isEqualTo(expected);
+        assertThat(response.getContentLengthLong()).isEqualTo(expected.length());
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isNull();
+    }
+
+    @Test
+    void unsatisfiableRangesAre416() throws Exception {
+        for (String header : new String[] {"bytes=100-", "bytes=100-200", "bytes=-0", "bytes=200-300,150-"}) {
+            MockHttpServletResponse response = download(hashedId, range(header));
+            assertThat(response.getStatus()).as(header).isEqualTo(416);
+            assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).as(header).isEqualTo("bytes */100");
+        }
+        // 만족 가능한 구간이 하나라도 있으면 그 구간만 보낸다
+        assertPartial(range("bytes=200-300,10-19"), 10, 19);
+    }
+
+    @Test
+    void malformedRangesAreIgnored() throws Exception {
+        for (String header : new String[] {"bytes=abc", "bytes=9-5", "items=0-9", "bytes=5"}) {
+            MockHttpServletResponse response = download(hashedId, range(header));
+            assertThat(response.getStatus()).as(header).isEqualTo(200);
+            assertThat(response.getContentAsString()).as(header).isEqualTo(CONTENT);
+        }
+    }
+
+    @Test
+    void ifRangeWithMatchingEtagSendsRange() throws Exception {
+        HttpHeaders headers = range("bytes=0-9");
+        headers.set(HttpHeaders.IF_RANGE, "\"" + HASH + "\"");
+        assertPartial(headers, 0, 9);
+    }
+
+    @Test
+    void ifRangeWithOtherEtagSendsWholeFile() throws Exception {
+        HttpHeaders headers = range("bytes=0-9");
+        headers.set(HttpHeaders.IF_RANGE, "\"changed\"");
+        MockHttpServletResponse response = download(hashedId, headers);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void ifRangeNeverMatchesWeakEtag() throws Exception {
+        // 해시가 없는 파일은 약한 ETag: 같은 값이라도 강한 비교라 전체 전송
+        String weak = download(unhashedId, new HttpHeaders()).getHeader(HttpHeaders.ETAG);
+        assertThat(weak).startsWith("W/\"");
+
+        HttpHeaders headers = range("bytes=0-9");
+        headers.set(HttpHeaders.IF_RANGE, weak);
+        MockHttpServletResponse response = download(unhashedId, headers);
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void ifRangeWithDate() throws Exception {
+        HttpHeaders same = range("bytes=0-9");
+        same.set(HttpHeaders.IF_RANGE, LAST_MODIFIED);
+        assertPartial(same, 0, 9);
+
+        HttpHeaders older = range("bytes=0-9");
+        older.set(HttpHeaders.IF_RANGE, "Thu, 01 Jan 2026 00:00:00 GMT");
+        assertThat(download(hashedId, older).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void ifNoneMatchIsNotModified() throws Exception {
+        HttpHeaders headers = range("bytes=0-9");
+        headers.set(HttpHeaders.IF_NONE_MATCH, "\"other\", \"" + HASH + "\"");
+        MockHttpServletResponse response = download(hashedId, headers);
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+
+        HttpHeaders modified = new HttpHeaders();
+        modified.set(HttpHeaders.IF_NONE_MATCH, "\"other\"");
+        assertThat(download(hashedId, modified).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void headWithRangeHasHeadersOnly() throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(head("/notice/download/{id}", hashedId)
+                .headers(range("bytes=10-19"))).andReturn().getResponse();
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 10-19/100");
+        assertThat(response.getContentLengthLong()).isEqualTo(10);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    private void assertPartial(HttpHeaders headers, int start, int end) throws Exception {
+        MockHttpServletResponse response = download(hashedId, headers);
+        String label = headers.getFirst(HttpHeaders.RANGE);
+
+        assertThat(response.getStatus()).as(label).isEqualTo(206);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).as(label)
+                .isEqualTo("bytes " + start + "-" + end + "/100");
+        assertThat(response.getContentLengthLong()).as(label).isEqualTo(end - start + 1);
+        assertThat(response.getContentAsString()).as(label).isEqualTo(CONTENT.substring(start, end + 1));
+    }
+
+    private MockHttpServletResponse download(Long attachmentId, HttpHeaders headers) throws Exception {
+        return mockMvc.perform(get("/notice/download/{id}", attachmentId).headers(headers))
+                .andReturn().getResponse();
+    }
+
+    private static HttpHeaders range(String value) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RANGE, value);
+        return headers;
+    }
+
+    private static String part(String boundary, int start, int end) {
+        return "\r\n--" + boundary + "\r\n"
+                + "Content-Type: text/plain\r\n"
+                + "Content-Range: bytes " + start + "-" + end + "/100\r\n\r\n"
+                + CONTENT.substring(start, end + 1);
+    }
+
+    private Long attachment(Long noticeId, Path file, String contentHash) {
+        NoticeAttachment attachment = new NoticeAttachment();
+        attachment.setNoticeId(noticeId);
+        attachment.setFileName("range.txt");
+        attachment.setFilePath(file.toString());
+        attachment.setFileSize(100L);
+        attachment.setFileType("text/plain");
+        attachment.setContentHash(contentHash);
+        return attachmentRepository.save(attachment).getId();
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.demo.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvertedIndexTest {
+
+    @Test
+    void longTokensAreTruncated() {
+        assertThat(InvertedIndex.tokenize("가".repeat(100_000) + " 짧은 ABC"))
+                .containsExactly("가".repeat(64), "짧은", "abc");
+    }
+
+    @Test
+    void snapshotWithVeryLongTokenRoundTrips() throws IOException {
+        // 3 바이트 글자 3만 개 = writeUTF 한도(65535 바이트) 초과
+        String longWord = "한".repeat(30_000) + "끝";
+        InvertedIndex index = new InvertedIndex();
+        index.put(1, "제목", "작성자", "앞 " + longWord + " 뒤", LocalDateTime.of(2026, 1, 1, 0, 0));
+        index.put(2, "다른 글", "작성자", "a".repeat(70_000), LocalDateTime.of(2026, 1, 2, 0, 0));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            index.writeTo(out);
+        }
+        InvertedIndex loaded = new InvertedIndex();
+        loaded.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertThat(loaded.size()).isEqualTo(2);
+        assertThat(loaded.match(longWord, InvertedIndex.ALL_FIELDS)).containsExactly(1L);
+        assertThat(loaded.match("한한한", InvertedIndex.ALL_FIELDS)).containsExactly(1L);
+        assertThat(loaded.match("뒤", InvertedIndex.ALL_FIELDS)).containsExactly(1L);
+        assertThat(loaded.match("aaaa", InvertedIndex.ALL_FIELDS)).containsExactly(2L);
+    }
+}
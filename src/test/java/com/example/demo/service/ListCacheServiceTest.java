@@ -0,0 +1,58 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.Notice;
+import com.example.demo.entity.VisitAttachment;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 캐시가 조회한 엔티티 객체를 요청 사이에 공유하지 않는지 확인
+class ListCacheServiceTest {
+
+    private final ListCacheService listCacheService = new ListCacheService(100, 60);
+
+    @Test
+    void cachedPagesHoldCopiesOfEntities() {
+        Notice loaded = notice(1L, "첫 글");
+        CursorPage<Notice> first = listCacheService.get("notice", List.of("page"),
+                () -> new CursorPage<>(List.of(loaded), "next", true));
+        assertThat(first.items()).containsExactly(loaded);
+
+        // 조회한 쪽에서 고쳐도 캐시에는 남지 않는다
+        loaded.setTitle("고친 제목");
+        CursorPage<Notice> second = listCacheService.get("notice", List.of("page"), () -> null);
+        assertThat(second.items()).hasSize(1);
+        assertThat(second.items().get(0)).isNotSameAs(loaded);
+        assertThat(second.items().get(0).getTitle()).isEqualTo("첫 글");
+        assertThat(second.nextCursor()).isEqualTo("next");
+        assertThat(second.hasNext()).isTrue();
+
+        // 적중할 때마다 새 사본
+        second.items().get(0).setTitle("또 고친 제목");
+        CursorPage<Notice> third = listCacheService.get("notice", List.of("page"), () -> null);
+        assertThat(third.items().get(0)).isNotSameAs(second.items().get(0));
+        assertThat(third.items().get(0).getTitle()).isEqualTo("첫 글");
+    }
+
+    @Test
+    void cachedMapValuesAreCopied() {
+        VisitAttachment attachment = new VisitAttachment();
+        attachment.setId(7L);
+        attachment.setVisitId(3L);
+        attachment.setFileName("a.png");
+        listCacheService.get("visit", List.of("representatives"), () -> Map.of(3L, attachment));
+
+        Map<Long, VisitAttachment> cached = listCacheService.get("visit", List.of("representatives"), () -> null);
+        assertThat(cached.get(3L)).isNotSameAs(attachment).isEqualTo(attachment);
+    }
+
+    private static Notice notice(Long id, String title) {
+        Notice notice = new Notice();
+        notice.setId(id);
+        notice.setTitle(title);
+        return notice;
+    }
+}
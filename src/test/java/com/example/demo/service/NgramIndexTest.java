@@ -0,0 +1,192 @@
+package com.example.demo.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NgramIndexTest {
+
+    @Test
+    void postingListKeepsOrderWithOutOfOrderAdds() {
+        NgramIndex.PostingList list = new NgramIndex.PostingList();
+        list.add(10);
+        list.add(20);
+        list.add(300);
+        // 끝이 아닌 위치 (추가분으로 모임)
+        list.add(15);
+        list.add(5);
+        list.add(250);
+
+        assertThat(list.size()).isEqualTo(6);
+        assertThat(list.toArray()).containsExactly(5, 10, 15, 20, 250, 300);
+        // 이미 있는 id 는 무시
+        list.add(15);
+        assertThat(list.toArray()).containsExactly(5, 10, 15, 20, 250, 300);
+    }
+
+    @Test
+    void postingListRemovesFromEncodedAndAddedIds() {
+        NgramIndex.PostingList list = new NgramIndex.PostingList();
+        for (int id : new int[] {10, 20, 30, 40}) {
+            list.add(id);
+        }
+        list.add(25);
+
+        assertThat(list.remove(20)).isTrue();   // 압축 목록 → 삭제 표시
+        assertThat(list.remove(25)).isTrue();   // 추가분에서 바로 제거
+        assertThat(list.remove(20)).isFalse();  // 이미 지움
+        assertThat(list.remove(99)).isFalse();  // 마지막 id 보다 큼
+        assertThat(list.size()).isEqualTo(3);
+        assertThat(list.toArray()).containsExactly(10, 30, 40);
+
+        // 지웠던 id 다시 추가
+        list.add(20);
+        assertThat(list.toArray()).containsExactly(10, 20, 30, 40);
+        assertThat(list.remove(10)).isTrue();
+        assertThat(list.remove(20)).isTrue();
+        assertThat(list.remove(30)).isTrue();
+        assertThat(list.remove(40)).isTrue();
+        assertThat(list.size()).isZero();
+        assertThat(list.toArray()).isEmpty();
+    }
+
+    @Test
+    void postingListIntersectsWithPendingChanges() {
+        NgramIndex.PostingList list = new NgramIndex.PostingList();
+        for (int id = 2; id <= 20; id += 2) {
+            list.add(id);
+        }
+        assertThat(list.intersect(new int[] {1, 2, 3, 4, 19, 20, 21})).containsExactly(2, 4, 20);
+
+        list.add(3);
+        list.remove(4);
+        assertThat(list.intersect(new int[] {1, 2, 3, 4, 19, 20, 21})).containsExactly(2, 3, 20);
+        assertThat(list.intersect(new int[] {})).isEmpty();
+    }
+
+    @Test
+    void postingListMatchesSortedSetUnderRandomChanges() {
+        // 압축 / 재압축이 여러 번 일어나도록 넣고 빼며, varint 여러 바이트가 되는 큰 id 도 섞는다
+        Random random = new Random(11);
+        NgramIndex.PostingList list = new NgramIndex.PostingList();
+        TreeSet<Integer> expected = new TreeSet<>();
+
+        for (int step = 0; step < 20_000; step++) {
+            int bound = random.nextInt(10) == 0 ? 1 << 28 : 5_000;
+            int id = random.nextInt(bound);
+            if (expected.contains(id)) {
+                assertThat(list.remove(id)).isTrue();
+                expected.remove(id);
+            } else if (random.nextInt(3) > 0) {
+                list.add(id);
+                expected.add(id);
+            }
+
+            if (step % 500 == 0) {
+                int[] all = expected.stream().mapToInt(Integer::intValue).toArray();
+                assertThat(list.size()).isEqualTo(expected.size());
+                assertThat(list.toArray()).containsExactly(all);
+
+                int[] candidates = random.ints(200, 0, 5_000).sorted().distinct().toArray();
+                int[] both = Arrays.stream(candidates).filter(expected::contains).toArray();
+                assertThat(list.intersect(candidates)).containsExactly(both);
+            }
+        }
+    }
+
+    @Test
+    void searchesSubstringsAcrossGramBoundaries() {
+        NgramIndex index = new NgramIndex();
+        index.put(1, "교통안전 캠페인");
+        index.put(2, "환경 교통");
+        index.put(3, "Safety First");
+        index.put(4, "ab xb bc");
+        index.put(5, "aaa");
+
+        assertThat(index.search("교통")).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.search("통안")).containsExactly(1L);      // 중간
+        assertThat(index.search("교")).containsExactlyInAnyOrder(1L, 2L);   // 한 글자
+        assertThat(index.search("인")).containsExactly(1L);        // 마지막 글자
+        assertThat(index.search("교통안전 캠페인")).containsExactly(1L);   // 전체 (공백 포함)
+        assertThat(index.search("교통안전 캠페인!")).isEmpty();   // 원문보다 긴 검색어
+        assertThat(index.search("안전 캠")).containsExactly(1L);   // 공백을 걸친 조각
+        assertThat(index.search("SAFETY f")).containsExactly(3L);  // 대소문자 무시
+        // 조각(ab, bc)은 모두 있지만 이어져 있지 않음 → 원문 확인에서 걸러진다
+        assertThat(index.search("abc")).isEmpty();
+        assertThat(index.search("aa")).containsExactly(5L);
+        assertThat(index.search("aaaa")).isEmpty();
+        assertThat(index.search("")).isEmpty();
+        assertThat(index.search("없음")).isEmpty();
+    }
+
+    @Test
+    void updateAndRemoveReplacePostings() {
+        NgramIndex index = new NgramIndex();
+        index.put(7, "교통 안내");
+        index.put(3, "교통 공지");
+        index.put(7, "환경 안내");
+
+        assertThat(index.search("교통")).containsExactly(3L);
+        assertThat(index.search("환경")).containsExactly(7L);
+        assertThat(index.search("안내")).containsExactly(7L);
+
+        index.remove(7);
+        index.remove(7);
+        assertThat(index.search("안내")).isEmpty();
+        assertThat(index.size()).isEqualTo(1);
+
+        index.put(3, null);
+        assertThat(index.search("교통")).isEmpty();
+    }
+
+    @Test
+    void matchesBruteForceUnderRandomChanges() {
+        // 작은 글자 집합으로 조각이 많이 겹치게 해서 삭제 표시 / 추가분 / 재압축을 모두 거치게 한다
+        Random random = new Random(3);
+        NgramIndex index = new NgramIndex();
+        Map<Long, String> docs = new HashMap<>();
+        String alphabet = "abcAB가나";
+
+        for (int step = 0; step < 6_000; step++) {
+            long id = random.nextInt(400);
+            if (random.nextInt(4) == 0) {
+                index.remove(id);
+                docs.remove(id);
+            } else {
+                String text = randomText(random, alphabet, 1 + random.nextInt(8));
+                index.put(id, text);
+                docs.put(id, text.toLowerCase());
+            }
+
+            if (step % 200 == 0) {
+                for (int q = 0; q < 20; q++) {
+                    String query = randomText(random, alphabet, 1 + random.nextInt(3));
+                    Set<Long> expected = new HashSet<>();
+                    docs.forEach((docId, text) -> {
+                        if (text.contains(query.toLowerCase())) {
+                            expected.add(docId);
+                        }
+                    });
+                    assertThat(index.search(query)).as(query).isEqualTo(expected);
+                }
+                assertThat(index.size()).isEqualTo(docs.size());
+            }
+        }
+    }
+
+    private static String randomText(Random random, String alphabet, int length) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return text.toString();
+    }
+}
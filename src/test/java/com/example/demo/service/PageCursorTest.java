@@ -0,0 +1,50 @@
+package com.example.demo.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PageCursorTest {
+
+    @Test
+    void roundTripsThroughToken() {
+        PageCursor cursor = new PageCursor(true, LocalDateTime.of(2026, 3, 1, 12, 30, 5, 123_456_000), 42);
+        assertThat(PageCursor.decode(cursor.encode())).isEqualTo(cursor);
+
+        // 초 단위가 0 이면 LocalDateTime.toString 이 초를 생략한다
+        PageCursor wholeMinute = new PageCursor(false, LocalDateTime.of(2026, 3, 1, 12, 30), 7);
+        assertThat(PageCursor.decode(wholeMinute.encode())).isEqualTo(wholeMinute);
+    }
+
+    @Test
+    void blankTokenIsFirstPage() {
+        assertThat(PageCursor.decode(null)).isNull();
+        assertThat(PageCursor.decode("")).isNull();
+        assertThat(PageCursor.decode("  ")).isNull();
+    }
+
+    @Test
+    void rejectsMalformedTokens() {
+        for (String token : new String[] {
+                "!!!",                                  // base64url 이 아님
+                encode("garbage"),                      // 구분자 없음
+                encode("1|2026-03-01T12:30"),           // ID 없음
+                encode("0|not-a-date|5"),
+                encode("0|2026-03-01T12:30|abc"),
+        }) {
+            assertThatThrownBy(() -> PageCursor.decode(token))
+                    .as(token)
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("잘못된 페이지 커서입니다.");
+        }
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
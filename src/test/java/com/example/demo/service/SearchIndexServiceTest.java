@@ -0,0 +1,132 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.Notice;
+import com.example.demo.repository.BoardSpecifications;
+import com.example.demo.repository.NoticeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 목록 키워드 조건이 일치 건수와 상관없이 색인 결과(대소문자 무시 부분 문자열)와 같은지 확인
+@SpringBootTest
+@ActiveProfiles("test")
+class SearchIndexServiceTest {
+
+    // 다른 테스트가 시퀀스로 만드는 글과 겹치지 않는 ID
+    private static final long FIRST_ID = 5_000_000;
+
+    @Autowired
+    private SearchIndexService searchIndexService;
+
+    @Autowired
+    private NoticeRepository noticeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Row> rows = new ArrayList<>();
+    private long nextId = FIRST_ID;
+
+    @AfterEach
+    void deleteRows() {
+        jdbcTemplate.update("DELETE FROM notice WHERE id >= ?", FIRST_ID);
+        rows.forEach(row -> searchIndexService.removeAfterCommit(BoardType.NOTICE, row.id()));
+    }
+
+    @Test
+    void scatteredMatchesJustBelowAndAboveThreshold() {
+        // 일치 / 불일치가 번갈아 나와 ID 가 모두 떨어져 있는 경우 (IN 목록만)
+        insert("zqa", 999, 1);
+        insert("zqb", 1000, 1);
+        insert("zqc", 1001, 1);
+        insert("zqd", 2500, 1);
+        searchIndexService.build();
+
+        for (String keyword : List.of("zqa", "zqb", "zqc", "zqd")) {
+            assertSameAsIndex(keyword);
+        }
+    }
+
+    @Test
+    void consecutiveMatchesJustBelowAndAboveThreshold() {
+        // 연속 7건 + 불일치 1건 (BETWEEN 과 IN 목록이 섞임)
+        insert("zqe", 999, 7);
+        insert("zqf", 1001, 7);
+        // 모두 연속
+        insert("zqg", 1500, 1500);
+        searchIndexService.build();
+
+        for (String keyword : List.of("zqe", "zqf", "zqg")) {
+            assertSameAsIndex(keyword);
+        }
+    }
+
+    private void assertSameAsIndex(String keyword) {
+        Set<Long> expected = expected(keyword, null);
+        // 대문자 제목도 일치해야 한다 (LIKE 로 바뀌면 빠지는 글)
+        assertThat(rows.stream().filter(row -> row.title().startsWith(keyword.toUpperCase())))
+                .as(keyword).isNotEmpty()
+                .allMatch(row -> expected.contains(row.id()));
+
+        for (String searchType : List.of("제목", "전체")) {
+            Specification<Notice> filter = searchIndexService.keywordFilter(BoardType.NOTICE, searchType, keyword);
+            assertThat(ids(filter)).as("%s %s", searchType, keyword).isEqualTo(expected);
+
+            // 다른 조건과 함께 쓴 경우
+            Specification<Notice> closed = BoardSpecifications.<Notice>filters(null, "게시 종료", null, null)
+                    .and(filter);
+            assertThat(ids(closed)).as("%s %s 게시 종료", searchType, keyword)
+                    .isEqualTo(expected(keyword, "게시 종료"));
+        }
+    }
+
+    private Set<Long> ids(Specification<Notice> spec) {
+        return noticeRepository.findAll(spec).stream().map(Notice::getId).collect(Collectors.toSet());
+    }
+
+    private Set<Long> expected(String keyword, String status) {
+        return rows.stream()
+                .filter(row -> row.title().toLowerCase().contains(keyword))
+                .filter(row -> status == null || status.equals(row.status()))
+                .map(Row::id)
+                .collect(Collectors.toSet());
+    }
+
+    // matches 건을 runLength 건씩 넣고 사이마다 일치하지 않는 글 하나를 끼운다
+    private void insert(String keyword, int matches, int runLength) {
+        List<Object[]> batch = new ArrayList<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int i = 0; i < matches; i++) {
+            String title = i % 10 == 0 ? keyword.toUpperCase() + " 공지 " + i : "공지 " + keyword + " " + i;
+            batch.add(row(title, now));
+            if ((i + 1) % runLength == 0) {
+                batch.add(row("기타 " + i, now));
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO notice (id, title, author, status, pinned, view_count, created_at,"
+                + " updated_at, attachment_count) VALUES (?, ?, '관리자', ?, false, 0, ?, ?, 0)", batch);
+    }
+
+    private Object[] row(String title, Timestamp now) {
+        long id = nextId++;
+        String status = id % 3 == 0 ? "게시 종료" : "게시 중";
+        rows.add(new Row(id, title, status));
+        return new Object[]{id, title, status, now, now};
+    }
+
+    private record Row(long id, String title, String status) {
+    }
+}
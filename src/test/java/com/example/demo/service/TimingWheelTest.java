@@ -0,0 +1,153 @@
+package com.example.demo.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimingWheelTest {
+
+    // 아래 휠 한 바퀴 80ms, 두 번째 휠 640ms, 세 번째 휠 5120ms
+    private static final long TICK = 10;
+    private static final int SIZE = 8;
+
+    @Test
+    void firesWithinFirstLevel() {
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, SIZE, 0);
+        assertThat(wheel.add(30, "a")).isTrue();
+        assertThat(wheel.add(70, "b")).isTrue();
+
+        assertThat(wheel.advance(29)).isEmpty();
+        assertThat(wheel.advance(30)).containsExactly("a");
+        assertThat(wheel.advance(69)).isEmpty();
+        assertThat(wheel.advance(70)).containsExactly("b");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void rejectsTimersInCurrentTick() {
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, SIZE, 100);
+        assertThat(wheel.add(90, "past")).isFalse();
+        assertThat(wheel.add(109, "same tick")).isFalse();
+        assertThat(wheel.add(110, "next tick")).isTrue();
+        assertThat(wheel.size()).isEqualTo(1);
+    }
+
+    @Test
+    void cascadesDelaysPastFirstLevel() {
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, SIZE, 0);
+        wheel.add(200, "level2");
+        wheel.add(3000, "level3");
+        wheel.add(6000, "level4");
+        assertThat(wheel.size()).isEqualTo(3);
+
+        assertThat(wheel.advance(199)).isEmpty();
+        assertThat(wheel.advance(200)).containsExactly("level2");
+        assertThat(wheel.advance(2999)).isEmpty();
+        assertThat(wheel.advance(3000)).containsExactly("level3");
+        assertThat(wheel.advance(5999)).isEmpty();
+        assertThat(wheel.advance(6000)).containsExactly("level4");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void timersExactlyOnBucketBoundaries() {
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, SIZE, 0);
+        // 첫 칸 / 아래 휠 마지막 칸 / 아래 휠 범위 끝 (상위 휠 첫 칸) / 두 번째 휠 범위 끝
+        wheel.add(10, "first");
+        wheel.add(70, "last");
+        wheel.add(80, "interval");
+        wheel.add(640, "level2 interval");
+
+        assertThat(wheel.advance(10)).containsExactly("first");
+        assertThat(wheel.advance(79)).containsExactly("last");
+        assertThat(wheel.advance(80)).containsExactly("interval");
+        assertThat(wheel.advance(639)).isEmpty();
+        assertThat(wheel.advance(640)).containsExactly("level2 interval");
+    }
+
+    @Test
+    void firesAtTickGranularity() {
+        // 버킷 단위로 만료되므로 틱 중간 시각은 그 틱 시작에 나온다 (PublicationScheduler 는 다음 틱으로 올려 넣음)
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, SIZE, 0);
+        wheel.add(35, "mid tick");
+        wheel.add(205, "mid tick level2");
+
+        assertThat(wheel.advance(29)).isEmpty();
+        assertThat(wheel.advance(30)).containsExactly("mid tick");
+        assertThat(wheel.advance(199)).isEmpty();
+        assertThat(wheel.advance(200)).containsExactly("mid tick level2");
+    }
+
+    @Test
+    void rescheduledIdFiresAtEachTime() {
+        // 취소는 없다: 게시 기간을 바꾸면 새 타이머가 더해지고, 이전 타이머도 울리지만 상태는 DB 값으로 다시 계산되므로 무해
+        TimingWheel<Long> wheel = new TimingWheel<>(TICK, SIZE, 0);
+        wheel.add(500, 1L);
+        wheel.add(50, 1L);
+        wheel.add(50, 2L);
+        assertThat(wheel.size()).isEqualTo(3);
+
+        assertThat(wheel.advance(50)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advance(500)).containsExactly(1L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void bucketIsReusedOnNextRotation() {
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, SIZE, 0);
+        wheel.add(30, "first round");
+        assertThat(wheel.advance(30)).containsExactly("first round");
+
+        // 같은 칸 (30 / 10 % 8 == 110 / 10 % 8)
+        wheel.add(110, "second round");
+        assertThat(wheel.advance(109)).isEmpty();
+        assertThat(wheel.advance(110)).containsExactly("second round");
+    }
+
+    @Test
+    void matchesBruteForceSchedule() {
+        Random random = new Random(42);
+        long start = 1_000_003;
+        TimingWheel<Integer> wheel = new TimingWheel<>(TICK, SIZE, start);
+        long now = start;
+        Map<Integer, Long> pending = new HashMap<>();
+        int nextId = 0;
+
+        for (int step = 0; step < 2000; step++) {
+            for (int i = random.nextInt(4); i > 0; i--) {
+                // 대부분 아래 휠 범위 안, 일부는 세 번째 휠 너머
+                long delay = random.nextInt(10) == 0 ? random.nextInt(20_000) : random.nextInt(100);
+                long expiration = now + delay;
+                boolean added = wheel.add(expiration, nextId);
+                assertThat(added).isEqualTo(expiration >= now - now % TICK + TICK);
+                if (added) {
+                    pending.put(nextId, expiration);
+                }
+                nextId++;
+            }
+
+            now += random.nextInt(3) == 0 ? random.nextInt(400) : random.nextInt(15);
+            List<Integer> expected = new ArrayList<>();
+            for (Map.Entry<Integer, Long> entry : pending.entrySet()) {
+                // 만료 시각이 속한 틱의 시작에 나온다
+                if (entry.getValue() - entry.getValue() % TICK <= now) {
+                    expected.add(entry.getKey());
+                }
+            }
+            assertThat(wheel.advance(now)).containsExactlyInAnyOrderElementsOf(expected);
+            expected.forEach(pending::remove);
+            assertThat(wheel.size()).isEqualTo(pending.size());
+        }
+
+        now += 100_000;
+        assertThat(wheel.advance(now)).containsExactlyInAnyOrderElementsOf(pending.keySet());
+        assertThat(wheel.size()).isZero();
+    }
+}
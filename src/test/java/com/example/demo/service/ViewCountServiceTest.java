@@ -0,0 +1,91 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.Notice;
+import com.example.demo.repository.NoticeRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ViewCountServiceTest {
+
+    private static final int THREADS = 8;
+    private static final int VIEWS_PER_THREAD = 5000;
+
+    @Autowired
+    private ViewCountService viewCountService;
+
+    @Autowired
+    private NoticeService noticeService;
+
+    @Autowired
+    private NoticeRepository noticeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void concurrentIncreasesAreFlushedExactly() throws Exception {
+        Notice notice = new Notice();
+        notice.setTitle("조회수 테스트");
+        notice.setContent("내용");
+        Long id = noticeRepository.save(notice).getId();
+        int total = THREADS * VIEWS_PER_THREAD;
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS + 1);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            AtomicBoolean viewing = new AtomicBoolean(true);
+            List<Future<?>> viewers = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                viewers.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < VIEWS_PER_THREAD; i++) {
+                        viewCountService.increase(BoardType.NOTICE, id);
+                    }
+                    return null;
+                }));
+            }
+            // 조회 중에도 계속 DB 에 반영 (반영과 동시에 들어온 증가분이 유실되지 않아야 함)
+            Future<?> flusher = pool.submit(() -> {
+                start.await();
+                while (viewing.get()) {
+                    viewCountService.flush();
+                }
+                return null;
+            });
+
+            start.countDown();
+            for (Future<?> viewer : viewers) {
+                viewer.get();
+            }
+            viewing.set(false);
+            flusher.get();
+        } finally {
+            pool.shutdownNow();
+        }
+
+        // 반영 전: 화면 조회수 = DB 값 + 남은 증가분
+        assertThat(noticeService.getViewCount(noticeRepository.findById(id).orElseThrow())).isEqualTo(total);
+
+        viewCountService.flush();
+        assertThat(jdbcTemplate.queryForObject("SELECT view_count FROM notice WHERE id = ?", Integer.class, id))
+                .isEqualTo(total);
+        assertThat(viewCountService.pendingCount(BoardType.NOTICE, id)).isZero();
+        // 반영 후 2차 캐시에 이전 조회수가 남아 있지 않아야 함
+        assertThat(noticeService.getViewCount(noticeRepository.findById(id).orElseThrow())).isEqualTo(total);
+    }
+}